@@ -0,0 +1,102 @@
+#!/usr/bin/env bash
+#
+# Mide el tiempo de arranque y el tiempo hasta la primera respuesta de PedidosApplication en tres
+# modos: jar normal, Spring AOT + CDS (perfil de Maven arranque) y AOT + CDS con inicializacion
+# diferida de beans.
+#
+#   scripts/medir-arranque.sh [repeticiones]
+#
+# Sin DB_URL usa una base H2 en memoria en modo MySQL (el jar de H2 se toma del repositorio local
+# de Maven y se agrega al classpath); con DB_URL, DB_USER y DB_PASSWORD usa esa base de datos.
+# Por cada corrida imprime el "Started ... in X seconds" de Spring Boot y el tiempo desde que se
+# lanza la JVM hasta la primera respuesta HTTP de /api/v1/clientes?limit=1; al final, la mediana
+# de cada modo.
+
+set -euo pipefail
+
+REPETICIONES=${1:-5}
+PUERTO=${PORT:-18080}
+RAIZ=$(cd "$(dirname "$0")/.." && pwd)
+SALIDA="$RAIZ/target/medicion"
+H2_JAR=${H2_JAR:-$HOME/.m2/repository/com/h2database/h2/2.2.224/h2-2.2.224.jar}
+MAIN=com.ejercicio.pedidos.PedidosApplication
+
+cd "$RAIZ"
+mkdir -p "$SALIDA"
+
+echo "Construyendo el jar normal y el artefacto del perfil arranque..."
+mvn -B -q -DskipTests package
+cp target/pedidos-*.jar "$SALIDA/pedidos-normal.jar"
+mvn -B -q -P arranque -DskipTests package
+JAR_CDS=$(ls target/cds/pedidos-*.jar)
+
+ARGS=(--server.port="$PUERTO")
+if [[ -z "${DB_URL:-}" ]]; then
+	ARGS+=(--spring.datasource.url="jdbc:h2:mem:pedidos;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+		--spring.datasource.username=sa --spring.datasource.password=
+		--spring.datasource.driver-class-name=org.h2.Driver)
+	EXTRA_CP=":$H2_JAR"
+	LOADER_PATH=(-Dloader.path="$H2_JAR")
+else
+	ARGS+=(--spring.datasource.url="$DB_URL" --spring.datasource.username="${DB_USER:-}"
+		--spring.datasource.password="${DB_PASSWORD:-}")
+	EXTRA_CP=""
+	LOADER_PATH=()
+fi
+
+# El jar normal se lanza con PropertiesLauncher para poder agregar el driver con loader.path;
+# el extraido, con el classpath del archivo CDS (el jar y su directorio lib) mas los agregados
+declare -A COMANDOS=(
+	[normal]="java ${LOADER_PATH[*]:-} -cp $SALIDA/pedidos-normal.jar org.springframework.boot.loader.launch.PropertiesLauncher"
+	[aot-cds]="java -XX:SharedArchiveFile=$RAIZ/target/cds/pedidos.jsa -Dspring.aot.enabled=true -cp $JAR_CDS$EXTRA_CP $MAIN"
+	[aot-cds-lazy]="java -XX:SharedArchiveFile=$RAIZ/target/cds/pedidos.jsa -Dspring.aot.enabled=true -cp $JAR_CDS$EXTRA_CP $MAIN --spring.main.lazy-initialization=true"
+)
+MODOS=(normal aot-cds aot-cds-lazy)
+
+milisegundos() {
+	echo $(($(date +%s%N) / 1000000))
+}
+
+mediana() {
+	sort -n | awk '{v[NR] = $1} END {print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2}'
+}
+
+medir() {
+	local modo=$1 corrida=$2 log="$SALIDA/$1-$2.log"
+	local inicio pid codigo primera arranque
+	inicio=$(milisegundos)
+	# shellcheck disable=SC2086
+	${COMANDOS[$modo]} "${ARGS[@]}" > "$log" 2>&1 &
+	pid=$!
+	codigo=000
+	while [[ "$codigo" == 000 ]]; do
+		if ! kill -0 "$pid" 2> /dev/null; then
+			echo "El modo $modo termino sin responder; ver $log" >&2
+			exit 1
+		fi
+		sleep 0.02
+		codigo=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PUERTO/api/v1/clientes?limit=1" || true)
+	done
+	primera=$(($(milisegundos) - inicio))
+	kill "$pid"
+	wait "$pid" 2> /dev/null || true
+	arranque=$(grep -o 'Started PedidosApplication in [0-9.]*' "$log" | grep -o '[0-9.]*$')
+	echo "$modo $corrida arranque=${arranque}s primera-respuesta=${primera}ms (HTTP $codigo)"
+	echo "$arranque" >> "$SALIDA/$modo.arranque"
+	echo "$primera" >> "$SALIDA/$modo.primera"
+}
+
+for modo in "${MODOS[@]}"; do
+	rm -f "$SALIDA/$modo.arranque" "$SALIDA/$modo.primera"
+done
+for corrida in $(seq 1 "$REPETICIONES"); do
+	for modo in "${MODOS[@]}"; do
+		medir "$modo" "$corrida"
+	done
+done
+
+echo
+printf '%-14s %14s %22s\n' modo arranque primera-respuesta
+for modo in "${MODOS[@]}"; do
+	printf '%-14s %13ss %20sms\n' "$modo" "$(mediana < "$SALIDA/$modo.arranque")" "$(mediana < "$SALIDA/$modo.primera")"
+done
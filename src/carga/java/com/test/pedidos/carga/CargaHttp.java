@@ -0,0 +1,320 @@
+package com.test.pedidos.carga;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.pedidos.LatenciaDataSource;
+
+/**
+ * Prueba de carga HTTP de la API con modelo abierto: las peticiones llegan a una tasa fija
+ * (llegadas de Poisson) sin esperar a que terminen las anteriores, como los clientes reales.
+ *
+ * <p>Arranca {@code PedidosApplication} sobre la base H2 de las pruebas, carga datos sinteticos y
+ * envia una mezcla configurable de llamadas a {@code /api/v1/pedidos} y {@code /api/v1/clientes}:
+ * <ul>
+ *   <li>La latencia se mide desde el instante programado de cada llegada, no desde el envio, de
+ *   modo que la espera de las peticiones atrasadas tambien cuenta (sin omision coordinada)</li>
+ *   <li>Las respuestas 4xx/5xx, los errores de conexion y los timeouts cuentan como errores; si
+ *   hay mas de {@code max-pendientes} peticiones en curso, las nuevas se descartan como errores</li>
+ *   <li>El resultado (throughput, p50/p95/p99/p999 y errores por endpoint) se escribe en JSON</li>
+ * </ul>
+ * Se ejecuta con {@code mvn -P carga-http verify}; los argumentos van en {@code carga.args}
+ * ({@code --tasa}, {@code --duracion}, {@code --calentamiento}, {@code --mezcla}, {@code --clientes},
+ * {@code --pedidos}, {@code --latencia-sql}, {@code --timeout}, {@code --max-pendientes},
+ * {@code --semilla}, {@code --salida}). Los argumentos {@code --spring.*} y {@code --pedidos.*} se
+ * pasan a la aplicacion, p. ej. para comparar con {@code --pedidos.modelo-lectura.habilitado=true}.
+ */
+public final class CargaHttp {
+
+	private static final String MEZCLA = "pedidos.lista=20,pedidos.id=20,pedidos.cliente=10,pedidos.email=10,"
+			+ "pedidos.fecha=10,pedidos.alta=5,clientes.lista=5,clientes.id=20";
+
+	private final Map<String, String> opciones;
+	private final List<String> argumentosAplicacion;
+
+	private CargaHttp(Map<String, String> opciones, List<String> argumentosAplicacion) {
+		this.opciones = opciones;
+		this.argumentosAplicacion = argumentosAplicacion;
+	}
+
+	public static void main(String[] args) throws Exception {
+		// Devtools reiniciaria la aplicacion volviendo a invocar este main con los argumentos de Spring
+		System.setProperty("spring.devtools.restart.enabled", "false");
+		Map<String, String> opciones = new LinkedHashMap<>();
+		opciones.put("tasa", "200");
+		opciones.put("duracion", "30");
+		opciones.put("calentamiento", "5");
+		opciones.put("mezcla", MEZCLA);
+		opciones.put("clientes", "1000");
+		opciones.put("pedidos", "50000");
+		opciones.put("latencia-sql", "0");
+		opciones.put("timeout", "10");
+		opciones.put("max-pendientes", "5000");
+		opciones.put("semilla", "42");
+		opciones.put("salida", "target/carga-result.json");
+		List<String> argumentosAplicacion = new ArrayList<>();
+		for (String arg : args) {
+			if (arg.startsWith("--spring.") || arg.startsWith("--pedidos.")) {
+				argumentosAplicacion.add(arg);
+			} else if (arg.startsWith("--") && arg.contains("=")) {
+				String clave = arg.substring(2, arg.indexOf('='));
+				if (!opciones.containsKey(clave)) {
+					throw new IllegalArgumentException("Argumento desconocido: " + arg);
+				}
+				opciones.put(clave, arg.substring(arg.indexOf('=') + 1));
+			} else if (!arg.isBlank()) {
+				throw new IllegalArgumentException("Argumento no valido: " + arg);
+			}
+		}
+		new CargaHttp(opciones, argumentosAplicacion).ejecutar();
+		System.exit(0);
+	}
+
+	private void ejecutar() throws Exception {
+		int clientes = entero("clientes");
+		int pedidos = entero("pedidos");
+		List<String> argumentos = new ArrayList<>(List.of("--server.port=0",
+				"--server.tomcat.max-connections=20000",
+				"--carga.latencia-sql=" + entero("latencia-sql"),
+				"--logging.level.com.ejercicio.pedidos=WARN"));
+		argumentos.addAll(argumentosAplicacion);
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PedidosApplication.class,
+				LatenciaConfig.class).run(argumentos.toArray(String[]::new))) {
+			DatosCarga.cargar(new JdbcTemplate(context.getBean(DataSource.class)), clientes, pedidos);
+			int puerto = ((WebServerApplicationContext) context).getWebServer().getPort();
+			Map<Operacion, Registro> registros = generarCarga("http://localhost:" + puerto + "/api/v1", clientes,
+					pedidos);
+			escribir(registros);
+		}
+	}
+
+	private Map<Operacion, Registro> generarCarga(String base, int clientes, int pedidos) throws InterruptedException {
+		Map<Operacion, Integer> mezcla = mezcla(opciones.get("mezcla"));
+		int pesoTotal = mezcla.values().stream().mapToInt(Integer::intValue).sum();
+		double tasa = Double.parseDouble(opciones.get("tasa"));
+		Duration timeout = Duration.ofSeconds(entero("timeout"));
+		int maxPendientes = entero("max-pendientes");
+		Random random = new Random(Long.parseLong(opciones.get("semilla")));
+		Map<Operacion, Registro> registros = new EnumMap<>(Operacion.class);
+		mezcla.keySet().forEach(operacion -> registros.put(operacion, new Registro()));
+
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		AtomicInteger pendientes = new AtomicInteger();
+		long inicio = System.nanoTime();
+		long inicioMedicion = inicio + TimeUnit.SECONDS.toNanos(entero("calentamiento"));
+		long fin = inicioMedicion + TimeUnit.SECONDS.toNanos(entero("duracion"));
+		double programado = inicio;
+		while (true) {
+			programado += -Math.log(1 - random.nextDouble()) / tasa * 1_000_000_000L;
+			long llegada = (long) programado;
+			if (llegada >= fin) {
+				break;
+			}
+			Operacion operacion = elegir(mezcla, pesoTotal, random);
+			HttpRequest request = operacion.crear(base, random, clientes, pedidos, timeout);
+			long espera = llegada - System.nanoTime();
+			if (espera > 0) {
+				LockSupport.parkNanos(espera);
+			}
+			Registro registro = llegada >= inicioMedicion ? registros.get(operacion) : null;
+			if (pendientes.get() >= maxPendientes) {
+				if (registro != null) {
+					registro.error("descartada");
+				}
+				continue;
+			}
+			pendientes.incrementAndGet();
+			client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+				long latencia = System.nanoTime() - llegada;
+				pendientes.decrementAndGet();
+				if (registro == null) {
+					return;
+				}
+				if (error != null) {
+					registro.error(error.getClass().getSimpleName());
+				} else {
+					registro.respuesta(response.statusCode(), latencia);
+				}
+			});
+		}
+		long limite = System.nanoTime() + timeout.toNanos() * 2;
+		while (pendientes.get() > 0 && System.nanoTime() < limite) {
+			Thread.sleep(10);
+		}
+		return registros;
+	}
+
+	private void escribir(Map<Operacion, Registro> registros) throws Exception {
+		double duracion = entero("duracion");
+		Map<String, Object> endpoints = new LinkedHashMap<>();
+		Registro total = new Registro();
+		registros.forEach((operacion, registro) -> {
+			endpoints.put(operacion.nombre(), registro.resumen(duracion));
+			total.agregar(registro);
+		});
+		Map<String, Object> resultado = new LinkedHashMap<>();
+		resultado.put("fecha", Instant.now().toString());
+		resultado.put("java", System.getProperty("java.version"));
+		resultado.put("procesadores", Runtime.getRuntime().availableProcessors());
+		resultado.put("configuracion", opciones);
+		resultado.put("argumentosAplicacion", argumentosAplicacion);
+		resultado.put("total", total.resumen(duracion));
+		resultado.put("endpoints", endpoints);
+
+		File salida = new File(opciones.get("salida"));
+		if (salida.getParentFile() != null) {
+			salida.getParentFile().mkdirs();
+		}
+		new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(salida, resultado);
+
+		System.out.printf("%n%-16s %10s %8s %9s %9s %9s %9s %9s%n", "endpoint", "peticiones", "errores", "req/s",
+				"p50 ms", "p95 ms", "p99 ms", "p999 ms");
+		endpoints.put("total", total.resumen(duracion));
+		endpoints.forEach((nombre, resumen) -> {
+			Map<?, ?> r = (Map<?, ?>) resumen;
+			System.out.printf("%-16s %10s %8s %9s %9s %9s %9s %9s%n", nombre, r.get("peticiones"), r.get("errores"),
+					r.get("throughput"), r.get("p50Ms"), r.get("p95Ms"), r.get("p99Ms"), r.get("p999Ms"));
+		});
+		System.out.println("Resultado en " + salida.getAbsolutePath());
+	}
+
+	private static Map<Operacion, Integer> mezcla(String mezcla) {
+		Map<Operacion, Integer> pesos = new EnumMap<>(Operacion.class);
+		for (String parte : mezcla.split(",")) {
+			String[] claveValor = parte.trim().split("=");
+			int peso = Integer.parseInt(claveValor[1].trim());
+			if (peso > 0) {
+				pesos.put(Operacion.porNombre(claveValor[0].trim()), peso);
+			}
+		}
+		if (pesos.isEmpty()) {
+			throw new IllegalArgumentException("La mezcla no tiene operaciones: " + mezcla);
+		}
+		return pesos;
+	}
+
+	private static Operacion elegir(Map<Operacion, Integer> mezcla, int pesoTotal, Random random) {
+		int valor = random.nextInt(pesoTotal);
+		for (Map.Entry<Operacion, Integer> entrada : mezcla.entrySet()) {
+			valor -= entrada.getValue();
+			if (valor < 0) {
+				return entrada.getKey();
+			}
+		}
+		throw new IllegalStateException();
+	}
+
+	private int entero(String opcion) {
+		return Integer.parseInt(opciones.get(opcion));
+	}
+
+	/**
+	 * Latencias y codigos de respuesta de un endpoint durante la medicion.
+	 */
+	private static final class Registro {
+
+		private final List<Long> latencias = new ArrayList<>();
+		private final Map<String, AtomicLong> codigos = new ConcurrentHashMap<>();
+		private final AtomicLong errores = new AtomicLong();
+
+		synchronized void respuesta(int codigo, long latenciaNanos) {
+			latencias.add(latenciaNanos);
+			codigos.computeIfAbsent(String.valueOf(codigo), k -> new AtomicLong()).incrementAndGet();
+			if (codigo >= 400) {
+				errores.incrementAndGet();
+			}
+		}
+
+		synchronized void error(String tipo) {
+			codigos.computeIfAbsent(tipo, k -> new AtomicLong()).incrementAndGet();
+			errores.incrementAndGet();
+		}
+
+		synchronized void agregar(Registro otro) {
+			latencias.addAll(otro.latencias);
+			otro.codigos.forEach((codigo, n) -> codigos.computeIfAbsent(codigo, k -> new AtomicLong()).addAndGet(n.get()));
+			errores.addAndGet(otro.errores.get());
+		}
+
+		synchronized Map<String, Object> resumen(double duracionSegundos) {
+			long[] ordenadas = latencias.stream().mapToLong(Long::longValue).sorted().toArray();
+			long peticiones = codigos.values().stream().mapToLong(AtomicLong::get).sum();
+			Map<String, Object> resumen = new LinkedHashMap<>();
+			resumen.put("peticiones", peticiones);
+			resumen.put("errores", errores.get());
+			resumen.put("tasaErrores", redondear(peticiones == 0 ? 0 : (double) errores.get() / peticiones));
+			resumen.put("throughput", redondear((peticiones - errores.get()) / duracionSegundos));
+			resumen.put("p50Ms", percentilMs(ordenadas, 0.50));
+			resumen.put("p95Ms", percentilMs(ordenadas, 0.95));
+			resumen.put("p99Ms", percentilMs(ordenadas, 0.99));
+			resumen.put("p999Ms", percentilMs(ordenadas, 0.999));
+			resumen.put("maxMs", ordenadas.length == 0 ? 0 : redondear(ordenadas[ordenadas.length - 1] / 1_000_000.0));
+			resumen.put("codigos", new TreeMap<>(codigos));
+			return resumen;
+		}
+
+		private static double percentilMs(long[] ordenadas, double percentil) {
+			if (ordenadas.length == 0) {
+				return 0;
+			}
+			int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+			return redondear(ordenadas[Math.max(indice, 0)] / 1_000_000.0);
+		}
+
+		private static double redondear(double valor) {
+			return Math.round(valor * 1000) / 1000.0;
+		}
+	}
+
+	/**
+	 * Agrega la latencia simulada de MySQL ({@code carga.latencia-sql} ms por sentencia) al
+	 * {@code DataSource}; con 0 lo deja igual.
+	 */
+	@Configuration
+	static class LatenciaConfig {
+
+		@Bean
+		static BeanPostProcessor latenciaDataSourcePostProcessor(@Value("${carga.latencia-sql:0}") long latencia) {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (latencia > 0 && bean instanceof DataSource dataSource && !(bean instanceof LatenciaDataSource)) {
+						return new LatenciaDataSource(dataSource, latencia);
+					}
+					return bean;
+				}
+			};
+		}
+
+	}
+
+}
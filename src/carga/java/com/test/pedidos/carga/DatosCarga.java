@@ -0,0 +1,57 @@
+package com.test.pedidos.carga;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ejercicio.pedidos.utils.PedidoConstantes;
+
+/**
+ * Datos sinteticos de la prueba de carga, insertados directamente por JDBC.
+ */
+final class DatosCarga {
+
+	static final LocalDate FECHA_INICIAL = LocalDate.of(2024, 10, 1);
+	static final int DIAS = 30;
+	static final int PRODUCTOS = 20;
+	private static final int LOTE = 10_000;
+
+	private DatosCarga() {}
+
+	/**
+	 * Inserta clientes y pedidos; el pedido i pertenece al cliente {@code 1 + i % clientes}.
+	 * El generador de ids queda con su primer bloque completo despues de los pedidos cargados.
+	 */
+	static void cargar(JdbcTemplate jdbcTemplate, int clientes, int pedidos) {
+		List<Object[]> filas = new ArrayList<>(LOTE);
+		for (long i = 1; i <= clientes; i++) {
+			filas.add(new Object[] { i, "Nombre" + i, "Paterno" + i, "Materno" + i, email(i), "Calle " + i });
+			if (filas.size() == LOTE || i == clientes) {
+				jdbcTemplate.batchUpdate("insert into cliente (id, nombre, apellido_paterno, apellido_materno, email, "
+						+ "direccion_envio, fecha_creacion, fecha_modificacion, is_active) "
+						+ "values (?, ?, ?, ?, ?, ?, current_date, current_date, true)", filas);
+				filas.clear();
+			}
+		}
+		for (long i = 1; i <= pedidos; i++) {
+			long cliente = 1 + i % clientes;
+			filas.add(new Object[] { i, 100 + i % PRODUCTOS, email(cliente), cliente, 1 + (int) (i % 5),
+					9.99 + i % 7, FECHA_INICIAL.plusDays(i % DIAS) });
+			if (filas.size() == LOTE || i == pedidos) {
+				jdbcTemplate.batchUpdate("insert into pedido (id, codigo_producto, email_cliente, id_cliente, cantidad, "
+						+ "precio, fecha_creacion, fecha_modificacion, is_active) "
+						+ "values (?, ?, ?, ?, ?, ?, ?, current_date, true)", filas);
+				filas.clear();
+			}
+		}
+		jdbcTemplate.update("update id_generador set siguiente_id = ? where entidad = 'pedido'",
+				pedidos + 1L + PedidoConstantes.ID_ALLOCATION_SIZE);
+	}
+
+	static String email(long cliente) {
+		return "cliente" + cliente + "@correo.com";
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.test.pedidos.carga;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * Llamadas a la API que puede mezclar la prueba de carga. Los ids, emails y fechas se eligen al
+ * azar entre los datos cargados por {@link DatosCarga}, de modo que todas las lecturas tienen
+ * resultado.
+ */
+enum Operacion {
+
+	PEDIDOS_LISTA("pedidos.lista") {
+		@Override
+		String ruta(Random random, int clientes, int pedidos) {
+			return "/pedidos?limit=50";
+		}
+	},
+	PEDIDOS_ID("pedidos.id") {
+		@Override
+		String ruta(Random random, int clientes, int pedidos) {
+			return "/pedidos/" + (1 + random.nextInt(pedidos));
+		}
+	},
+	PEDIDOS_CLIENTE("pedidos.cliente") {
+		@Override
+		String ruta(Random random, int clientes, int pedidos) {
+			return "/pedidos/id_cliente?idCliente=" + (1 + random.nextInt(clientes));
+		}
+	},
+	PEDIDOS_EMAIL("pedidos.email") {
+		@Override
+		String ruta(Random random, int clientes, int pedidos) {
+			return "/pedidos/email?emailCliente=" + DatosCarga.email(1 + random.nextInt(clientes));
+		}
+	},
+	PEDIDOS_FECHA("pedidos.fecha") {
+		@Override
+		String ruta(Random random, int clientes, int pedidos) {
+			return "/pedidos/fecha_creacion?limit=50&fechaCreacion="
+					+ DatosCarga.FECHA_INICIAL.plusDays(random.nextInt(DatosCarga.DIAS));
+		}
+	},
+	PEDIDOS_ALTA("pedidos.alta") {
+		@Override
+		String ruta(Random random, int clientes, int pedidos) {
+			return "/pedidos";
+		}
+
+		@Override
+		HttpRequest.Builder peticion(URI uri, Random random, int clientes) {
+			long cliente = 1 + random.nextInt(clientes);
+			String cuerpo = "{\"codidoProducto\":" + (100 + random.nextInt(DatosCarga.PRODUCTOS))
+					+ ",\"cantidad\":" + (1 + random.nextInt(5)) + ",\"precio\":9.99,\"idCliente\":{\"id\":" + cliente
+					+ ",\"emailCliente\":\"" + DatosCarga.email(cliente) + "\"}}";
+			return HttpRequest.newBuilder(uri).header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(cuerpo));
+		}
+	},
+	CLIENTES_LISTA("clientes.lista") {
+		@Override
+		String ruta(Random random, int clientes, int pedidos) {
+			return "/clientes?limit=50";
+		}
+	},
+	CLIENTES_ID("clientes.id") {
+		@Override
+		String ruta(Random random, int clientes, int pedidos) {
+			return "/clientes/" + (1 + random.nextInt(clientes));
+		}
+	};
+
+	private final String nombre;
+
+	Operacion(String nombre) {
+		this.nombre = nombre;
+	}
+
+	String nombre() {
+		return nombre;
+	}
+
+	abstract String ruta(Random random, int clientes, int pedidos);
+
+	HttpRequest.Builder peticion(URI uri, Random random, int clientes) {
+		return HttpRequest.newBuilder(uri).GET();
+	}
+
+	HttpRequest crear(String base, Random random, int clientes, int pedidos, Duration timeout) {
+		URI uri = URI.create(base + ruta(random, clientes, pedidos));
+		return peticion(uri, random, clientes).timeout(timeout).build();
+	}
+
+	static Operacion porNombre(String nombre) {
+		for (Operacion operacion : values()) {
+			if (operacion.nombre.equals(nombre)) {
+				return operacion;
+			}
+		}
+		throw new IllegalArgumentException("Operacion desconocida: " + nombre);
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.test.pedidos.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ejercicio.pedidos.entity.Cliente;
+import com.ejercicio.pedidos.entity.Pedido;
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.model.PedidoDTO;
+
+/**
+ * Datos sinteticos compartidos por los benchmarks.
+ */
+final class DatosBenchmark {
+
+	static final LocalDate FECHA_INICIAL = LocalDate.of(2024, 10, 1);
+	static final int DIAS = 30;
+	static final int PRODUCTOS = 20;
+
+	private DatosBenchmark() {}
+
+	static Cliente cliente(long id) {
+		Cliente cliente = new Cliente();
+		cliente.setId(id);
+		cliente.setNombreCliente("Nombre" + id);
+		cliente.setApellidoPaterno("Paterno" + id);
+		cliente.setApellidoMaterno("Materno" + id);
+		cliente.setEmailCliente(email(id));
+		cliente.setDireccionEnvio("Calle " + id);
+		cliente.setFechaCreacion(FECHA_INICIAL);
+		cliente.setFechaModificacion(FECHA_INICIAL);
+		cliente.setIsActive(true);
+		return cliente;
+	}
+
+	static Pedido pedido(long id, Cliente cliente) {
+		Pedido pedido = new Pedido();
+		pedido.setId(id);
+		pedido.setCodidoProducto(100 + id % PRODUCTOS);
+		pedido.setEmailCliente(cliente.getEmailCliente());
+		pedido.setIdCliente(cliente);
+		pedido.setCantidad(1 + (int) (id % 5));
+		pedido.setPrecio(9.99 + id % 7);
+		pedido.setFechaCreacion(FECHA_INICIAL.plusDays(id % DIAS));
+		pedido.setFechaModificacion(pedido.getFechaCreacion());
+		pedido.setIsActive(true);
+		return pedido;
+	}
+
+	static List<PedidoDTO> pedidoDTOs(int filas, int clientes) {
+		List<PedidoDTO> pedidos = new ArrayList<>(filas);
+		for (long i = 1; i <= filas; i++) {
+			long cliente = 1 + i % clientes;
+			pedidos.add(new PedidoDTO(i, 100 + i % PRODUCTOS,
+					new ClienteDTO(cliente, "Nombre" + cliente, "Paterno" + cliente, "Materno" + cliente,
+							email(cliente), "Calle " + cliente),
+					1 + (int) (i % 5), 9.99 + i % 7, FECHA_INICIAL.plusDays(i % DIAS)));
+		}
+		return pedidos;
+	}
+
+	/**
+	 * Inserta clientes y pedidos directamente por JDBC; el pedido i pertenece al cliente
+	 * {@code 1 + i % clientes}.
+	 */
+	static void cargar(JdbcTemplate jdbcTemplate, int clientes, int pedidos) {
+		List<Object[]> filasClientes = new ArrayList<>(clientes);
+		for (long i = 1; i <= clientes; i++) {
+			filasClientes.add(new Object[] { i, "Nombre" + i, "Paterno" + i, "Materno" + i, email(i), "Calle " + i });
+		}
+		jdbcTemplate.batchUpdate("insert into cliente (id, nombre, apellido_paterno, apellido_materno, email, "
+				+ "direccion_envio, fecha_creacion, fecha_modificacion, is_active) "
+				+ "values (?, ?, ?, ?, ?, ?, current_date, current_date, true)", filasClientes);
+		List<Object[]> filasPedidos = new ArrayList<>(pedidos);
+		for (long i = 1; i <= pedidos; i++) {
+			long cliente = 1 + i % clientes;
+			filasPedidos.add(new Object[] { i, 100 + i % PRODUCTOS, email(cliente), cliente, 1 + (int) (i % 5),
+					9.99 + i % 7, FECHA_INICIAL.plusDays(i % DIAS) });
+		}
+		jdbcTemplate.batchUpdate("insert into pedido (id, codigo_producto, email_cliente, id_cliente, cantidad, "
+				+ "precio, fecha_creacion, fecha_modificacion, is_active) "
+				+ "values (?, ?, ?, ?, ?, ?, ?, current_date, true)", filasPedidos);
+	}
+
+	static String email(long cliente) {
+		return "cliente" + cliente + "@correo.com";
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.test.pedidos.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.ejercicio.pedidos.entity.Pedido;
+import com.ejercicio.pedidos.mapper.impl.ClienteDTOInToCliente;
+import com.ejercicio.pedidos.mapper.impl.ClienteInToClienteDTO;
+import com.ejercicio.pedidos.mapper.impl.PedidoDTOInToPedido;
+import com.ejercicio.pedidos.mapper.impl.PedidoInToPedidoDTO;
+import com.ejercicio.pedidos.model.PedidoDTO;
+
+/**
+ * Mide el mapeo entidad/DTO de un pedido con su cliente en ambas direcciones.
+ * Los mappers se obtienen de un contexto de Spring minimo porque sus constructores son privados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+	private AnnotationConfigApplicationContext context;
+	private PedidoInToPedidoDTO mapperRead;
+	private PedidoDTOInToPedido mapperSave;
+	private Pedido pedido;
+	private PedidoDTO pedidoDTO;
+
+	@Setup
+	public void setUp() {
+		context = new AnnotationConfigApplicationContext(ClienteInToClienteDTO.class, ClienteDTOInToCliente.class,
+				PedidoInToPedidoDTO.class, PedidoDTOInToPedido.class);
+		mapperRead = context.getBean(PedidoInToPedidoDTO.class);
+		mapperSave = context.getBean(PedidoDTOInToPedido.class);
+		pedido = DatosBenchmark.pedido(1L, DatosBenchmark.cliente(1L));
+		pedidoDTO = mapperRead.map(pedido);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public PedidoDTO pedidoADto() {
+		return mapperRead.map(pedido);
+	}
+
+	@Benchmark
+	public Pedido dtoAPedido() {
+		return mapperSave.map(pedidoDTO);
+	}
+
+}
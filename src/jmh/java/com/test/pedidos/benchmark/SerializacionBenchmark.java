@@ -0,0 +1,61 @@
+package com.test.pedidos.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.ejercicio.pedidos.model.PedidoResponse;
+import com.ejercicio.pedidos.utils.PedidoConstantes;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Mide la serializacion JSON de un {@link PedidoResponse} con 10, 1 000 y 100 000 pedidos.
+ * El ObjectMapper se construye como lo hace Spring Boot (fechas ISO, modulo java.time) y la
+ * salida se descarta, igual que al escribir directamente en la respuesta HTTP.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializacionBenchmark {
+
+	private static final int CLIENTES = 50;
+
+	@Param({ "10", "1000", "100000" })
+	private int filas;
+
+	private ObjectWriter writer;
+	private PedidoResponse response;
+
+	@Setup
+	public void setUp() {
+		writer = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.build()
+				.writerFor(PedidoResponse.class);
+		response = new PedidoResponse(PedidoConstantes.SUCCESS_MESSAGE, 200,
+				DatosBenchmark.pedidoDTOs(filas, CLIENTES), null);
+	}
+
+	@Benchmark
+	public void serializarPedidoResponse() throws IOException {
+		writer.writeValue(OutputStream.nullOutputStream(), response);
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.test.pedidos.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.model.ClienteResponse;
+import com.ejercicio.pedidos.model.PedidoResponse;
+import com.ejercicio.pedidos.model.PedidoResumenResponse;
+import com.ejercicio.pedidos.service.impl.ClienteService;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+
+/**
+ * Mide las rutas de lectura de {@link PedidoService} y {@link ClienteService} contra la base de
+ * datos H2 embebida de las pruebas (esquema creado por Flyway), con 500 clientes y 20 000 pedidos
+ * repartidos en 30 dias. Se desactivan las estadisticas de Hibernate y el log de operaciones para
+ * no medir su costo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServicioLecturaBenchmark {
+
+	private static final int CLIENTES = 500;
+	private static final int PEDIDOS = 20_000;
+	private static final LocalDate DESDE = DatosBenchmark.FECHA_INICIAL;
+	private static final LocalDate HASTA = DatosBenchmark.FECHA_INICIAL.plusDays(6);
+
+	private ConfigurableApplicationContext context;
+	private PedidoService pedidoService;
+	private ClienteService clienteService;
+
+	@Setup
+	public void setUp() {
+		SpringApplication application = new SpringApplication(PedidosApplication.class);
+		application.setWebApplicationType(WebApplicationType.NONE);
+		context = application.run("--spring.jpa.properties.hibernate.generate_statistics=false",
+				"--logging.level.com.ejercicio.pedidos=WARN");
+		DatosBenchmark.cargar(context.getBean(JdbcTemplate.class), CLIENTES, PEDIDOS);
+		pedidoService = context.getBean(PedidoService.class);
+		clienteService = context.getBean(ClienteService.class);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public PedidoResponse pedidosReadAllPagina50() throws Exception {
+		return pedidoService.readAll(50, null);
+	}
+
+	@Benchmark
+	public PedidoResponse pedidosReadAllPagina500() throws Exception {
+		return pedidoService.readAll(500, null);
+	}
+
+	@Benchmark
+	public PedidoResponse pedidosPorId() throws Exception {
+		return pedidoService.readById(PEDIDOS / 2L);
+	}
+
+	@Benchmark
+	public PedidoResponse pedidosPorEmailCliente() throws Exception {
+		return pedidoService.readByemailCliente(DatosBenchmark.email(7));
+	}
+
+	@Benchmark
+	public PedidoResponse pedidosPorIdCliente() throws Exception {
+		return pedidoService.readByIdCliente(7L);
+	}
+
+	@Benchmark
+	public PedidoResponse pedidosPorRangoDeFechas() throws Exception {
+		return pedidoService.readByFechaCreacion(DESDE, HASTA, 50, null);
+	}
+
+	@Benchmark
+	public PedidoResumenResponse pedidosResumenSemanal() throws Exception {
+		return pedidoService.resumen(DESDE, HASTA, true);
+	}
+
+	@Benchmark
+	public ClienteResponse clientesReadAll() throws Exception {
+		return clienteService.readAll(50, null);
+	}
+
+	@Benchmark
+	public ClienteResponse clientesPorIdEnCache() throws Exception {
+		return clienteService.readById(7L);
+	}
+
+	@Benchmark
+	public ClienteResponse clientesPorEmailEnCache() throws Exception {
+		return clienteService.findByEmail(DatosBenchmark.email(7));
+	}
+
+}
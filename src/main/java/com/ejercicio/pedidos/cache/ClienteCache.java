@@ -0,0 +1,142 @@
+package com.ejercicio.pedidos.cache;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.repository.ClienteRepository;
+
+/**
+ * Cache local de consultas de clientes activos delante de {@link ClienteRepository}.
+ *
+ * <p>Mantiene dos caches:
+ * <ul>
+ *   <li>{@value #CLIENTES}: id del cliente a {@link ClienteDTO}</li>
+ *   <li>{@value #CLIENTES_EMAIL}: email normalizado (sin espacios, en minusculas) al id del cliente</li>
+ * </ul>
+ * La busqueda por email resuelve el id y luego el DTO desde la cache por id, de modo que basta con
+ * expulsar el id para invalidar ambas rutas. Los resultados vacios no se guardan.
+ *
+ * <p>Cada expulsion incrementa una generacion. Una lectura anota la generacion antes de consultar
+ * la base de datos y solo guarda el resultado si no hubo expulsiones mientras tanto; si la hubo
+ * despues de guardarlo, lo vuelve a expulsar. Asi una lectura que empezo antes del commit de una
+ * actualizacion no deja en cache el valor anterior durante todo el TTL.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ * @see ClienteRepository
+ */
+@Component
+public class ClienteCache {
+
+	public static final String CLIENTES = "clientes";
+	public static final String CLIENTES_EMAIL = "clientesEmail";
+
+	private final ClienteRepository clienteRepository;
+	private final Cache clientes;
+	private final Cache clientesEmail;
+	private final AtomicLong generacion = new AtomicLong();
+
+	public ClienteCache(ClienteRepository clienteRepository, CacheManager cacheManager) {
+		this.clienteRepository = clienteRepository;
+		this.clientes = cacheManager.getCache(CLIENTES);
+		this.clientesEmail = cacheManager.getCache(CLIENTES_EMAIL);
+	}
+
+	/**
+	 * Busca un cliente activo por id, consultando la base de datos solo si no esta en cache.
+	 *
+	 * @param id identificador del cliente
+	 * @return el cliente, vacio si no existe o esta inactivo
+	 */
+	public Optional<ClienteDTO> findById(Long id) {
+		ClienteDTO cached = clientes.get(id, ClienteDTO.class);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		long inicio = generacion.get();
+		Optional<ClienteDTO> cliente = clienteRepository.findDtoById(id);
+		cliente.ifPresent(encontrado -> put(encontrado, inicio));
+		return cliente;
+	}
+
+	/**
+	 * Busca un cliente activo por email normalizado, consultando la base de datos solo si no esta en cache.
+	 *
+	 * @param email email del cliente
+	 * @return el cliente, vacio si no existe o esta inactivo
+	 */
+	public Optional<ClienteDTO> findByEmail(String email) {
+		String key = normalize(email);
+		Long id = clientesEmail.get(key, Long.class);
+		if (id != null) {
+			ClienteDTO cached = clientes.get(id, ClienteDTO.class);
+			if (cached != null && key.equals(normalize(cached.getEmailCliente()))) {
+				return Optional.of(cached);
+			}
+		}
+		long inicio = generacion.get();
+		Optional<ClienteDTO> cliente = clienteRepository.findDtoByEmailCliente(key);
+		cliente.ifPresent(encontrado -> put(encontrado, inicio));
+		return cliente;
+	}
+
+	/**
+	 * Expulsa un cliente de ambas caches. Si hay una transaccion activa, la expulsion se repite
+	 * despues del commit; junto con la generacion, una lectura concurrente que cargo el valor
+	 * anterior no lo deja en cache.
+	 *
+	 * @param id identificador del cliente
+	 * @param emails emails (anterior y nuevo) asociados al cliente
+	 */
+	public void evict(Long id, String... emails) {
+		doEvict(id, emails);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					doEvict(id, emails);
+				}
+			});
+		}
+	}
+
+	public static String normalize(String email) {
+		return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Guarda el cliente leido si no hubo expulsiones desde {@code inicio}; si una expulsion llega
+	 * mientras se guarda, lo expulsa de nuevo.
+	 */
+	private void put(ClienteDTO cliente, long inicio) {
+		if (generacion.get() != inicio) {
+			return;
+		}
+		clientes.put(cliente.getId(), cliente);
+		if (cliente.getEmailCliente() != null) {
+			clientesEmail.put(normalize(cliente.getEmailCliente()), cliente.getId());
+		}
+		if (generacion.get() != inicio) {
+			doEvict(cliente.getId(), cliente.getEmailCliente());
+		}
+	}
+
+	private void doEvict(Long id, String... emails) {
+		generacion.incrementAndGet();
+		clientes.evict(id);
+		for (String email : emails) {
+			if (email != null) {
+				clientesEmail.evict(normalize(email));
+			}
+		}
+	}
+
+}
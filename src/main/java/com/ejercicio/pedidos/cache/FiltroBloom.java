@@ -0,0 +1,112 @@
+package com.ejercicio.pedidos.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom concurrente sobre cadenas: {@link #puedeContener(String)} nunca da falsos
+ * negativos y da falsos positivos con una probabilidad que depende de la ocupacion del arreglo.
+ *
+ * <p>Los bits se guardan en un {@link AtomicLongArray}, de modo que las altas y las consultas
+ * concurrentes no necesitan cerrojos. Las {@code k} posiciones de cada valor se derivan de un
+ * solo hash de 64 bits por doble hashing ({@code h1 + i * h2}). No admite bajas: los valores
+ * eliminados solo desaparecen al construir un filtro nuevo.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+public final class FiltroBloom {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIMO = 0x100000001b3L;
+
+	private final AtomicLongArray bits;
+	private final long numBits;
+	private final int numHashes;
+
+	private FiltroBloom(long numBits, int numHashes) {
+		this.bits = new AtomicLongArray((int) ((numBits + 63) / 64));
+		this.numBits = numBits;
+		this.numHashes = numHashes;
+	}
+
+	/**
+	 * Crea un filtro dimensionado para {@code capacidad} valores con la probabilidad de falso
+	 * positivo indicada ({@code m = -n ln p / ln(2)^2}, {@code k = m / n ln 2}).
+	 */
+	public static FiltroBloom paraCapacidad(long capacidad, double probabilidadFalsoPositivo) {
+		long n = Math.max(1, capacidad);
+		double ln2 = Math.log(2);
+		long m = (long) Math.ceil(-n * Math.log(probabilidadFalsoPositivo) / (ln2 * ln2));
+		m = Math.max(64, Math.min(m, Integer.MAX_VALUE));
+		int k = (int) Math.max(1, Math.round((double) m / n * ln2));
+		return new FiltroBloom(m, k);
+	}
+
+	public void agregar(String valor) {
+		long hash = hash(valor);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= numHashes; i++) {
+			long posicion = posicion(h1 + i * h2);
+			long mascara = 1L << posicion;
+			bits.getAndAccumulate((int) (posicion >>> 6), mascara, (actual, bit) -> actual | bit);
+		}
+	}
+
+	public boolean puedeContener(String valor) {
+		long hash = hash(valor);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= numHashes; i++) {
+			long posicion = posicion(h1 + i * h2);
+			if ((bits.get((int) (posicion >>> 6)) & (1L << posicion)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Probabilidad de falso positivo estimada a partir de la fraccion de bits encendidos
+	 * ({@code (bits encendidos / m)^k}); refleja tambien los valores que ya no existen.
+	 */
+	public double probabilidadFalsoPositivo() {
+		long encendidos = 0;
+		for (int i = 0; i < bits.length(); i++) {
+			encendidos += Long.bitCount(bits.get(i));
+		}
+		return Math.pow((double) encendidos / numBits, numHashes);
+	}
+
+	public long getNumBits() {
+		return numBits;
+	}
+
+	public int getNumHashes() {
+		return numHashes;
+	}
+
+	private long posicion(int combinado) {
+		return (combinado & 0x7fffffffL) % numBits;
+	}
+
+	/**
+	 * FNV-1a de 64 bits sobre los bytes UTF-8, con la mezcla final de MurmurHash3 para repartir
+	 * mejor los bits altos y bajos.
+	 */
+	private static long hash(String valor) {
+		long hash = FNV_OFFSET;
+		for (byte b : valor.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= FNV_PRIMO;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb93fc53e1a49L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+}
@@ -0,0 +1,306 @@
+package com.ejercicio.pedidos.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ejercicio.pedidos.entity.RegistroEmail;
+import com.ejercicio.pedidos.repository.ClienteRepository;
+import com.ejercicio.pedidos.repository.PedidoRepository;
+import com.ejercicio.pedidos.repository.RegistroEmailRepository;
+import com.ejercicio.pedidos.utils.ClienteConstantes;
+import com.ejercicio.pedidos.utils.MetricasConstantes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Filtro de pertenencia de emails, opcional ({@code pedidos.filtro-emails.habilitado=true}), para
+ * responder sin consultar la base de datos las busquedas por email que no pueden tener resultado.
+ *
+ * <p>Contiene, normalizados como en {@link ClienteCache#normalize(String)}, los emails de los
+ * clientes activos y los de los pedidos activos (la busqueda de pedidos filtra por el email del
+ * pedido). Si {@link #puedeExistir(String)} devuelve false, el email no esta en ninguno:
+ * <ul>
+ *   <li>Se construye al arrancar y se reconstruye cada {@code pedidos.filtro-emails.reconstruccion},
+ *   lo que elimina los emails dados de baja (un filtro de Bloom no admite bajas)</li>
+ *   <li>Los servicios registran cada email nuevo antes del commit; un rollback solo deja un falso
+ *   positivo mas</li>
+ *   <li>Los emails registrados en transacciones abiertas se copian al filtro nuevo antes de leer
+ *   la tabla, de modo que la reconstruccion no pierde altas concurrentes</li>
+ * </ul>
+ * Con varias instancias, cada email registrado se guarda ademas en la tabla
+ * {@code registro_emails} dentro de la misma transaccion, y cada
+ * {@code pedidos.filtro-emails.sincronizacion} las demas instancias leen los registros recientes
+ * (incluidos los de los ultimos {@code pedidos.filtro-emails.margen}, para no perder transacciones
+ * que confirman tarde) y los agregan a su filtro. Como un alta de otra instancia tarda hasta una
+ * sincronizacion en verse, la respuesta negativa es solo una pista:
+ * <ul>
+ *   <li>Durante {@code pedidos.filtro-emails.ventana} despues de ver un alta de otra instancia,
+ *   los emails que el filtro descarta se buscan en la base de datos</li>
+ *   <li>Si la ultima sincronizacion correcta es mas antigua que la ventana (la tabla no responde o
+ *   una reconstruccion tarda), tambien</li>
+ * </ul>
+ * Las escrituras hechas directamente en la base de datos no pasan por el registro y solo entran
+ * al filtro en la siguiente reconstruccion.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ * @see FiltroBloom
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = ClienteConstantes.FILTRO_EMAILS_PROPERTY, havingValue = "true")
+public class FiltroEmails implements SmartInitializingSingleton {
+
+	private static final LocalDateTime SIN_REGISTROS = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+	private final ClienteRepository clienteRepository;
+	private final PedidoRepository pedidoRepository;
+	private final RegistroEmailRepository registroEmailRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final long capacidad;
+	private final double probabilidadFalsoPositivo;
+	private final Duration margen;
+	private final Duration retencion;
+	private final long ventanaNanos;
+	private final String instancia = UUID.randomUUID().toString();
+	private final Map<String, Integer> pendientes = new ConcurrentHashMap<>();
+	private final LongAdder elementos = new LongAdder();
+	private final Counter descartados;
+	private final Counter falsosPositivos;
+	private volatile FiltroBloom filtro;
+	private volatile FiltroBloom enConstruccion;
+	private volatile long sincronizado;
+	private volatile long desconfiarHasta;
+	private LocalDateTime ultimoRegistrado;
+	private long ultimoId;
+
+	public FiltroEmails(ClienteRepository clienteRepository, PedidoRepository pedidoRepository,
+			RegistroEmailRepository registroEmailRepository, PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${pedidos.filtro-emails.capacidad:100000}") long capacidad,
+			@Value("${pedidos.filtro-emails.probabilidad-falso-positivo:0.01}") double probabilidadFalsoPositivo,
+			@Value("${pedidos.filtro-emails.margen:PT10S}") Duration margen,
+			@Value("${pedidos.filtro-emails.ventana:PT5S}") Duration ventana,
+			@Value("${pedidos.filtro-emails.reconstruccion:PT30M}") Duration reconstruccion) {
+		this.clienteRepository = clienteRepository;
+		this.pedidoRepository = pedidoRepository;
+		this.registroEmailRepository = registroEmailRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.capacidad = capacidad;
+		this.probabilidadFalsoPositivo = probabilidadFalsoPositivo;
+		this.margen = margen;
+		this.retencion = reconstruccion.plus(margen);
+		this.ventanaNanos = ventana.toNanos();
+		this.sincronizado = System.nanoTime();
+		this.desconfiarHasta = sincronizado;
+		Gauge.builder(MetricasConstantes.FILTRO_FPP_GAUGE, this, FiltroEmails::probabilidadFalsoPositivo)
+				.description(MetricasConstantes.FILTRO_FPP_DESCRIPCION)
+				.register(meterRegistry);
+		Gauge.builder(MetricasConstantes.FILTRO_ELEMENTOS_GAUGE, elementos, LongAdder::sum)
+				.description(MetricasConstantes.FILTRO_ELEMENTOS_DESCRIPCION)
+				.register(meterRegistry);
+		this.descartados = Counter.builder(MetricasConstantes.FILTRO_DESCARTADOS_COUNTER)
+				.description(MetricasConstantes.FILTRO_DESCARTADOS_DESCRIPCION)
+				.register(meterRegistry);
+		this.falsosPositivos = Counter.builder(MetricasConstantes.FILTRO_FALSOS_POSITIVOS_COUNTER)
+				.description(MetricasConstantes.FILTRO_FALSOS_POSITIVOS_DESCRIPCION)
+				.register(meterRegistry);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		reconstruir();
+	}
+
+	/**
+	 * Indica si el email puede pertenecer a un cliente o pedido activo. Antes de la primera
+	 * construccion, y mientras el filtro puede no haber visto altas recientes de otras instancias,
+	 * siempre devuelve true.
+	 *
+	 * @param email email a buscar
+	 * @return false si el email seguro no existe
+	 */
+	public boolean puedeExistir(String email) {
+		FiltroBloom actual = filtro;
+		String clave = ClienteCache.normalize(email);
+		if (actual == null || clave == null || actual.puedeContener(clave) || !alDia()) {
+			return true;
+		}
+		descartados.increment();
+		return false;
+	}
+
+	/**
+	 * Cuenta una busqueda que paso el filtro y no encontro resultados.
+	 */
+	public void registrarFalsoPositivo() {
+		falsosPositivos.increment();
+	}
+
+	/**
+	 * Agrega un email al filtro y, una vez por transaccion, al registro compartido. Debe llamarse
+	 * dentro de la transaccion que lo guarda, antes del commit.
+	 *
+	 * @param email email de un cliente o pedido nuevo o modificado
+	 */
+	public void registrar(String email) {
+		String clave = ClienteCache.normalize(email);
+		if (clave == null) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive() && registradosEnTransaccion().add(clave)) {
+			pendientes.merge(clave, 1, Integer::sum);
+			registroEmailRepository.save(new RegistroEmail(clave, instancia));
+		}
+		// enConstruccion se lee antes que filtro: si la reconstruccion ya termino, filtro es el nuevo
+		FiltroBloom nuevo = enConstruccion;
+		FiltroBloom actual = filtro;
+		if (nuevo != null) {
+			nuevo.agregar(clave);
+		}
+		if (actual != null) {
+			actual.agregar(clave);
+		}
+		elementos.increment();
+	}
+
+	/**
+	 * Construye un filtro nuevo desde las tablas y lo publica. Se dimensiona para el doble de los
+	 * emails actuales, con un minimo de {@code pedidos.filtro-emails.capacidad}.
+	 *
+	 * @return numero de emails cargados desde las tablas
+	 */
+	@Scheduled(initialDelayString = "${pedidos.filtro-emails.reconstruccion:PT30M}",
+			fixedDelayString = "${pedidos.filtro-emails.reconstruccion:PT30M}")
+	public synchronized long reconstruir() {
+		long inicio = System.nanoTime();
+		FiltroBloom nuevo = FiltroBloom.paraCapacidad(Math.max(capacidad, 2 * elementos.sum()),
+				probabilidadFalsoPositivo);
+		enConstruccion = nuevo;
+		try {
+			pendientes.keySet().forEach(nuevo::agregar);
+			long cargados = transactionTemplate.execute(status -> {
+				// Los registros posteriores se leen en las sincronizaciones; los muy anteriores ya
+				// estan en las tablas
+				ultimoRegistrado = registroEmailRepository.findUltimoRegistrado().orElse(null);
+				if (ultimoRegistrado != null) {
+					registroEmailRepository.borrarAnteriores(ultimoRegistrado.minus(retencion));
+				}
+				return cargar(clienteRepository.streamEmailsActivos(), nuevo)
+						+ cargar(pedidoRepository.streamEmailsActivos(), nuevo);
+			});
+			filtro = nuevo;
+			elementos.reset();
+			elementos.add(cargados);
+			// Las altas de otras instancias vistas antes de leer las tablas ya estan en el filtro
+			sincronizado = inicio;
+			desconfiarHasta = inicio;
+			log.info(ClienteConstantes.FILTRO_EMAILS_RECONSTRUIDO_LOG, cargados, nuevo.getNumBits(), nuevo.getNumHashes());
+			return cargados;
+		} finally {
+			enConstruccion = null;
+		}
+	}
+
+	/**
+	 * Agrega al filtro los emails registrados desde la ultima sincronizacion, menos el margen. Si
+	 * alguno es de otra instancia y no se habia visto, abre la ventana en la que las respuestas
+	 * negativas se buscan en la base de datos.
+	 *
+	 * @return numero de emails nuevos agregados
+	 */
+	@Scheduled(initialDelayString = "${pedidos.filtro-emails.sincronizacion:PT1S}",
+			fixedDelayString = "${pedidos.filtro-emails.sincronizacion:PT1S}")
+	public synchronized int sincronizar() {
+		FiltroBloom actual = filtro;
+		if (actual == null) {
+			return 0;
+		}
+		long inicio = System.nanoTime();
+		LocalDateTime desde = ultimoRegistrado == null ? SIN_REGISTROS : ultimoRegistrado.minus(margen);
+		List<RegistroEmail> registros = transactionTemplate.execute(status -> registroEmailRepository.findDesde(desde));
+		int nuevos = 0;
+		boolean remotos = false;
+		for (RegistroEmail registro : registros) {
+			actual.agregar(registro.getEmail());
+			if (ultimoRegistrado == null || registro.getRegistrado().isAfter(ultimoRegistrado)) {
+				ultimoRegistrado = registro.getRegistrado();
+			}
+			if (registro.getId() > ultimoId) {
+				ultimoId = registro.getId();
+				remotos |= !instancia.equals(registro.getInstancia());
+				nuevos++;
+			}
+		}
+		elementos.add(nuevos);
+		sincronizado = inicio;
+		if (remotos) {
+			desconfiarHasta = System.nanoTime() + ventanaNanos;
+		}
+		return nuevos;
+	}
+
+	public double probabilidadFalsoPositivo() {
+		FiltroBloom actual = filtro;
+		return actual == null ? 0.0 : actual.probabilidadFalsoPositivo();
+	}
+
+	private boolean alDia() {
+		long ahora = System.nanoTime();
+		return ahora - desconfiarHasta >= 0 && ahora - sincronizado <= ventanaNanos;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<String> registradosEnTransaccion() {
+		Set<String> registrados = (Set<String>) TransactionSynchronizationManager.getResource(this);
+		if (registrados == null) {
+			Set<String> nuevos = new HashSet<>();
+			TransactionSynchronizationManager.bindResource(this, nuevos);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(FiltroEmails.this);
+					nuevos.forEach(clave -> pendientes.computeIfPresent(clave, (k, n) -> n == 1 ? null : n - 1));
+				}
+			});
+			registrados = nuevos;
+		}
+		return registrados;
+	}
+
+	private static long cargar(Stream<String> emails, FiltroBloom destino) {
+		LongAdder cargados = new LongAdder();
+		try (emails) {
+			emails.map(ClienteCache::normalize)
+					.filter(Objects::nonNull)
+					.forEach(email -> {
+						destino.agregar(email);
+						cargados.increment();
+					});
+		}
+		return cargados.sum();
+	}
+
+}
@@ -0,0 +1,484 @@
+package com.ejercicio.pedidos.cache;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.repository.PedidoRepository;
+import com.ejercicio.pedidos.utils.PedidoConstantes;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Modelo de lectura en memoria de los pedidos activos, opcional
+ * ({@code pedidos.modelo-lectura.habilitado=true}).
+ *
+ * <p>Guarda cada {@link PedidoDTO} por id y mantiene tres indices concurrentes con los ids
+ * ordenados: por email registrado en el pedido (en minusculas, como la intercalacion de MySQL), por id de cliente y por fecha de creacion.
+ * Con el modelo listo, {@code readByemailCliente}, {@code readByIdCliente} y
+ * {@code readByFechaCreacion} de {@code PedidoService} no consultan la base de datos.
+ *
+ * <p>Sincronizacion:
+ * <ul>
+ *   <li>Se carga completo al arrancar, antes de que el servidor acepte peticiones. Si la carga
+ *   falla (por ejemplo, sin base de datos) la aplicacion arranca igual, las consultas van a la base
+ *   de datos y la carga se reintenta</li>
+ *   <li>Los servicios publican {@link PedidosModificadosEvent} y {@link ClienteModificadoEvent};
+ *   despues del commit el hilo de la peticion solo encola los ids afectados con un numero de
+ *   secuencia, sin consultas</li>
+ *   <li>Un solo hilo aplicador agrupa los cambios encolados, vuelve a leer de la tabla los pedidos
+ *   afectados y los reemplaza o elimina del modelo. Es el unico que modifica los indices, de modo
+ *   que una lectura anterior nunca sobrescribe una posterior</li>
+ *   <li>Las recargas tambien las ejecuta el aplicador; los cambios confirmados durante la carga
+ *   quedan en la cola y se aplican al terminarla</li>
+ *   <li>Si una relectura o una recarga falla, el modelo se marca como no listo (las consultas
+ *   vuelven a la base de datos) y se recarga de nuevo tras {@value #REINTENTO_MS} ms</li>
+ * </ul>
+ * Antes de responder desde el modelo, {@link #listoParaLeer()} espera hasta {@value #ESPERA_MS} ms
+ * a que el aplicador procese los cambios encolados hasta ese momento; si no lo logra, la consulta
+ * va a la base de datos. Asi una lectura posterior a una escritura confirmada en esta instancia
+ * siempre la ve. Solo ve las escrituras de esta instancia; {@link #verificar()} compara el modelo
+ * con la tabla.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ * @see PedidoModeloLecturaEndpoint
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = PedidoConstantes.MODELO_LECTURA_PROPERTY, havingValue = "true")
+public class PedidoModeloLectura implements SmartInitializingSingleton, DisposableBean {
+
+	private static final int PAGINA = 10_000;
+	private static final int BLOQUE_RELECTURA = 500;
+	private static final int MAX_TAREAS = 10_000;
+	private static final long REINTENTO_MS = 5_000;
+	private static final long ESPERA_MS = 1_000;
+	private static final int MAX_IDS_REPORTE = 20;
+
+	private final PedidoRepository pedidoRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	private final Map<Long, PedidoDTO> porId = new ConcurrentHashMap<>();
+	private final Map<String, Set<Long>> porEmail = new ConcurrentHashMap<>();
+	private final Map<Long, Set<Long>> porCliente = new ConcurrentHashMap<>();
+	private final Map<LocalDate, Set<Long>> porFecha = new ConcurrentHashMap<>();
+	private final BlockingQueue<Tarea> cola = new LinkedBlockingQueue<>();
+	private final Object avance = new Object();
+	private long encolados;
+	private volatile long aplicados;
+	private volatile boolean listo;
+	private Thread aplicador;
+
+	public PedidoModeloLectura(PedidoRepository pedidoRepository, PlatformTransactionManager transactionManager) {
+		this.pedidoRepository = pedidoRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		aplicador = new Thread(this::aplicar, "pedidos-modelo-lectura");
+		aplicador.setDaemon(true);
+		aplicador.start();
+		try {
+			recargar();
+		} catch (CompletionException e) {
+			// El aplicador ya registro el error y encolo otra recarga
+			log.warn(PedidoConstantes.MODELO_LECTURA_ARRANQUE_LOG);
+		}
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		if (aplicador != null) {
+			aplicador.interrupt();
+			aplicador.join();
+		}
+	}
+
+	/**
+	 * Indica si el modelo esta cargado y sincronizado; si no, las consultas deben ir a la base de datos.
+	 */
+	public boolean isListo() {
+		return listo;
+	}
+
+	/**
+	 * Espera a que el aplicador procese los cambios encolados hasta este momento, como maximo
+	 * {@value #ESPERA_MS} ms, e indica si la consulta puede responderse desde el modelo.
+	 *
+	 * @return true si el modelo esta listo e incluye todas las escrituras confirmadas antes de la llamada
+	 */
+	public boolean listoParaLeer() {
+		long objetivo;
+		synchronized (avance) {
+			objetivo = encolados;
+		}
+		if (aplicados >= objetivo || !listo) {
+			return listo;
+		}
+		long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ESPERA_MS);
+		try {
+			synchronized (avance) {
+				long restante;
+				while (aplicados < objetivo && (restante = limite - System.nanoTime()) > 0) {
+					TimeUnit.NANOSECONDS.timedWait(avance, restante);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		return listo && aplicados >= objetivo;
+	}
+
+	public int size() {
+		return porId.size();
+	}
+
+	public List<PedidoDTO> findByEmailCliente(String email) {
+		return resolver(porEmail.get(normalize(email)));
+	}
+
+	public List<PedidoDTO> findByIdCliente(Long idCliente) {
+		return resolver(porCliente.get(idCliente));
+	}
+
+	public List<PedidoDTO> findByFechaCreacion(LocalDate fechaCreacion) {
+		return resolver(porFecha.get(fechaCreacion));
+	}
+
+	/**
+	 * Vuelve a cargar el modelo completo desde la tabla y espera a que termine. La carga la ejecuta
+	 * el hilo aplicador; mientras dura, el modelo no esta listo y las consultas van a la base de
+	 * datos, y las escrituras de otros hilos solo se encolan.
+	 *
+	 * @return numero de pedidos cargados
+	 */
+	public int recargar() {
+		CompletableFuture<Integer> cargados = new CompletableFuture<>();
+		cola.add(new Recarga(cargados));
+		return cargados.join();
+	}
+
+	@TransactionalEventListener
+	public void onPedidosModificados(PedidosModificadosEvent event) {
+		List<Long> ids = List.copyOf(event.ids());
+		synchronized (avance) {
+			cola.add(new Pedidos(ids, ++encolados));
+		}
+	}
+
+	@TransactionalEventListener
+	public void onClienteModificado(ClienteModificadoEvent event) {
+		synchronized (avance) {
+			cola.add(new Cliente(event.idCliente(), ++encolados));
+		}
+	}
+
+	/**
+	 * Compara el modelo con los pedidos activos de la tabla, recorriendola por paginas. Las
+	 * escrituras concurrentes con la verificacion pueden aparecer como diferencias transitorias.
+	 *
+	 * @return resultado de la comparacion, con hasta {@value #MAX_IDS_REPORTE} ids de cada tipo
+	 */
+	public VerificacionModelo verificar() {
+		Set<Long> vistos = new HashSet<>();
+		List<Long> faltantes = new ArrayList<>();
+		List<Long> distintos = new ArrayList<>();
+		int totalFaltantes = 0;
+		int totalDistintos = 0;
+		long after = 0L;
+		List<PedidoDTO> pagina;
+		do {
+			long desde = after;
+			pagina = transactionTemplate.execute(status -> pedidoRepository.findDtoPage(desde, Limit.of(PAGINA)));
+			for (PedidoDTO pedido : pagina) {
+				vistos.add(pedido.getId());
+				PedidoDTO enMemoria = porId.get(pedido.getId());
+				if (enMemoria == null) {
+					totalFaltantes++;
+					agregar(faltantes, pedido.getId());
+				} else if (!enMemoria.equals(pedido) || !indexado(pedido)) {
+					totalDistintos++;
+					agregar(distintos, pedido.getId());
+				}
+			}
+			if (!pagina.isEmpty()) {
+				after = pagina.get(pagina.size() - 1).getId();
+			}
+		} while (pagina.size() == PAGINA);
+		List<Long> sobrantes = new ArrayList<>();
+		int totalSobrantes = 0;
+		for (Long id : porId.keySet()) {
+			if (!vistos.contains(id)) {
+				totalSobrantes++;
+				agregar(sobrantes, id);
+			}
+		}
+		return new VerificacionModelo(listo, porId.size(), vistos.size(), totalFaltantes, totalSobrantes,
+				totalDistintos, faltantes, sobrantes, distintos);
+	}
+
+	private void aplicar() {
+		List<Tarea> tareas = new ArrayList<>();
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				tareas.add(cola.take());
+				cola.drainTo(tareas, MAX_TAREAS - 1);
+				procesar(tareas);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				tareas.clear();
+			}
+		}
+	}
+
+	/**
+	 * Procesa en orden un grupo de tareas, agrupando los pedidos y clientes modificados para
+	 * releerlos una sola vez, y publica la secuencia del ultimo cambio procesado.
+	 */
+	private void procesar(List<Tarea> tareas) throws InterruptedException {
+		Set<Long> pedidos = new LinkedHashSet<>();
+		Set<Long> clientes = new LinkedHashSet<>();
+		long secuencia = 0;
+		for (Tarea tarea : tareas) {
+			if (tarea instanceof Pedidos modificados) {
+				secuencia = Math.max(secuencia, modificados.secuencia());
+			} else if (tarea instanceof Cliente modificado) {
+				secuencia = Math.max(secuencia, modificado.secuencia());
+			}
+		}
+		try {
+			procesar(tareas, pedidos, clientes);
+		} finally {
+			// Tambien tras un error: el modelo queda no listo y las consultas van a la base de datos
+			synchronized (avance) {
+				aplicados = Math.max(aplicados, secuencia);
+				avance.notifyAll();
+			}
+		}
+	}
+
+	private void procesar(List<Tarea> tareas, Set<Long> pedidos, Set<Long> clientes) throws InterruptedException {
+		for (Tarea tarea : tareas) {
+			if (tarea instanceof Pedidos modificados) {
+				pedidos.addAll(modificados.ids());
+			} else if (tarea instanceof Cliente modificado) {
+				clientes.add(modificado.id());
+			} else if (tarea instanceof Recarga recarga) {
+				// La carga lee todo lo confirmado antes de encolarla
+				pedidos.clear();
+				clientes.clear();
+				cargar(recarga.cargados());
+			}
+		}
+		releer(pedidos, clientes);
+	}
+
+	private void cargar(CompletableFuture<Integer> cargados) throws InterruptedException {
+		try {
+			listo = false;
+			porId.clear();
+			porEmail.clear();
+			porCliente.clear();
+			porFecha.clear();
+			long after = 0L;
+			List<PedidoDTO> pagina;
+			do {
+				long desde = after;
+				pagina = transactionTemplate.execute(status -> pedidoRepository.findDtoPage(desde, Limit.of(PAGINA)));
+				pagina.forEach(this::indexar);
+				if (!pagina.isEmpty()) {
+					after = pagina.get(pagina.size() - 1).getId();
+				}
+			} while (pagina.size() == PAGINA);
+			listo = true;
+			log.info(PedidoConstantes.MODELO_LECTURA_CARGADO_LOG, porId.size());
+			cargados.complete(porId.size());
+		} catch (RuntimeException e) {
+			cargados.completeExceptionally(e);
+			reintentar(e);
+		}
+	}
+
+	private void releer(Set<Long> pedidos, Set<Long> clientes) throws InterruptedException {
+		if (!listo) {
+			// La recarga pendiente incluira estos cambios
+			pedidos.clear();
+			clientes.clear();
+			return;
+		}
+		try {
+			List<Long> ids = new ArrayList<>(pedidos);
+			for (int i = 0; i < ids.size(); i += BLOQUE_RELECTURA) {
+				List<Long> bloque = ids.subList(i, Math.min(i + BLOQUE_RELECTURA, ids.size()));
+				Set<Long> pendientes = new HashSet<>(bloque);
+				for (PedidoDTO pedido : transactionTemplate.execute(status -> pedidoRepository.findDtoByIdIn(bloque))) {
+					reemplazar(pedido);
+					pendientes.remove(pedido.getId());
+				}
+				pendientes.forEach(this::eliminar);
+			}
+			for (Long idCliente : clientes) {
+				Set<Long> anteriores = new HashSet<>(porCliente.getOrDefault(idCliente, Set.of()));
+				for (PedidoDTO pedido : transactionTemplate.execute(
+						status -> pedidoRepository.findDtoByIdClienteId(idCliente))) {
+					reemplazar(pedido);
+					anteriores.remove(pedido.getId());
+				}
+				anteriores.forEach(this::eliminar);
+			}
+		} catch (RuntimeException e) {
+			reintentar(e);
+		} finally {
+			pedidos.clear();
+			clientes.clear();
+		}
+	}
+
+	/**
+	 * Marca el modelo como no listo y encola una recarga despues de {@value #REINTENTO_MS} ms.
+	 */
+	private void reintentar(RuntimeException e) throws InterruptedException {
+		listo = false;
+		log.error(PedidoConstantes.MODELO_LECTURA_ERROR_LOG, REINTENTO_MS, e);
+		Thread.sleep(REINTENTO_MS);
+		cola.add(new Recarga(new CompletableFuture<>()));
+	}
+
+	private List<PedidoDTO> resolver(Set<Long> ids) {
+		if (ids == null) {
+			return List.of();
+		}
+		List<PedidoDTO> pedidos = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			PedidoDTO pedido = porId.get(id);
+			if (pedido != null) {
+				pedidos.add(pedido);
+			}
+		}
+		return pedidos;
+	}
+
+	private void reemplazar(PedidoDTO pedido) {
+		eliminar(pedido.getId());
+		indexar(pedido);
+	}
+
+	private void indexar(PedidoDTO pedido) {
+		Long id = pedido.getId();
+		porId.put(id, pedido);
+		agregarIndice(porEmail, normalize(pedido.getEmailPedido()), id);
+		agregarIndice(porCliente, clienteDe(pedido), id);
+		agregarIndice(porFecha, pedido.getFechaCreacion(), id);
+	}
+
+	private void eliminar(Long id) {
+		PedidoDTO anterior = porId.remove(id);
+		if (anterior != null) {
+			quitarIndice(porEmail, normalize(anterior.getEmailPedido()), id);
+			quitarIndice(porCliente, clienteDe(anterior), id);
+			quitarIndice(porFecha, anterior.getFechaCreacion(), id);
+		}
+	}
+
+	private boolean indexado(PedidoDTO pedido) {
+		return contiene(porEmail, normalize(pedido.getEmailPedido()), pedido.getId())
+				&& contiene(porCliente, clienteDe(pedido), pedido.getId())
+				&& contiene(porFecha, pedido.getFechaCreacion(), pedido.getId());
+	}
+
+	private static <K> void agregarIndice(Map<K, Set<Long>> indice, K clave, Long id) {
+		if (clave != null) {
+			indice.computeIfAbsent(clave, k -> new ConcurrentSkipListSet<>()).add(id);
+		}
+	}
+
+	private static <K> void quitarIndice(Map<K, Set<Long>> indice, K clave, Long id) {
+		if (clave != null) {
+			indice.computeIfPresent(clave, (k, ids) -> ids.remove(id) && ids.isEmpty() ? null : ids);
+		}
+	}
+
+	private static <K> boolean contiene(Map<K, Set<Long>> indice, K clave, Long id) {
+		return clave == null || indice.getOrDefault(clave, Set.of()).contains(id);
+	}
+
+	private static void agregar(List<Long> ids, Long id) {
+		if (ids.size() < MAX_IDS_REPORTE) {
+			ids.add(id);
+		}
+	}
+
+	private static Long clienteDe(PedidoDTO pedido) {
+		return pedido.getIdCliente() == null ? null : pedido.getIdCliente().getId();
+	}
+
+	private static String normalize(String email) {
+		return email == null ? null : email.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Resultado de {@link PedidoModeloLectura#verificar()}.
+	 */
+	public record VerificacionModelo(boolean listo, int enMemoria, int enTabla, int faltantes, int sobrantes,
+			int distintos, List<Long> idsFaltantes, List<Long> idsSobrantes, List<Long> idsDistintos) {
+
+		public boolean isConsistente() {
+			return faltantes == 0 && sobrantes == 0 && distintos == 0;
+		}
+	}
+
+	/**
+	 * Pedidos creados, modificados o eliminados en la transaccion actual.
+	 */
+	public record PedidosModificadosEvent(Collection<Long> ids) {
+	}
+
+	/**
+	 * Cliente modificado o eliminado en la transaccion actual; sus datos van dentro de cada pedido.
+	 */
+	public record ClienteModificadoEvent(Long idCliente) {
+	}
+
+	/**
+	 * Trabajo pendiente del hilo aplicador.
+	 */
+	private sealed interface Tarea permits Pedidos, Cliente, Recarga {
+	}
+
+	private record Pedidos(Collection<Long> ids, long secuencia) implements Tarea {
+	}
+
+	private record Cliente(Long id, long secuencia) implements Tarea {
+	}
+
+	private record Recarga(CompletableFuture<Integer> cargados) implements Tarea {
+	}
+
+}
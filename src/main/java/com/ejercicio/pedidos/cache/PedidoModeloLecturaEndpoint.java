@@ -0,0 +1,38 @@
+package com.ejercicio.pedidos.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.ejercicio.pedidos.cache.PedidoModeloLectura.VerificacionModelo;
+import com.ejercicio.pedidos.utils.PedidoConstantes;
+
+/**
+ * Endpoint de Actuator ({@code /actuator/modelolectura}) del modelo de lectura de pedidos: GET
+ * compara el modelo con la tabla y devuelve faltantes, sobrantes y distintos.
+ *
+ * <p>La comparacion recorre la tabla completa, por lo que el endpoint no se expone por defecto; se
+ * agrega a {@code management.endpoints.web.exposure.include} solo en entornos donde el acceso a
+ * Actuator este restringido. El modelo se recarga solo tras un error de sincronizacion.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "modelolectura")
+@ConditionalOnProperty(name = PedidoConstantes.MODELO_LECTURA_PROPERTY, havingValue = "true")
+public class PedidoModeloLecturaEndpoint {
+
+	private final PedidoModeloLectura modeloLectura;
+
+	public PedidoModeloLecturaEndpoint(PedidoModeloLectura modeloLectura) {
+		this.modeloLectura = modeloLectura;
+	}
+
+	@ReadOperation
+	public VerificacionModelo verificar() {
+		return modeloLectura.verificar();
+	}
+
+}
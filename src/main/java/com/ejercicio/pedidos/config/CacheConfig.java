@@ -0,0 +1,40 @@
+package com.ejercicio.pedidos.config;
+
+import java.net.URI;
+
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Habilita la abstraccion de cache de Spring. El proveedor (Caffeine), los nombres de cache
+ * y la politica de expulsion por tamano y TTL se configuran en application.properties
+ * ({@code spring.cache.*}).
+ *
+ * <p>Tambien entrega a Hibernate el {@code CacheManager} de JCache para la cache de segundo
+ * nivel, creado por Caffeine a partir de {@value #JCACHE_CONFIG}. Con
+ * {@code hibernate.javax.cache.uri} Hibernate convierte el nombre en una URL del class loader,
+ * que dentro del jar empaquetado tiene el esquema {@code jar:} y Caffeine no sabe leer; en ese
+ * caso usaba su configuracion por defecto y, con {@code missing_cache_strategy=fail}, la
+ * aplicacion no arrancaba.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	static final String JCACHE_CONFIG = "classpath:hibernate-jcache.conf";
+
+	@Bean
+	public HibernatePropertiesCustomizer jcacheHibernateCustomizer() {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER,
+				Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+						.getCacheManager(URI.create(JCACHE_CONFIG), CacheConfig.class.getClassLoader()));
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.ejercicio.pedidos.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aplica las migraciones de Flyway al arrancar, salvo con {@code pedidos.flyway.migrar=false}.
+ *
+ * <p>La propiedad se lee en tiempo de ejecucion, a diferencia de {@code spring.flyway.enabled},
+ * que en un artefacto procesado con Spring AOT queda fijada al compilar. La usa la corrida de
+ * entrenamiento del archivo CDS (perfil de Maven {@code arranque}), que arranca el contexto sin
+ * base de datos.
+ */
+@Slf4j
+@Configuration
+public class FlywayConfig {
+
+	public static final String MIGRAR_PROPERTY = "pedidos.flyway.migrar";
+	private static final String OMITIDAS_LOG = "Migraciones de Flyway omitidas ({}=false)";
+
+	@Bean
+	public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+		return flyway -> {
+			if (environment.getProperty(MIGRAR_PROPERTY, Boolean.class, true)) {
+				flyway.migrate();
+			} else {
+				log.info(OMITIDAS_LOG, MIGRAR_PROPERTY);
+			}
+		};
+	}
+
+}
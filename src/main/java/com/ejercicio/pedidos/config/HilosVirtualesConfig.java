@@ -0,0 +1,27 @@
+package com.ejercicio.pedidos.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Detiene el arranque si los hilos virtuales estan habilitados (perfil {@code virtual}) sobre un
+ * JRE anterior a Java 21. Spring Boot ignora {@code spring.threads.virtual.enabled} en esos JRE y
+ * la aplicacion arrancaria con hilos de plataforma sin avisar.
+ */
+@Configuration
+@ConditionalOnProperty(name = HilosVirtualesConfig.VIRTUAL_PROPERTY, havingValue = "true")
+public class HilosVirtualesConfig {
+
+	public static final String VIRTUAL_PROPERTY = "spring.threads.virtual.enabled";
+	private static final int JAVA_MINIMO = 21;
+	private static final String JRE_NO_SOPORTADO_MSG = "Los hilos virtuales (%s=true) requieren Java %d o superior; "
+			+ "JRE actual: %s. Compilar con -P java21 y ejecutar con Java 21";
+
+	public HilosVirtualesConfig() {
+		if (Runtime.version().feature() < JAVA_MINIMO) {
+			throw new IllegalStateException(String.format(JRE_NO_SOPORTADO_MSG, VIRTUAL_PROPERTY, JAVA_MINIMO,
+					Runtime.version()));
+		}
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.ejercicio.pedidos.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registra el aspecto de Micrometer que mide los metodos anotados con {@code @Timed}.
+ * Los servicios se anotan a nivel de clase, de modo que cada metodo publico genera el timer
+ * {@code pedidos.servicio} con las etiquetas {@code class}, {@code method} y {@code exception}.
+ *
+ * <p>Las metricas de repositorios ({@code spring.data.repository.invocations}), del pool de
+ * Hikari ({@code hikaricp.connections.*}) y de Hibernate ({@code hibernate.*}) las configura
+ * Spring Boot Actuator; los histogramas se habilitan en application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+		return new TimedAspect(meterRegistry);
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.ejercicio.pedidos.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.ejercicio.pedidos.datasource.EnrutamientoDataSource;
+import com.ejercicio.pedidos.datasource.EscrituraConfirmadaListener;
+import com.ejercicio.pedidos.utils.ReplicaConstantes;
+import com.ejercicio.pedidos.web.LecturaPropiaFilter;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Replica de lectura opcional ({@code pedidos.replica.habilitada=true}).
+ *
+ * <p>Reemplaza el {@code DataSource} de Spring Boot por dos pools de Hikari y un
+ * {@link EnrutamientoDataSource} que decide en cada transaccion a cual ir:
+ * <ul>
+ *   <li>Primaria: {@code spring.datasource.*} y {@code spring.datasource.hikari.*}</li>
+ *   <li>Replica: {@code pedidos.replica.datasource.*} (propiedades de Hikari, p. ej.
+ *   {@code jdbc-url} y {@code maximum-pool-size})</li>
+ *   <li>Ventana de lectura de escrituras propias: {@code pedidos.replica.lectura-propia}, con
+ *   una marca firmada con {@code pedidos.replica.lectura-propia-clave} ({@link LecturaPropiaFilter});
+ *   las escrituras confirmadas las registra {@link EscrituraConfirmadaListener}</li>
+ * </ul>
+ * Hibernate libera la conexion al terminar cada transaccion en lugar de conservarla durante toda
+ * la peticion, de modo que cada transaccion vuelve a elegir su destino.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = ReplicaConstantes.REPLICA_PROPERTY, havingValue = "true")
+public class ReplicaConfig {
+
+	@Bean
+	@ConfigurationProperties(ReplicaConstantes.PRIMARIA_HIKARI_PREFIX)
+	public HikariDataSource primariaDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName(ReplicaConstantes.PRIMARIA_POOL);
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties(ReplicaConstantes.REPLICA_DATASOURCE_PREFIX)
+	public HikariDataSource replicaDataSource() {
+		HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+		dataSource.setPoolName(ReplicaConstantes.REPLICA_POOL);
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primariaDataSource") DataSource primaria,
+			@Qualifier("replicaDataSource") DataSource replica) {
+		EnrutamientoDataSource enrutamiento = new EnrutamientoDataSource(primaria, replica);
+		enrutamiento.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(enrutamiento);
+	}
+
+	@Bean
+	public EscrituraConfirmadaListener escrituraConfirmadaListener() {
+		return new EscrituraConfirmadaListener();
+	}
+
+	@Bean
+	public LecturaPropiaFilter lecturaPropiaFilter(@Value("${pedidos.replica.lectura-propia:PT5S}") Duration lecturaPropia,
+			@Value("${pedidos.replica.lectura-propia-clave:}") String clave) {
+		LecturaPropiaFilter filter = new LecturaPropiaFilter(lecturaPropia, clave);
+		log.info(ReplicaConstantes.REPLICA_HABILITADA_LOG, ReplicaConstantes.CABECERA_LECTURA_PRIMARIA, lecturaPropia);
+		return filter;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer liberarConexionHibernateCustomizer() {
+		return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+				PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+	}
+
+}
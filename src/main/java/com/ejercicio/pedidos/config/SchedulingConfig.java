@@ -0,0 +1,15 @@
+package com.ejercicio.pedidos.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas periodicas ({@code @Scheduled}), como la reconstruccion del filtro de
+ * emails. Las tareas usan el planificador de un solo hilo que configura Spring Boot
+ * ({@code spring.task.scheduling.*}).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,39 @@
+package com.ejercicio.pedidos.config;
+
+import java.lang.reflect.Method;
+
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.servlet.mvc.condition.RequestCondition;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.ejercicio.pedidos.web.Preferencia;
+import com.ejercicio.pedidos.web.PreferenciaRequestCondition;
+
+/**
+ * Registra la condicion de mapeo de {@link Preferencia}: los metodos anotados solo atienden las
+ * peticiones con esa preferencia en la cabecera {@code Prefer}, y tienen prioridad sobre los
+ * metodos de la misma ruta sin la anotacion.
+ */
+@Configuration
+public class WebConfig {
+
+	@Bean
+	public WebMvcRegistrations preferenciaRegistrations() {
+		return new WebMvcRegistrations() {
+			@Override
+			public RequestMappingHandlerMapping getRequestMappingHandlerMapping() {
+				return new RequestMappingHandlerMapping() {
+					@Override
+					protected RequestCondition<?> getCustomMethodCondition(Method method) {
+						Preferencia preferencia = AnnotatedElementUtils.findMergedAnnotation(method, Preferencia.class);
+						return preferencia == null ? null : new PreferenciaRequestCondition(preferencia.value());
+					}
+				};
+			}
+		};
+	}
+
+}
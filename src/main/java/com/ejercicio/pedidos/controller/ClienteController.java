@@ -1,23 +1,31 @@
 package com.ejercicio.pedidos.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.ejercicio.pedidos.exceptions.BadRequestException;
 import com.ejercicio.pedidos.exceptions.NoContentException;
 import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.model.ClienteCamposResponse;
 import com.ejercicio.pedidos.model.ClienteDTO;
 import com.ejercicio.pedidos.model.ClienteResponse;
 import com.ejercicio.pedidos.model.ClienteResponseSave;
 import com.ejercicio.pedidos.service.IClienteService;
+import com.ejercicio.pedidos.utils.CamposUtils;
+import com.ejercicio.pedidos.utils.EtagUtils;
 
 import jakarta.validation.Valid;
 
@@ -33,14 +41,49 @@ public class ClienteController {
 	
 	@ResponseStatus(HttpStatus.OK)
 	@GetMapping("/clientes")
-	public ClienteResponse readAll() throws NoContentException {
-		return clienteService.readAll();
+	public ClienteResponse readAll(@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String after) throws NoContentException, BadRequestException {
+		return clienteService.readAll(limit, after);
 	}
 	
+	/**
+	 * Variante de las consultas con {@code fields}: la respuesta y el SELECT incluyen solo los
+	 * campos solicitados (y siempre el id).
+	 */
 	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/clientes", params = CamposUtils.PARAM)
+	public ClienteCamposResponse readAllCampos(@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String after, @RequestParam String fields)
+			throws NoContentException, BadRequestException {
+		return clienteService.readAll(limit, after, fields);
+	}
+	
+	/**
+	 * Responde 304 si el ETag recibido en {@code If-None-Match} coincide con la version actual,
+	 * sin consultar ni serializar el cliente. En la respuesta 200 el ETag sale de la version que
+	 * viaja con el DTO (tambien en cache), de modo que siempre corresponde con los datos enviados.
+	 */
 	@GetMapping("/clientes/{id}")
-	public ClienteResponse readById(@PathVariable Long id) throws NotFoundException{
-		return clienteService.readById(id);
+	public ResponseEntity<ClienteResponse> readById(@PathVariable Long id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+			throws NotFoundException {
+		String etag = EtagUtils.etag(clienteService.readVersionById(id));
+		if (EtagUtils.noModificado(ifNoneMatch, etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+		}
+		ClienteResponse clienteResponse = clienteService.readById(id);
+		return ResponseEntity.ok().eTag(EtagUtils.etag(clienteResponse.getClientes().get(0).getVersion()))
+				.body(clienteResponse);
+	}
+	
+	/**
+	 * Sin ETag: la representacion parcial no es la que identifica la version del cliente.
+	 */
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/clientes/{id}", params = CamposUtils.PARAM)
+	public ClienteCamposResponse readByIdCampos(@PathVariable Long id, @RequestParam String fields)
+			throws NotFoundException, BadRequestException {
+		return clienteService.readById(id, fields);
 	}
 	
 	@ResponseStatus(HttpStatus.CREATED)
@@ -51,11 +94,19 @@ public class ClienteController {
 	
 	@ResponseStatus(HttpStatus.CREATED)
 	@PutMapping("/usuarios/{id}")
-	public ClienteResponseSave update(@PathVariable Long id, @RequestBody @Valid ClienteDTO clienteDTO) throws NotFoundException {
+	public ClienteResponseSave update(@PathVariable Long id, @RequestBody @Valid ClienteDTO clienteDTO)
+			throws NotFoundException, BadRequestException {
 		clienteDTO.setId(id);
 		return clienteService.update(id, clienteDTO);
 	} 
 	
+	@ResponseStatus(HttpStatus.OK)
+	@PatchMapping("/usuarios/{id}")
+	public ClienteResponseSave patch(@PathVariable Long id, @RequestBody ClienteDTO clienteDTO)
+			throws NotFoundException, BadRequestException {
+		return clienteService.patch(id, clienteDTO);
+	}
+	
 	@ResponseStatus(HttpStatus.OK)
 	@DeleteMapping("/usuarios/{id}")
 	public ClienteResponseSave deleteById(@PathVariable Long id) throws NotFoundException {
@@ -67,5 +118,12 @@ public class ClienteController {
 	public ClienteResponse findByEmail(@RequestParam @Valid String email) throws NotFoundException {
 		return clienteService.findByEmail(email);
 	}
+	
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/usuarios/email", params = CamposUtils.PARAM)
+	public ClienteCamposResponse findByEmailCampos(@RequestParam String email, @RequestParam String fields)
+			throws NotFoundException, BadRequestException {
+		return clienteService.findByEmail(email, fields);
+	}
 
 }
@@ -1,28 +1,44 @@
 package com.ejercicio.pedidos.controller;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.ejercicio.pedidos.entity.Cliente;
+import com.ejercicio.pedidos.exceptions.BadRequestException;
 import com.ejercicio.pedidos.exceptions.NoContentException;
 import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.mapper.impl.PedidoResponseToCompacto;
+import com.ejercicio.pedidos.model.PedidoBatchItem;
+import com.ejercicio.pedidos.model.PedidoCamposResponse;
+import com.ejercicio.pedidos.model.PedidoCompactoResponse;
 import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.model.PedidoEliminacionResponse;
 import com.ejercicio.pedidos.model.PedidoResponse;
 import com.ejercicio.pedidos.model.PedidoResponseSave;
+import com.ejercicio.pedidos.model.PedidoResumenResponse;
 import com.ejercicio.pedidos.service.impl.PedidoService;
+import com.ejercicio.pedidos.utils.CamposUtils;
+import com.ejercicio.pedidos.utils.EtagUtils;
+import com.ejercicio.pedidos.utils.PedidoConstantes;
 
 import jakarta.validation.Valid;
 
@@ -32,22 +48,69 @@ import jakarta.validation.Valid;
 public class PedidoController {
 	
 	private final PedidoService pedidoService;
+	private final PedidoResponseToCompacto mapperCompacto;
 
 	
-	private PedidoController(PedidoService pedidoService) {
+	private PedidoController(PedidoService pedidoService, PedidoResponseToCompacto mapperCompacto) {
 		this.pedidoService = pedidoService;
+		this.mapperCompacto = mapperCompacto;
 	}
 
 	@ResponseStatus(HttpStatus.OK)
 	@GetMapping("/pedidos")
-	public PedidoResponse readAll() throws NoContentException {
-		return pedidoService.readAll();
+	public PedidoResponse readAll(@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String after) throws NoContentException, BadRequestException {
+		return pedidoService.readAll(limit, after);
 	}
 	
+	/**
+	 * Variante de las consultas de listas con {@code formato=compacto}: cada pedido lleva solo el id
+	 * del cliente y los clientes distintos se envían una vez en {@code clientes}.
+	 */
 	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/pedidos", params = PedidoConstantes.FORMATO_COMPACTO)
+	public PedidoCompactoResponse readAllCompacto(@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String after) throws NoContentException, BadRequestException {
+		return mapperCompacto.map(pedidoService.readAll(limit, after));
+	}
+	
+	/**
+	 * Variante de las consultas con {@code fields}: la respuesta y el SELECT incluyen solo los
+	 * campos solicitados (y siempre el id). No se combina con {@code formato=compacto}.
+	 */
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/pedidos", params = { CamposUtils.PARAM, PedidoConstantes.SIN_FORMATO })
+	public PedidoCamposResponse readAllCampos(@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String after, @RequestParam String fields)
+			throws NoContentException, BadRequestException {
+		return pedidoService.readAll(limit, after, fields);
+	}
+	
+	/**
+	 * Responde 304 si el ETag recibido en {@code If-None-Match} coincide con la version actual,
+	 * sin consultar ni serializar el pedido. La version se lee antes que el pedido: si cambia entre
+	 * ambas lecturas, el ETag enviado queda atrasado y la siguiente peticion recibe 200, nunca un
+	 * 304 con datos anteriores.
+	 */
 	@GetMapping("/pedidos/{id}")
-	public PedidoResponse readById(@PathVariable Long id) throws NotFoundException {
-		return pedidoService.readById(id);
+	public ResponseEntity<PedidoResponse> readById(@PathVariable Long id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+			throws NotFoundException {
+		String etag = EtagUtils.etag(pedidoService.readVersionById(id));
+		if (EtagUtils.noModificado(ifNoneMatch, etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+		}
+		return ResponseEntity.ok().eTag(etag).body(pedidoService.readById(id));
+	}
+	
+	/**
+	 * Sin ETag: la representacion parcial no es la que identifica la version del pedido.
+	 */
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/pedidos/{id}", params = CamposUtils.PARAM)
+	public PedidoCamposResponse readByIdCampos(@PathVariable Long id, @RequestParam String fields)
+			throws NotFoundException, BadRequestException {
+		return pedidoService.readById(id, fields);
 	}
 	
 	@ResponseStatus(HttpStatus.CREATED)
@@ -56,36 +119,134 @@ public class PedidoController {
 		return pedidoService.insert(pedidoDTO);
 	}
 	
+	@ResponseStatus(HttpStatus.CREATED)
+	@PostMapping("/pedidos/batch")
+	public List<PedidoBatchItem> insertBatch(@RequestBody List<PedidoDTO> pedidoDTOs) throws BadRequestException {
+		return pedidoService.insertBatch(pedidoDTOs);
+	}
+	
 	@ResponseStatus(HttpStatus.CREATED)
 	@PutMapping("/pedidos/{id}")
-	public PedidoResponseSave update(@PathVariable Long id, @RequestBody @Valid PedidoDTO pedidoDTO) throws NotFoundException {
+	public PedidoResponseSave update(@PathVariable Long id, @RequestBody @Valid PedidoDTO pedidoDTO)
+			throws NotFoundException, BadRequestException {
 		pedidoDTO.setId(id);
 		return pedidoService.update(id, pedidoDTO);
 	}
 	
+	@ResponseStatus(HttpStatus.OK)
+	@PatchMapping("/pedidos/{id}")
+	public PedidoResponseSave patch(@PathVariable Long id, @RequestBody PedidoDTO pedidoDTO)
+			throws NotFoundException, BadRequestException {
+		return pedidoService.patch(id, pedidoDTO);
+	}
+	
 	@ResponseStatus(HttpStatus.OK)
 	@DeleteMapping("/pedidos/{id}")
 	public PedidoResponseSave deleteById(@PathVariable Long id) throws NotFoundException {
 		return pedidoService.deleteById(id);
 	}
 	
+	@ResponseStatus(HttpStatus.OK)
+	@DeleteMapping("/pedidos")
+	public PedidoEliminacionResponse deleteByIds(@RequestBody List<Long> ids) throws BadRequestException, NotFoundException {
+		return pedidoService.deleteByIds(ids);
+	}
+	
 	@ResponseStatus(HttpStatus.OK)
 	@GetMapping("/pedidos/id_cliente")
-	public PedidoResponse readByIdCliente(@RequestParam Cliente idCliente) throws NotFoundException {
+	public PedidoResponse readByIdCliente(@RequestParam Long idCliente) throws NotFoundException {
 		return pedidoService.readByIdCliente(idCliente);
 	}
 	
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/pedidos/id_cliente", params = PedidoConstantes.FORMATO_COMPACTO)
+	public PedidoCompactoResponse readByIdClienteCompacto(@RequestParam Long idCliente) throws NotFoundException {
+		return mapperCompacto.map(pedidoService.readByIdCliente(idCliente));
+	}
+	
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/pedidos/id_cliente", params = { CamposUtils.PARAM, PedidoConstantes.SIN_FORMATO })
+	public PedidoCamposResponse readByIdClienteCampos(@RequestParam Long idCliente, @RequestParam String fields)
+			throws NotFoundException, BadRequestException {
+		return pedidoService.readByIdCliente(idCliente, fields);
+	}
+	
 	@ResponseStatus(HttpStatus.OK)
 	@GetMapping("/pedidos/email")
 	public PedidoResponse readByEmailCliente(@RequestParam String emailCliente) throws NotFoundException {
 		return pedidoService.readByemailCliente(emailCliente);
 	}
 	
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/pedidos/email", params = PedidoConstantes.FORMATO_COMPACTO)
+	public PedidoCompactoResponse readByEmailClienteCompacto(@RequestParam String emailCliente)
+			throws NotFoundException {
+		return mapperCompacto.map(pedidoService.readByemailCliente(emailCliente));
+	}
+	
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/pedidos/email", params = { CamposUtils.PARAM, PedidoConstantes.SIN_FORMATO })
+	public PedidoCamposResponse readByEmailClienteCampos(@RequestParam String emailCliente,
+			@RequestParam String fields) throws NotFoundException, BadRequestException {
+		return pedidoService.readByemailCliente(emailCliente, fields);
+	}
+	
 	@ResponseStatus(HttpStatus.OK)
 	@GetMapping("/pedidos/fecha_creacion")
 	public PedidoResponse readByFechaCreacion(
-			@RequestParam  @DateTimeFormat(iso = ISO.DATE)   LocalDate  fechaCreacion) throws NotFoundException {
-		return pedidoService.readByFechaCreacion(fechaCreacion);
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate fechaCreacion,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate desde,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate hasta,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String after) throws NotFoundException, BadRequestException {
+		if (fechaCreacion != null) {
+			return pedidoService.readByFechaCreacion(fechaCreacion);
+		}
+		return pedidoService.readByFechaCreacion(desde, hasta, limit, after);
+	}
+	
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/pedidos/fecha_creacion", params = PedidoConstantes.FORMATO_COMPACTO)
+	public PedidoCompactoResponse readByFechaCreacionCompacto(
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate fechaCreacion,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate desde,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate hasta,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String after) throws NotFoundException, BadRequestException {
+		return mapperCompacto.map(readByFechaCreacion(fechaCreacion, desde, hasta, limit, after));
+	}
+	
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping(value = "/pedidos/fecha_creacion", params = { CamposUtils.PARAM, PedidoConstantes.SIN_FORMATO })
+	public PedidoCamposResponse readByFechaCreacionCampos(
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate fechaCreacion,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate desde,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate hasta,
+			@RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String after,
+			@RequestParam String fields) throws NotFoundException, BadRequestException {
+		if (fechaCreacion != null) {
+			return pedidoService.readByFechaCreacion(fechaCreacion, fields);
+		}
+		return pedidoService.readByFechaCreacion(desde, hasta, limit, after, fields);
+	}
+	
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping("/pedidos/resumen")
+	public PedidoResumenResponse resumen(
+			@RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate desde,
+			@RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate hasta,
+			@RequestParam(defaultValue = "false") boolean porProducto) throws NotFoundException, BadRequestException {
+		return pedidoService.resumen(desde, hasta, porProducto);
+	}
+	
+	@GetMapping(value = "/pedidos/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> export(
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate desde,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate hasta,
+			@RequestParam(required = false) String emailCliente) {
+		StreamingResponseBody body = out -> pedidoService.exportNdjson(desde, hasta, emailCliente, out);
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
 	}
 
 }
@@ -0,0 +1,73 @@
+package com.ejercicio.pedidos.controller;
+
+import java.net.URI;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.exceptions.ServiceUnavailableException;
+import com.ejercicio.pedidos.exceptions.TooManyRequestsException;
+import com.ejercicio.pedidos.ingesta.PedidoIngesta;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.model.PedidoIngestaResponse;
+import com.ejercicio.pedidos.utils.PedidoConstantes;
+import com.ejercicio.pedidos.web.Preferencia;
+
+import jakarta.validation.Valid;
+
+/**
+ * Alta asincrona de pedidos. Con la ingesta habilitada, un {@code POST /pedidos} cuya cabecera
+ * {@code Prefer} incluye {@code respond-async} (junto a otras preferencias o no) se encola y
+ * responde 202 con un ticket; sin esa preferencia se atiende en {@link PedidoController} con su
+ * propia transaccion, como siempre. Con la cola llena responde 429; mientras la aplicacion se
+ * detiene, 503 con {@code Retry-After}.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnProperty(name = PedidoConstantes.INGESTA_PROPERTY, havingValue = "true")
+public class PedidoIngestaController {
+
+	private final PedidoIngesta pedidoIngesta;
+
+	private PedidoIngestaController(PedidoIngesta pedidoIngesta) {
+		this.pedidoIngesta = pedidoIngesta;
+	}
+
+	@PostMapping("/pedidos")
+	@Preferencia(PedidoConstantes.INGESTA_PREFERENCIA)
+	public ResponseEntity<PedidoIngestaResponse> insert(@RequestBody @Valid PedidoDTO pedidoDTO)
+			throws TooManyRequestsException, ServiceUnavailableException {
+		PedidoIngestaResponse respuesta = pedidoIngesta.aceptar(pedidoDTO);
+		URI ticket = ServletUriComponentsBuilder.fromCurrentContextPath()
+				.path("/api/v1/pedidos/ingesta/{ticket}").buildAndExpand(respuesta.getTicket()).toUri();
+		return ResponseEntity.accepted().location(ticket)
+				.header("Preference-Applied", PedidoConstantes.INGESTA_PREFERENCIA)
+				.body(respuesta);
+	}
+
+	@ResponseStatus(HttpStatus.OK)
+	@GetMapping("/pedidos/ingesta/{ticket}")
+	public PedidoIngestaResponse consultar(@PathVariable String ticket) throws NotFoundException {
+		return pedidoIngesta.consultar(ticket);
+	}
+
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<PedidoIngestaResponse> detenida(ServiceUnavailableException e) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(PedidoConstantes.INGESTA_REINTENTO_SEGUNDOS))
+				.body(new PedidoIngestaResponse(null, null, null, HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage()));
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.ejercicio.pedidos.datasource;
+
+/**
+ * Indicacion ligada al hilo para {@link EnrutamientoDataSource}: si las lecturas de la peticion
+ * actual deben ir a la primaria.
+ *
+ * <p>Solo existe dentro de un ambito abierto con {@link #iniciar(boolean, Runnable)} y cerrado con
+ * {@link #limpiar()} (lo hace el filtro web de lectura de escrituras propias); fuera de el, las
+ * escrituras no se registran y las lecturas siguen las reglas normales.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+public final class EnrutamientoContexto {
+
+	private static final ThreadLocal<Estado> ESTADO = new ThreadLocal<>();
+
+	private EnrutamientoContexto() {}
+
+	/**
+	 * Abre el ambito del hilo actual.
+	 *
+	 * @param fijadaEnPrimaria true si la peticion trae una marca de lectura propia vigente
+	 * @param alEscribir accion a ejecutar al confirmarse la primera escritura del ambito
+	 */
+	public static void iniciar(boolean fijadaEnPrimaria, Runnable alEscribir) {
+		ESTADO.set(new Estado(fijadaEnPrimaria, alEscribir));
+	}
+
+	public static void limpiar() {
+		ESTADO.remove();
+	}
+
+	/**
+	 * Registra que se confirmo una transaccion de escritura en el ambito actual, si lo hay.
+	 */
+	public static void registrarEscritura() {
+		Estado estado = ESTADO.get();
+		if (estado != null && !estado.escribio) {
+			estado.escribio = true;
+			estado.alEscribir.run();
+		}
+	}
+
+	/**
+	 * Indica si las lecturas deben ir a la primaria: la peticion esta dentro de una ventana de
+	 * lectura propia o ya escribio.
+	 */
+	public static boolean leerDePrimaria() {
+		Estado estado = ESTADO.get();
+		return estado != null && (estado.fijadaEnPrimaria || estado.escribio);
+	}
+
+	private static final class Estado {
+
+		private final boolean fijadaEnPrimaria;
+		private final Runnable alEscribir;
+		private boolean escribio;
+
+		private Estado(boolean fijadaEnPrimaria, Runnable alEscribir) {
+			this.fijadaEnPrimaria = fijadaEnPrimaria;
+			this.alEscribir = alEscribir;
+		}
+	}
+
+}
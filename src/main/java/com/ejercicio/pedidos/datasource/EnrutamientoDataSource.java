@@ -0,0 +1,46 @@
+package com.ejercicio.pedidos.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Enruta cada conexion a la base de datos primaria o a la replica de lectura.
+ *
+ * <p>Reglas:
+ * <ul>
+ *   <li>Las transacciones de solo lectura ({@code @Transactional(readOnly = true)}, incluidos los
+ *   metodos de lectura de los repositorios) van a la replica, salvo que {@link EnrutamientoContexto}
+ *   indique que el hilo debe leer de la primaria (ventana de lectura de escrituras propias)</li>
+ *   <li>Todo lo demas (escrituras, migraciones, accesos sin transaccion) va a la primaria. Por eso
+ *   las cargas en segundo plano que necesitan todo lo ya confirmado (modelo de lectura, filtro de
+ *   emails) usan transacciones sin readOnly</li>
+ * </ul>
+ * El destino se decide al ejecutar la primera sentencia, por lo que debe usarse detras de un
+ * {@code LazyConnectionDataSourceProxy}: al obtener la conexion la transaccion aun no esta
+ * marcada como de solo lectura.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+public class EnrutamientoDataSource extends AbstractRoutingDataSource {
+
+	public enum Destino {
+		PRIMARIA, REPLICA
+	}
+
+	public EnrutamientoDataSource(DataSource primaria, DataSource replica) {
+		setTargetDataSources(Map.of(Destino.PRIMARIA, primaria, Destino.REPLICA, replica));
+		setDefaultTargetDataSource(primaria);
+	}
+
+	@Override
+	protected Destino determineCurrentLookupKey() {
+		return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !EnrutamientoContexto.leerDePrimaria()
+				? Destino.REPLICA : Destino.PRIMARIA;
+	}
+
+}
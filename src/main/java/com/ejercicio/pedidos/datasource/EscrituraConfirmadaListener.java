@@ -0,0 +1,23 @@
+package com.ejercicio.pedidos.datasource;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Registra en {@link EnrutamientoContexto} cada transaccion de escritura confirmada, para que el
+ * resto de la peticion y quien presente la marca de lectura propia lean de la primaria. Spring Boot
+ * lo agrega al administrador de transacciones.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+public class EscrituraConfirmadaListener implements TransactionExecutionListener {
+
+	@Override
+	public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+		if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+			EnrutamientoContexto.registrarEscritura();
+		}
+	}
+
+}
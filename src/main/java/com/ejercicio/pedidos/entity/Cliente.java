@@ -1,6 +1,9 @@
 package com.ejercicio.pedidos.entity;
 
 import java.time.LocalDate;
+import java.util.Locale;
+
+import org.hibernate.annotations.DynamicUpdate;
 
 import com.ejercicio.pedidos.utils.ClienteConstantes;
 
@@ -12,6 +15,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -25,6 +29,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "cliente")
+@DynamicUpdate
 public class Cliente {
 	
 	@Id
@@ -64,6 +69,18 @@ public class Cliente {
 	@Column(name = "is_active")
 	private Boolean isActive;
 	
+	@Version
+	@Column(name = "version")
+	private Long version;
+	
+	/**
+	 * Guarda el email sin espacios y en minusculas, la misma forma con la que se busca, de modo
+	 * que la busqueda por email no dependa de la intercalacion de la columna.
+	 */
+	public void setEmailCliente(String emailCliente) {
+		this.emailCliente = emailCliente == null ? null : emailCliente.trim().toLowerCase(Locale.ROOT);
+	}
+	
 	@PrePersist
 	private void onCreate() {
 		this.fechaCreacion=LocalDate.now();
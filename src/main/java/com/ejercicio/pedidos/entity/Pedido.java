@@ -1,6 +1,10 @@
 package com.ejercicio.pedidos.entity;
 
 import java.time.LocalDate;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
+
 import com.ejercicio.pedidos.utils.PedidoConstantes;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -13,8 +17,10 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -27,10 +33,14 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 @Table(name = "pedido")
+@DynamicUpdate
+@SQLRestriction("is_active = true")
 public class Pedido {
 	
 	@Id
-	@GeneratedValue(strategy= GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "pedido_gen")
+	@TableGenerator(name = "pedido_gen", table = "id_generador", pkColumnName = "entidad",
+			valueColumnName = "siguiente_id", pkColumnValue = "pedido", allocationSize = PedidoConstantes.ID_ALLOCATION_SIZE)
 	@Column(name = "id")
 	private Long id;
 	
@@ -70,6 +80,10 @@ public class Pedido {
 	@Column(name = "is_active")
 	private Boolean isActive;
 	
+	@Version
+	@Column(name = "version")
+	private Long version;
+	
 	@PrePersist
 	private void onCreate() {
 		this.fechaCreacion = LocalDate.now();
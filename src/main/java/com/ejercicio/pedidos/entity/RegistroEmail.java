@@ -0,0 +1,45 @@
+package com.ejercicio.pedidos.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Email guardado por una instancia con el filtro de emails habilitado. La fecha de registro la
+ * asigna la base de datos, de modo que todas las instancias comparan con el mismo reloj.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "registro_emails")
+public class RegistroEmail {
+	
+	@Id
+	@Column(name = "id")
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	
+	@Column(name = "email")
+	private String email;
+	
+	@Column(name = "instancia")
+	private String instancia;
+	
+	@Column(name = "registrado", insertable = false, updatable = false)
+	private LocalDateTime registrado;
+	
+	public RegistroEmail(String email, String instancia) {
+		this.email = email;
+		this.instancia = instancia;
+	}
+
+}
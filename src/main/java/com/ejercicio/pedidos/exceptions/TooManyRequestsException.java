@@ -0,0 +1,22 @@
+package com.ejercicio.pedidos.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends Exception{
+	private String mensaje;
+	private String Error;
+	
+	public TooManyRequestsException() {}
+	
+	public TooManyRequestsException(String Error) {
+		super(Error,null,true,false);
+	}
+
+}
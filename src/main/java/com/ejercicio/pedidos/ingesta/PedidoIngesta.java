@@ -0,0 +1,247 @@
+package com.ejercicio.pedidos.ingesta;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.exceptions.ServiceUnavailableException;
+import com.ejercicio.pedidos.exceptions.TooManyRequestsException;
+import com.ejercicio.pedidos.model.EstadoIngesta;
+import com.ejercicio.pedidos.model.PedidoBatchItem;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.model.PedidoIngestaResponse;
+import com.ejercicio.pedidos.service.IPedidoService;
+import com.ejercicio.pedidos.utils.MetricasConstantes;
+import com.ejercicio.pedidos.utils.PedidoConstantes;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ingesta asincrona de pedidos con commit agrupado, opcional ({@code pedidos.ingesta.habilitada=true}).
+ *
+ * <p>Los pedidos aceptados entran en una cola acotada y un solo hilo escritor los guarda en
+ * micro-lotes con {@link IPedidoService#insertBatch(List)}, de modo que muchos pedidos comparten
+ * una transaccion y un commit:
+ * <ul>
+ *   <li>Cada pedido aceptado recibe un ticket que se consulta con {@link #consultar(String)}</li>
+ *   <li>Si la cola esta llena se lanza {@link TooManyRequestsException} (429) en lugar de esperar</li>
+ *   <li>Mientras la aplicacion se detiene se lanza {@link ServiceUnavailableException} (503), para
+ *   que el cliente reintente contra otra instancia</li>
+ *   <li>Los pedidos invalidos o con cliente inexistente o inactivo se rechazan con 400 dentro del lote; si
+ *   el lote falla por otra causa, sus pedidos se guardan uno por uno para que el error afecte
+ *   solo al pedido que lo causa</li>
+ *   <li>Al detener la aplicacion se dejan de aceptar pedidos y el escritor vacia la cola antes de
+ *   que se cierre el pool de conexiones; la fase es menor que la del servidor web, que termina
+ *   antes sus peticiones en curso</li>
+ * </ul>
+ * Los tickets se conservan en memoria durante {@value #TICKETS_TTL_MINUTOS} minutos.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ * @see IPedidoService#insertBatch(List)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = PedidoConstantes.INGESTA_PROPERTY, havingValue = "true")
+public class PedidoIngesta implements SmartLifecycle {
+
+	private static final long TICKETS_TTL_MINUTOS = 10;
+	private static final long MAX_TICKETS = 100_000;
+	private static final long ESPERA_MS = 100;
+
+	private final IPedidoService pedidoService;
+	private final BlockingQueue<Solicitud> cola;
+	private final int tamanoLote;
+	private final Cache<String, PedidoIngestaResponse> tickets;
+	private final Counter rechazados;
+	private final ReadWriteLock cerrojo = new ReentrantReadWriteLock();
+	private volatile boolean aceptando;
+	private Thread escritor;
+
+	public PedidoIngesta(IPedidoService pedidoService, MeterRegistry meterRegistry,
+			@Value("${pedidos.ingesta.capacidad:10000}") int capacidad,
+			@Value("${pedidos.ingesta.lote:500}") int tamanoLote) {
+		this.pedidoService = pedidoService;
+		this.cola = new ArrayBlockingQueue<>(capacidad);
+		this.tamanoLote = tamanoLote;
+		this.tickets = Caffeine.newBuilder()
+				.maximumSize(MAX_TICKETS)
+				.expireAfterWrite(Duration.ofMinutes(TICKETS_TTL_MINUTOS))
+				.build();
+		Gauge.builder(MetricasConstantes.INGESTA_COLA_GAUGE, cola, BlockingQueue::size)
+				.description(MetricasConstantes.INGESTA_COLA_DESCRIPCION)
+				.register(meterRegistry);
+		this.rechazados = Counter.builder(MetricasConstantes.INGESTA_RECHAZADOS_COUNTER)
+				.description(MetricasConstantes.INGESTA_RECHAZADOS_DESCRIPCION)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Encola un pedido ya validado para guardarlo en segundo plano.
+	 *
+	 * @param pedidoDTO datos del pedido a crear
+	 * @return respuesta con el ticket y el estado {@code PENDIENTE}
+	 * @throws TooManyRequestsException si la cola esta llena
+	 * @throws ServiceUnavailableException si la ingesta se esta deteniendo
+	 */
+	public PedidoIngestaResponse aceptar(PedidoDTO pedidoDTO)
+			throws TooManyRequestsException, ServiceUnavailableException {
+		String ticket = UUID.randomUUID().toString();
+		PedidoIngestaResponse pendiente = new PedidoIngestaResponse(ticket, EstadoIngesta.PENDIENTE, null, 202,
+				PedidoConstantes.INGESTA_ACEPTADO_MSG);
+		tickets.put(ticket, pendiente);
+		cerrojo.readLock().lock();
+		try {
+			if (!aceptando) {
+				tickets.invalidate(ticket);
+				throw new ServiceUnavailableException(PedidoConstantes.INGESTA_DETENIDA_MSG);
+			}
+			if (!cola.offer(new Solicitud(ticket, pedidoDTO))) {
+				tickets.invalidate(ticket);
+				rechazados.increment();
+				throw new TooManyRequestsException(PedidoConstantes.INGESTA_COLA_LLENA_MSG);
+			}
+		} finally {
+			cerrojo.readLock().unlock();
+		}
+		return pendiente;
+	}
+
+	/**
+	 * Consulta el estado de un pedido aceptado.
+	 *
+	 * @param ticket ticket devuelto por {@link #aceptar(PedidoDTO)}
+	 * @return estado del pedido y, si ya se guardo, su id
+	 * @throws NotFoundException si el ticket no existe o ya expiro
+	 */
+	public PedidoIngestaResponse consultar(String ticket) throws NotFoundException {
+		PedidoIngestaResponse respuesta = tickets.getIfPresent(ticket);
+		if (respuesta == null) {
+			throw new NotFoundException(PedidoConstantes.INGESTA_TICKET_NOT_FOUND_MSG);
+		}
+		return respuesta;
+	}
+
+	public int pendientes() {
+		return cola.size();
+	}
+
+	@Override
+	public void start() {
+		aceptando = true;
+		escritor = new Thread(this::escribir, "pedidos-ingesta");
+		escritor.start();
+	}
+
+	/**
+	 * Deja de aceptar pedidos y espera a que el escritor guarde todos los que ya estan en la cola.
+	 * El cerrojo de escritura garantiza que ningun pedido se encole despues de que el escritor
+	 * vea la ingesta detenida.
+	 */
+	@Override
+	public void stop() {
+		if (escritor == null) {
+			return;
+		}
+		cerrojo.writeLock().lock();
+		try {
+			aceptando = false;
+		} finally {
+			cerrojo.writeLock().unlock();
+		}
+		boolean interrumpido = false;
+		while (escritor.isAlive()) {
+			try {
+				escritor.join();
+			} catch (InterruptedException e) {
+				interrumpido = true;
+			}
+		}
+		if (interrumpido) {
+			Thread.currentThread().interrupt();
+		}
+		log.info(PedidoConstantes.INGESTA_DETENIDA_LOG);
+	}
+
+	@Override
+	public boolean isRunning() {
+		return escritor != null && escritor.isAlive();
+	}
+
+	@Override
+	public int getPhase() {
+		return SmartLifecycle.DEFAULT_PHASE - 4096;
+	}
+
+	private void escribir() {
+		List<Solicitud> lote = new ArrayList<>(tamanoLote);
+		while (aceptando || !cola.isEmpty()) {
+			try {
+				Solicitud primera = cola.poll(ESPERA_MS, TimeUnit.MILLISECONDS);
+				if (primera == null) {
+					continue;
+				}
+				lote.add(primera);
+				cola.drainTo(lote, tamanoLote - 1);
+				guardar(lote);
+			} catch (InterruptedException e) {
+				// El hilo solo termina cuando la cola queda vacia y la ingesta detenida
+			} finally {
+				lote.clear();
+			}
+		}
+	}
+
+	private void guardar(List<Solicitud> lote) {
+		try {
+			List<PedidoBatchItem> items = pedidoService.insertBatch(lote.stream().map(Solicitud::pedido).toList());
+			for (int i = 0; i < lote.size(); i++) {
+				registrar(lote.get(i).ticket(), items.get(i).getId(), items.get(i).getCodigo());
+			}
+		} catch (Exception e) {
+			log.warn(PedidoConstantes.INGESTA_LOTE_FALLIDO_LOG, lote.size(), e);
+			lote.forEach(this::guardarIndividual);
+		}
+	}
+
+	private void guardarIndividual(Solicitud solicitud) {
+		try {
+			registrar(solicitud.ticket(), pedidoService.insert(solicitud.pedido()).getId(), 201);
+		} catch (RuntimeException e) {
+			log.error(PedidoConstantes.SERVER_ERROR_LOG, e);
+			registrar(solicitud.ticket(), null, 500);
+		}
+	}
+
+	private void registrar(String ticket, Long id, int codigo) {
+		PedidoIngestaResponse respuesta = switch (codigo) {
+			case 201 -> new PedidoIngestaResponse(ticket, EstadoIngesta.CREADO, id, codigo, PedidoConstantes.CREATED_MSG);
+			case 400 -> new PedidoIngestaResponse(ticket, EstadoIngesta.RECHAZADO, null, codigo,
+					PedidoConstantes.INGESTA_RECHAZADO_MSG);
+			default -> new PedidoIngestaResponse(ticket, EstadoIngesta.RECHAZADO, null, codigo,
+					PedidoConstantes.SERVER_ERROR_MSG);
+		};
+		tickets.put(ticket, respuesta);
+	}
+
+	private record Solicitud(String ticket, PedidoDTO pedido) {
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.ejercicio.pedidos.mapper;
+
+/**
+ * Mapper que copia los datos de un DTO sobre una entidad ya cargada (administrada), en lugar de
+ * construir una instancia nueva. Hibernate detecta los cambios al hacer flush y, con
+ * {@code @DynamicUpdate}, el UPDATE solo incluye las columnas modificadas.
+ */
+public interface IUpdateMapper <In, Out> {
+	
+	/**
+	 * Reemplaza todos los campos editables de la entidad (PUT).
+	 */
+	public void update(In in, Out out);
+	
+	/**
+	 * Copia solo los campos no nulos del DTO (PATCH).
+	 */
+	public void patch(In in, Out out);
+
+}
@@ -0,0 +1,70 @@
+package com.ejercicio.pedidos.mapper.impl;
+
+import org.springframework.stereotype.Component;
+
+import com.ejercicio.pedidos.entity.Cliente;
+import com.ejercicio.pedidos.mapper.IUpdateMapper;
+import com.ejercicio.pedidos.model.ClienteDTO;
+
+
+/**
+ * Mapper que aplica los datos de un {@link ClienteDTO} sobre una entidad {@link Cliente}
+ * administrada, para actualizarla sin construir una instancia nueva ni hacer merge.
+ *
+ * <p>Características principales:
+ * <ul>
+ *   <li>No modifica el id, la fecha de creación ni el estado activo del cliente</li>
+ *   <li>La fecha de modificación la actualiza el callback {@code @PreUpdate} de la entidad</li>
+ * </ul>
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ * @see Cliente
+ * @see ClienteDTO
+ * @see IUpdateMapper
+ */
+
+@Component
+public class ClienteDTOOntoCliente implements IUpdateMapper<ClienteDTO, Cliente>{
+
+	/**
+     * Reemplaza los datos editables del cliente con los del DTO, incluidos los nulos.
+     *
+     * @param clienteDTO el DTO con los nuevos datos del cliente
+     * @param cliente la entidad administrada que se actualiza
+     */
+	@Override
+	public void update(ClienteDTO clienteDTO, Cliente cliente) {
+		cliente.setNombreCliente(clienteDTO.getNombreCliente());
+		cliente.setApellidoPaterno(clienteDTO.getApellidoPaterno());
+		cliente.setApellidoMaterno(clienteDTO.getApellidoMaterno());
+		cliente.setEmailCliente(clienteDTO.getEmailCliente());
+		cliente.setDireccionEnvio(clienteDTO.getDireccionEnvio());
+	}
+
+	/**
+     * Copia sobre el cliente solo los campos del DTO que no son nulos.
+     *
+     * @param clienteDTO el DTO con los campos a modificar
+     * @param cliente la entidad administrada que se actualiza
+     */
+	@Override
+	public void patch(ClienteDTO clienteDTO, Cliente cliente) {
+		if (clienteDTO.getNombreCliente() != null) {
+			cliente.setNombreCliente(clienteDTO.getNombreCliente());
+		}
+		if (clienteDTO.getApellidoPaterno() != null) {
+			cliente.setApellidoPaterno(clienteDTO.getApellidoPaterno());
+		}
+		if (clienteDTO.getApellidoMaterno() != null) {
+			cliente.setApellidoMaterno(clienteDTO.getApellidoMaterno());
+		}
+		if (clienteDTO.getEmailCliente() != null) {
+			cliente.setEmailCliente(clienteDTO.getEmailCliente());
+		}
+		if (clienteDTO.getDireccionEnvio() != null) {
+			cliente.setDireccionEnvio(clienteDTO.getDireccionEnvio());
+		}
+	}
+
+}
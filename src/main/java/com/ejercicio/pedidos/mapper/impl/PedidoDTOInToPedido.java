@@ -76,9 +76,12 @@ public class PedidoDTOInToPedido implements IMapper<PedidoDTO, Pedido>{
 		
 		if (pedidoDTO.getIdCliente()!=null) {
 			pedido.setIdCliente(clienteMapper.map(pedidoDTO.getIdCliente()));
+			pedido.setEmailCliente(pedidoDTO.getIdCliente().getEmailCliente());
 		}
 		
-		pedido.setCantidad(pedidoDTO.getCantidad());
+		if (pedidoDTO.getCantidad() != null) {
+			pedido.setCantidad(pedidoDTO.getCantidad());
+		}
 		pedido.setPrecio(pedidoDTO.getPrecio());
 		pedido.setFechaCreacion(pedido.getFechaCreacion());
 		if (pedido.getFechaCreacion()==null) {
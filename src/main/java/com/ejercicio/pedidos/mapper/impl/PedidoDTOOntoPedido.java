@@ -0,0 +1,91 @@
+package com.ejercicio.pedidos.mapper.impl;
+
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+import com.ejercicio.pedidos.entity.Pedido;
+import com.ejercicio.pedidos.mapper.IUpdateMapper;
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.repository.ClienteRepository;
+
+
+/**
+ * Mapper que aplica los datos de un {@link PedidoDTO} sobre una entidad {@link Pedido}
+ * administrada, para actualizarla sin construir una instancia nueva ni hacer merge.
+ *
+ * <p>Características principales:
+ * <ul>
+ *   <li>No modifica el id, la fecha de creación ni el estado activo del pedido</li>
+ *   <li>Si cambia el cliente, asocia una referencia por id sin consultarlo, y toma el email
+ *   del DTO igual que en la creación del pedido</li>
+ *   <li>La fecha de modificación la actualiza el callback {@code @PreUpdate} de la entidad</li>
+ * </ul>
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ * @see Pedido
+ * @see PedidoDTO
+ * @see IUpdateMapper
+ */
+
+@Component
+public class PedidoDTOOntoPedido implements IUpdateMapper<PedidoDTO, Pedido>{
+	
+	private final ClienteRepository clienteRepository;
+
+	private PedidoDTOOntoPedido(ClienteRepository clienteRepository) {
+		this.clienteRepository = clienteRepository;
+	}
+
+	/**
+     * Reemplaza los datos editables del pedido con los del DTO.
+     *
+     * @param pedidoDTO el DTO con los nuevos datos del pedido
+     * @param pedido la entidad administrada que se actualiza
+     */
+	@Override
+	public void update(PedidoDTO pedidoDTO, Pedido pedido) {
+		pedido.setCodidoProducto(pedidoDTO.getCodidoProducto());
+		asignarCliente(pedidoDTO.getIdCliente(), pedido);
+		pedido.setCantidad(pedidoDTO.getCantidad() != null ? pedidoDTO.getCantidad() : 0);
+		pedido.setPrecio(pedidoDTO.getPrecio());
+	}
+
+	/**
+     * Copia sobre el pedido solo los campos del DTO que no son nulos.
+     *
+     * @param pedidoDTO el DTO con los campos a modificar
+     * @param pedido la entidad administrada que se actualiza
+     */
+	@Override
+	public void patch(PedidoDTO pedidoDTO, Pedido pedido) {
+		if (pedidoDTO.getCodidoProducto() != null) {
+			pedido.setCodidoProducto(pedidoDTO.getCodidoProducto());
+		}
+		if (pedidoDTO.getIdCliente() != null) {
+			asignarCliente(pedidoDTO.getIdCliente(), pedido);
+		}
+		if (pedidoDTO.getCantidad() != null) {
+			pedido.setCantidad(pedidoDTO.getCantidad());
+		}
+		if (pedidoDTO.getPrecio() != null) {
+			pedido.setPrecio(pedidoDTO.getPrecio());
+		}
+	}
+	
+	private void asignarCliente(ClienteDTO clienteDTO, Pedido pedido) {
+		if (clienteDTO == null || clienteDTO.getId() == null) {
+			pedido.setIdCliente(null);
+			return;
+		}
+		if (pedido.getIdCliente() == null || !Objects.equals(pedido.getIdCliente().getId(), clienteDTO.getId())) {
+			pedido.setIdCliente(clienteRepository.getReferenceById(clienteDTO.getId()));
+		}
+		if (clienteDTO.getEmailCliente() != null) {
+			pedido.setEmailCliente(clienteDTO.getEmailCliente());
+		}
+	}
+
+}
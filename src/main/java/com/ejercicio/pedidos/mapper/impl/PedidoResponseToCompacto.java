@@ -0,0 +1,68 @@
+/**
+ * Mapper que convierte un {@link PedidoResponse} a su representación compacta
+ * {@link PedidoCompactoResponse}.
+ *
+ * <p>En la representación normal cada pedido incluye el cliente completo, que se repite en todas
+ * las filas de un mismo cliente. En la compacta cada pedido lleva solo el id del cliente y los
+ * clientes distintos se envían una vez en un mapa aparte, indexado por id.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ * @see PedidoResponse
+ * @see PedidoCompactoResponse
+ * @see IMapper
+ */
+
+package com.ejercicio.pedidos.mapper.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.ejercicio.pedidos.mapper.IMapper;
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.model.PedidoCompactoDTO;
+import com.ejercicio.pedidos.model.PedidoCompactoResponse;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.model.PedidoResponse;
+
+@Component
+public class PedidoResponseToCompacto implements IMapper<PedidoResponse, PedidoCompactoResponse> {
+
+	/**
+	 * Convierte la respuesta de pedidos a su representación compacta.
+	 *
+	 * <p>Este método realiza las siguientes transformaciones:
+	 * <ul>
+	 *   <li>Copia el mensaje, el código y el cursor de la siguiente página</li>
+	 *   <li>Reemplaza el cliente de cada pedido por su id</li>
+	 *   <li>Agrega cada cliente distinto una sola vez al mapa de clientes, en el orden en que
+	 *   aparece por primera vez</li>
+	 * </ul>
+	 *
+	 * @param pedidoResponse la respuesta con los pedidos y sus clientes completos
+	 * @return la respuesta compacta con los pedidos y el mapa de clientes
+	 */
+	@Override
+	public PedidoCompactoResponse map(PedidoResponse pedidoResponse) {
+		List<PedidoDTO> pedidoDTOs = pedidoResponse.getPedidos();
+		List<PedidoCompactoDTO> pedidos = new ArrayList<>(pedidoDTOs.size());
+		Map<Long, ClienteDTO> clientes = new LinkedHashMap<>();
+		for (PedidoDTO pedidoDTO : pedidoDTOs) {
+			ClienteDTO cliente = pedidoDTO.getIdCliente();
+			Long idCliente = null;
+			if (cliente != null) {
+				idCliente = cliente.getId();
+				clientes.putIfAbsent(idCliente, cliente);
+			}
+			pedidos.add(new PedidoCompactoDTO(pedidoDTO.getId(), pedidoDTO.getCodidoProducto(), idCliente,
+					pedidoDTO.getCantidad(), pedidoDTO.getPrecio(), pedidoDTO.getFechaCreacion()));
+		}
+		return new PedidoCompactoResponse(pedidoResponse.getMensaje(), pedidoResponse.getCodigo(), pedidos,
+				clientes, pedidoResponse.getCursorSiguiente());
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.ejercicio.pedidos.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Endpoint de Actuator ({@code /actuator/cachehibernate}) con las estadisticas por region de la
+ * cache de segundo nivel de Hibernate: aciertos, fallos, inserciones, elementos en memoria y
+ * tasa de aciertos.
+ *
+ * <p>Los mismos contadores se publican en Prometheus como
+ * {@code hibernate_second_level_cache_requests_total{region,result}} (hibernate-micrometer);
+ * este endpoint calcula la tasa de aciertos acumulada desde el arranque.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+@Component
+@Endpoint(id = "cachehibernate")
+public class CacheSegundoNivelEndpoint {
+
+	private final Statistics statistics;
+
+	public CacheSegundoNivelEndpoint(EntityManagerFactory entityManagerFactory) {
+		this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@ReadOperation
+	public Map<String, RegionEstadisticas> regiones() {
+		Map<String, RegionEstadisticas> regiones = new TreeMap<>();
+		for (String region : statistics.getSecondLevelCacheRegionNames()) {
+			CacheRegionStatistics estadisticas = statistics.getCacheRegionStatistics(region);
+			if (estadisticas != null) {
+				regiones.put(region, RegionEstadisticas.of(estadisticas));
+			}
+		}
+		return regiones;
+	}
+
+	@ReadOperation
+	public RegionEstadisticas region(@Selector String region) {
+		CacheRegionStatistics estadisticas = statistics.getCacheRegionStatistics(region);
+		return estadisticas == null ? null : RegionEstadisticas.of(estadisticas);
+	}
+
+	/**
+	 * Estadisticas de una region. {@code elementos} es -1 si el proveedor no lo reporta.
+	 */
+	public record RegionEstadisticas(long aciertos, long fallos, long inserciones, long elementos,
+			double tasaAciertos) {
+
+		static RegionEstadisticas of(CacheRegionStatistics estadisticas) {
+			long aciertos = estadisticas.getHitCount();
+			long fallos = estadisticas.getMissCount();
+			long consultas = aciertos + fallos;
+			return new RegionEstadisticas(aciertos, fallos, estadisticas.getPutCount(),
+					estadisticas.getElementCountInMemory(), consultas == 0 ? 0.0 : (double) aciertos / consultas);
+		}
+	}
+
+}
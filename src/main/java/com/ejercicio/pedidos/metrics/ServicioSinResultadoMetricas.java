@@ -0,0 +1,48 @@
+package com.ejercicio.pedidos.metrics;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.ejercicio.pedidos.exceptions.NoContentException;
+import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.utils.MetricasConstantes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cuenta las consultas de los servicios que terminan sin resultado ({@link NotFoundException}
+ * o {@link NoContentException}), para distinguir el trafico con muchas busquedas fallidas.
+ *
+ * <p>Publica el contador {@code pedidos.servicio.sin.resultado} con las etiquetas
+ * {@code exception}, {@code class} y {@code method}.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+@Aspect
+@Component
+public class ServicioSinResultadoMetricas {
+
+	private final MeterRegistry meterRegistry;
+
+	public ServicioSinResultadoMetricas(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@AfterThrowing(pointcut = "within(com.ejercicio.pedidos.service.impl..*)", throwing = "ex")
+	public void contarSinResultado(JoinPoint joinPoint, Exception ex) {
+		if (ex instanceof NotFoundException || ex instanceof NoContentException) {
+			Counter.builder(MetricasConstantes.SIN_RESULTADO_COUNTER)
+					.description(MetricasConstantes.SIN_RESULTADO_DESCRIPCION)
+					.tag(MetricasConstantes.TAG_EXCEPCION, ex.getClass().getSimpleName())
+					.tag(MetricasConstantes.TAG_CLASE, joinPoint.getSignature().getDeclaringTypeName())
+					.tag(MetricasConstantes.TAG_METODO, joinPoint.getSignature().getName())
+					.register(meterRegistry)
+					.increment();
+		}
+	}
+
+}
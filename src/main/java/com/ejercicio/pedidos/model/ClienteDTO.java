@@ -1,5 +1,7 @@
 package com.ejercicio.pedidos.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,4 +16,16 @@ public class ClienteDTO {
 	private String apellidoMaterno;
 	private String emailCliente;
 	private String direccionEnvio;
+	
+	/**
+	 * Version del registro al momento de la lectura. No se serializa: se publica como ETag
+	 * y viaja con el DTO en la cache para que el ETag corresponda siempre con los datos.
+	 */
+	@JsonIgnore
+	private Long version;
+	
+	public ClienteDTO(Long id, String nombreCliente, String apellidoPaterno, String apellidoMaterno,
+			String emailCliente, String direccionEnvio) {
+		this(id, nombreCliente, apellidoPaterno, apellidoMaterno, emailCliente, direccionEnvio, null);
+	}
 }
@@ -14,4 +14,5 @@ public class ClienteResponse {
 	private String mensaje;
 	private int codigo;
 	private List<ClienteDTO> clientes;
+	private String cursorSiguiente;
 }
@@ -0,0 +1,15 @@
+package com.ejercicio.pedidos.model;
+
+/**
+ * Estado de un pedido recibido por la ingesta asincrona.
+ * <ul>
+ *   <li>{@code PENDIENTE}: en la cola, aun no se confirma en la base de datos</li>
+ *   <li>{@code CREADO}: confirmado; la respuesta incluye el id asignado</li>
+ *   <li>{@code RECHAZADO}: no se pudo guardar; el codigo indica la causa (400 o 500)</li>
+ * </ul>
+ */
+public enum EstadoIngesta {
+	PENDIENTE,
+	CREADO,
+	RECHAZADO
+}
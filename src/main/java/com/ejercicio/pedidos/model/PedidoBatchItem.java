@@ -0,0 +1,13 @@
+package com.ejercicio.pedidos.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PedidoBatchItem {
+	private Long id;
+	private int codigo;
+}
@@ -0,0 +1,18 @@
+package com.ejercicio.pedidos.model;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PedidoCamposResponse {
+	private String mensaje;
+	private int codigo;
+	private List<Map<String, Object>> pedidos;
+	private String cursorSiguiente;
+}
@@ -0,0 +1,19 @@
+package com.ejercicio.pedidos.model;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PedidoCompactoDTO {
+	private Long id;
+	private Long codidoProducto;
+	private Long idCliente;
+	private Integer cantidad;
+	private Double precio;
+	private LocalDate fechaCreacion;
+}
@@ -0,0 +1,19 @@
+package com.ejercicio.pedidos.model;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PedidoCompactoResponse {
+	private String mensaje;
+	private int codigo;
+	private List<PedidoCompactoDTO> pedidos;
+	private Map<Long, ClienteDTO> clientes;
+	private String cursorSiguiente;
+}
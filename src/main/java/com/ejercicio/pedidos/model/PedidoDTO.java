@@ -1,6 +1,9 @@
 package com.ejercicio.pedidos.model;
 
 import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,7 +15,39 @@ public class PedidoDTO {
 	private Long id;
 	private Long codidoProducto;
 	private ClienteDTO idCliente;
-	private int cantidad;
+	private Integer cantidad;
 	private Double precio;
 	private LocalDate fechaCreacion;
+	
+	/**
+	 * Email registrado en el propio pedido (columna {@code email_cliente}), por el que filtra la
+	 * busqueda por email. No se serializa; lo usa el modelo de lectura en memoria para indexar.
+	 */
+	@JsonIgnore
+	private String emailPedido;
+	
+	public PedidoDTO(Long id, Long codidoProducto, ClienteDTO idCliente, Integer cantidad, Double precio,
+			LocalDate fechaCreacion) {
+		this(id, codidoProducto, idCliente, cantidad, precio, fechaCreacion, null);
+	}
+	
+	/**
+	 * Constructor plano usado por las proyecciones JPQL ({@code select new ...}) de
+	 * {@link com.ejercicio.pedidos.repository.PedidoRepository}, que no admiten constructores anidados.
+	 * Si el pedido no tiene cliente asociado (left join), {@code idCliente} queda en null.
+	 */
+	public PedidoDTO(Long id, Long codidoProducto, Long clienteId, String nombreCliente, String apellidoPaterno,
+			String apellidoMaterno, String emailCliente, String direccionEnvio, int cantidad, Double precio,
+			LocalDate fechaCreacion, String emailPedido) {
+		this.id = id;
+		this.codidoProducto = codidoProducto;
+		if (clienteId != null) {
+			this.idCliente = new ClienteDTO(clienteId, nombreCliente, apellidoPaterno, apellidoMaterno, emailCliente,
+					direccionEnvio);
+		}
+		this.cantidad = cantidad;
+		this.precio = precio;
+		this.fechaCreacion = fechaCreacion;
+		this.emailPedido = emailPedido;
+	}
 }
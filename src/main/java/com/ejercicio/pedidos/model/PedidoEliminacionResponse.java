@@ -0,0 +1,15 @@
+package com.ejercicio.pedidos.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PedidoEliminacionResponse {
+	private String mensaje;
+	private int codigo;
+	private int solicitados;
+	private int eliminados;
+}
@@ -0,0 +1,16 @@
+package com.ejercicio.pedidos.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PedidoIngestaResponse {
+	private String ticket;
+	private EstadoIngesta estado;
+	private Long id;
+	private int codigo;
+	private String mensaje;
+}
@@ -13,4 +13,5 @@ public class PedidoResponse {
 	private String mensaje;
 	private int codigo;
 	private List<PedidoDTO> pedidos;
+	private String cursorSiguiente;
 }
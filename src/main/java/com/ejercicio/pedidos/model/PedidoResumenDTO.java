@@ -0,0 +1,25 @@
+package com.ejercicio.pedidos.model;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PedidoResumenDTO {
+	private LocalDate fecha;
+	private Long codidoProducto;
+	private Long pedidos;
+	private Long unidades;
+	private Double ingresos;
+	
+	/**
+	 * Constructor usado por la proyeccion JPQL del resumen agrupado solo por dia.
+	 */
+	public PedidoResumenDTO(LocalDate fecha, Long pedidos, Long unidades, Double ingresos) {
+		this(fecha, null, pedidos, unidades, ingresos);
+	}
+}
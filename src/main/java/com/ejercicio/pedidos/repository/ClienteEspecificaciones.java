@@ -0,0 +1,27 @@
+package com.ejercicio.pedidos.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ejercicio.pedidos.entity.Cliente;
+
+/**
+ * Condiciones de las consultas de clientes con seleccion de campos
+ * ({@link ClienteRepositoryCustom#findCampos}); el filtro de activos lo agrega la consulta.
+ */
+public final class ClienteEspecificaciones {
+
+	private ClienteEspecificaciones() {}
+
+	public static Specification<Cliente> porId(Long id) {
+		return (c, query, cb) -> cb.equal(c.get("id"), id);
+	}
+
+	public static Specification<Cliente> despuesDe(Long after) {
+		return (c, query, cb) -> cb.greaterThan(c.get("id"), after);
+	}
+
+	public static Specification<Cliente> porEmail(String email) {
+		return (c, query, cb) -> cb.equal(c.get("emailCliente"), email);
+	}
+
+}
@@ -1,13 +1,81 @@
 package com.ejercicio.pedidos.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ejercicio.pedidos.entity.Cliente;
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.utils.ClienteConstantes;
 
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repositorio de clientes. Las consultas de lectura proyectan directamente a {@link ClienteDTO}
+ * sin hidratar entidades administradas.
+ *
+ * <p>La busqueda por email usa la cache de consultas de Hibernate, que invalida sus resultados
+ * cuando cambia la tabla {@code cliente}. Las consultas con seleccion de campos estan en
+ * {@link ClienteRepositoryCustom} y no pasan por esta cache.
+ */
 @Repository
-public interface ClienteRepository extends JpaRepository<Cliente, Long> {
-	Optional<Cliente> findClienteByEmailClienteAndIsActiveTrue(String email);
+public interface ClienteRepository extends JpaRepository<Cliente, Long>, ClienteRepositoryCustom {
+	
+	String SELECT_DTO = "select new com.ejercicio.pedidos.model.ClienteDTO(c.id, c.nombreCliente, "
+			+ "c.apellidoPaterno, c.apellidoMaterno, c.emailCliente, c.direccionEnvio, c.version) from Cliente c ";
+	
+	Optional<Cliente> findByIdAndIsActiveTrue(Long id);
+	
+	/**
+	 * Borrado logico en una sola sentencia UPDATE.
+	 *
+	 * @return numero de clientes desactivados (0 si no existe o ya estaba inactivo)
+	 */
+	@Modifying
+	@Query("update Cliente c set c.isActive = false, c.fechaModificacion = current_date, "
+			+ "c.version = c.version + 1 "
+			+ "where c.id = :id and c.isActive = true")
+	int desactivarPorId(@Param("id") Long id);
+	
+	@Query(SELECT_DTO + "where c.id = :id and c.isActive = true")
+	Optional<ClienteDTO> findDtoById(@Param("id") Long id);
+	
+	/**
+	 * Version del cliente activo, sin hidratar la entidad ni proyectar el DTO.
+	 */
+	@Query("select c.version from Cliente c where c.id = :id and c.isActive = true")
+	Optional<Long> findVersionById(@Param("id") Long id);
+	
+	@Query(SELECT_DTO + "where c.emailCliente = :email and c.isActive = true")
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = ClienteConstantes.REGION_CACHE_EMAIL) })
+	Optional<ClienteDTO> findDtoByEmailCliente(@Param("email") String email);
+	
+	/**
+	 * Emails de los clientes activos, leidos por cursor para construir el filtro de emails.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ClienteConstantes.EMAILS_FETCH_SIZE))
+	@Query("select c.emailCliente from Cliente c where c.isActive = true")
+	Stream<String> streamEmailsActivos();
+	
+	/**
+	 * Ids de clientes activos entre los recibidos, en una sola consulta. La carga de pedidos por
+	 * lotes la usa para rechazar por elemento los pedidos con cliente inexistente o dado de baja,
+	 * como la alta individual, antes de que la llave foranea falle en el flush.
+	 */
+	@Query("select c.id from Cliente c where c.id in :ids and c.isActive = true")
+	List<Long> findIdsActivos(@Param("ids") Collection<Long> ids);
+	
+	@Query(SELECT_DTO + "where c.id > :after and c.isActive = true order by c.id")
+	List<ClienteDTO> findDtoPage(@Param("after") Long after, Limit limit);
 }
@@ -0,0 +1,34 @@
+package com.ejercicio.pedidos.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ejercicio.pedidos.entity.Cliente;
+
+/**
+ * Consultas de clientes con seleccion de campos, implementadas con Criteria en
+ * {@link ClienteRepositoryCustomImpl}.
+ */
+public interface ClienteRepositoryCustom {
+
+	/**
+	 * Campos de {@code ClienteDTO} que se pueden seleccionar, en el orden en que se devuelven.
+	 */
+	List<String> CAMPOS = List.of("id", "nombreCliente", "apellidoPaterno", "apellidoMaterno", "emailCliente",
+			"direccionEnvio");
+
+	/**
+	 * Consulta solo las columnas de los campos solicitados; el {@code id} se incluye siempre.
+	 *
+	 * @param campos campos de {@link #CAMPOS} a devolver
+	 * @param filtro condiciones de la consulta; el filtro de activos se agrega siempre
+	 * @param limit numero maximo de filas, ordenadas por id
+	 * @return una fila por cliente con los campos solicitados
+	 */
+	List<Map<String, Object>> findCampos(Set<String> campos, Specification<Cliente> filtro, Limit limit);
+
+}
@@ -0,0 +1,71 @@
+package com.ejercicio.pedidos.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ejercicio.pedidos.entity.Cliente;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Implementacion de {@link ClienteRepositoryCustom}: arma el SELECT con las columnas de los campos
+ * solicitados y devuelve cada fila como un mapa ordenado, listo para serializarse.
+ */
+class ClienteRepositoryCustomImpl implements ClienteRepositoryCustom {
+
+	private final EntityManager entityManager;
+
+	ClienteRepositoryCustomImpl(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	public List<Map<String, Object>> findCampos(Set<String> campos, Specification<Cliente> filtro, Limit limit) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Cliente> c = query.from(Cliente.class);
+		List<String> seleccion = seleccion(campos);
+		List<Selection<?>> columnas = new ArrayList<>(seleccion.size());
+		for (String campo : seleccion) {
+			columnas.add(c.get(campo).alias(campo));
+		}
+		Specification<Cliente> activos = (root, q, builder) -> builder.isTrue(root.get("isActive"));
+		query.multiselect(columnas)
+				.where(activos.and(filtro).toPredicate(c, query, cb))
+				.orderBy(cb.asc(c.get("id")));
+		TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+		if (limit.isLimited()) {
+			typedQuery.setMaxResults(limit.max());
+		}
+		List<Tuple> filas = typedQuery.getResultList();
+		List<Map<String, Object>> clientes = new ArrayList<>(filas.size());
+		for (Tuple fila : filas) {
+			Map<String, Object> cliente = new LinkedHashMap<>();
+			for (String campo : seleccion) {
+				cliente.put(campo, fila.get(campo));
+			}
+			clientes.add(cliente);
+		}
+		return clientes;
+	}
+
+	/**
+	 * Campos solicitados en el orden de {@link #CAMPOS}, siempre con el id.
+	 */
+	static List<String> seleccion(Set<String> campos) {
+		return CAMPOS.stream().filter(campo -> campo.equals("id") || campos.contains(campo)).toList();
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.ejercicio.pedidos.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ejercicio.pedidos.entity.Pedido;
+
+/**
+ * Condiciones de las consultas de pedidos con seleccion de campos
+ * ({@link PedidoRepositoryCustom#findCampos}). Son las mismas de las consultas con proyeccion a
+ * DTO de {@link PedidoRepository}; el filtro de activos lo agrega {@code @SQLRestriction}.
+ */
+public final class PedidoEspecificaciones {
+
+	private PedidoEspecificaciones() {}
+
+	public static Specification<Pedido> porId(Long id) {
+		return (p, query, cb) -> cb.equal(p.get("id"), id);
+	}
+
+	public static Specification<Pedido> despuesDe(Long after) {
+		return (p, query, cb) -> cb.greaterThan(p.get("id"), after);
+	}
+
+	/**
+	 * Filtra por la columna id_cliente del pedido, sin unir la tabla cliente.
+	 */
+	public static Specification<Pedido> porCliente(Long idCliente) {
+		return (p, query, cb) -> cb.equal(p.get(PedidoRepositoryCustom.CLIENTE).get("id"), idCliente);
+	}
+
+	public static Specification<Pedido> porEmail(String email) {
+		return (p, query, cb) -> cb.equal(p.get("emailCliente"), email);
+	}
+
+	public static Specification<Pedido> porFecha(LocalDate fecha) {
+		return (p, query, cb) -> cb.equal(p.get("fechaCreacion"), fecha);
+	}
+
+	public static Specification<Pedido> porRango(LocalDate desde, LocalDate hasta) {
+		return (p, query, cb) -> cb.between(p.get("fechaCreacion"), desde, hasta);
+	}
+
+}
@@ -1,22 +1,151 @@
 package com.ejercicio.pedidos.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.ejercicio.pedidos.entity.Cliente;
 import com.ejercicio.pedidos.entity.Pedido;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.model.PedidoResumenDTO;
+import com.ejercicio.pedidos.utils.PedidoConstantes;
+
+import jakarta.persistence.QueryHint;
 
 import java.time.LocalDate;
 
 
+/**
+ * Repositorio de pedidos. Las consultas de lectura proyectan directamente a {@link PedidoDTO}
+ * con el Cliente unido en la misma sentencia (left join), sin hidratar entidades administradas
+ * ni una consulta adicional por cliente. Las consultas con seleccion de campos estan en
+ * {@link PedidoRepositoryCustom}.
+ */
 @Repository
-public interface PedidoRepository extends JpaRepository<Pedido, Long> {
+public interface PedidoRepository extends JpaRepository<Pedido, Long>, PedidoRepositoryCustom {
+	
+	String SELECT_DTO = "select new com.ejercicio.pedidos.model.PedidoDTO(p.id, p.codidoProducto, "
+			+ "c.id, c.nombreCliente, c.apellidoPaterno, c.apellidoMaterno, c.emailCliente, c.direccionEnvio, "
+			+ "p.cantidad, p.precio, p.fechaCreacion, p.emailCliente) from Pedido p left join p.idCliente c ";
+	
 	Optional<Pedido>findByIdAndIsActiveTrue(Long id);
-	List<Pedido> findByEmailClienteAndIsActiveTrue(String email);
-	List<Pedido>findByIdClienteAndIsActiveTrue(Cliente idCliente);
-	List<Pedido> findByFechaCreacionAndIsActiveTrue(LocalDate fecha);
+	
+	/**
+	 * Borrado logico en una sola sentencia UPDATE.
+	 *
+	 * @return numero de pedidos desactivados (0 si no existe o ya estaba inactivo)
+	 */
+	@Modifying
+	@Query("update Pedido p set p.isActive = false, p.fechaModificacion = current_date, "
+			+ "p.version = p.version + 1 "
+			+ "where p.id = :id and p.isActive = true")
+	int desactivarPorId(@Param("id") Long id);
+	
+	/**
+	 * Borrado logico de un conjunto de pedidos en una sola sentencia UPDATE.
+	 *
+	 * @return numero de pedidos desactivados; los ids inexistentes o ya inactivos no cuentan
+	 */
+	@Modifying
+	@Query("update Pedido p set p.isActive = false, p.fechaModificacion = current_date, "
+			+ "p.version = p.version + 1 "
+			+ "where p.id in :ids and p.isActive = true")
+	int desactivarPorIds(@Param("ids") Collection<Long> ids);
+	
+	@Query(SELECT_DTO + "where p.id = :id")
+	Optional<PedidoDTO> findDtoById(@Param("id") Long id);
+	
+	/**
+	 * Version del pedido activo y de su cliente ({@code "<version pedido>-<version cliente>"}), sin
+	 * hidratar el pedido ni proyectar el DTO. La respuesta de {@code GET /pedidos/{id}} incluye los
+	 * datos del cliente, por lo que su ETag cambia cuando cambia cualquiera de los dos.
+	 */
+	@Query("select concat(str(p.version), '-', str(c.version)) from Pedido p join p.idCliente c where p.id = :id")
+	Optional<String> findVersionById(@Param("id") Long id);
+	
+	/**
+	 * Pedidos activos de un conjunto de ids, para refrescar el modelo de lectura en memoria.
+	 */
+	@Query(SELECT_DTO + "where p.id in :ids order by p.id")
+	List<PedidoDTO> findDtoByIdIn(@Param("ids") Collection<Long> ids);
+	
+	@Transactional(readOnly = true)
+	@Query(SELECT_DTO + "where p.emailCliente = :email order by p.id")
+	List<PedidoDTO> findDtoByEmailCliente(@Param("email") String email);
+	
+	/**
+	 * Filtra por la columna id_cliente del pedido, sin cargar antes el Cliente.
+	 */
+	@Transactional(readOnly = true)
+	@Query(SELECT_DTO + "where p.idCliente.id = :idCliente order by p.id")
+	List<PedidoDTO> findDtoByIdClienteId(@Param("idCliente") Long idCliente);
+	
+	@Transactional(readOnly = true)
+	@Query(SELECT_DTO + "where p.fechaCreacion = :fecha order by p.id")
+	List<PedidoDTO> findDtoByFechaCreacion(@Param("fecha") LocalDate fecha);
+	
+	@Query(SELECT_DTO + "where p.id > :after order by p.id")
+	List<PedidoDTO> findDtoPage(@Param("after") Long after, Limit limit);
+	
+	/**
+	 * Pagina por keyset los pedidos creados en un rango de fechas (inclusive).
+	 */
+	@Query(SELECT_DTO + "where p.fechaCreacion between :desde and :hasta and p.id > :after order by p.id")
+	List<PedidoDTO> findDtoPageByFechaCreacionBetween(@Param("desde") LocalDate desde,
+			@Param("hasta") LocalDate hasta, @Param("after") Long after, Limit limit);
+	
+	/**
+	 * Totales por dia calculados en la base de datos: numero de pedidos, unidades e ingresos
+	 * ({@code cantidad * precio}).
+	 */
+	@Query("select new com.ejercicio.pedidos.model.PedidoResumenDTO(p.fechaCreacion, count(p), "
+			+ "sum(p.cantidad), sum(p.cantidad * p.precio)) from Pedido p "
+			+ "where p.fechaCreacion between :desde and :hasta "
+			+ "group by p.fechaCreacion order by p.fechaCreacion")
+	List<PedidoResumenDTO> resumirPorDia(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta);
+	
+	/**
+	 * Totales por dia y codigo de producto calculados en la base de datos.
+	 */
+	@Query("select new com.ejercicio.pedidos.model.PedidoResumenDTO(p.fechaCreacion, p.codidoProducto, count(p), "
+			+ "sum(p.cantidad), sum(p.cantidad * p.precio)) from Pedido p "
+			+ "where p.fechaCreacion between :desde and :hasta "
+			+ "group by p.fechaCreacion, p.codidoProducto order by p.fechaCreacion, p.codidoProducto")
+	List<PedidoResumenDTO> resumirPorDiaYProducto(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta);
+	
+	/**
+	 * Emails distintos de los pedidos activos, leidos por cursor para construir el filtro de emails.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PedidoConstantes.EXPORT_FETCH_SIZE))
+	@Query("select distinct p.emailCliente from Pedido p")
+	Stream<String> streamEmailsActivos();
+	
+	/**
+	 * Recorre los pedidos activos para la exportacion masiva. Las filas se leen del cursor
+	 * JDBC en bloques de {@link PedidoConstantes#EXPORT_FETCH_SIZE} y las entidades se cargan
+	 * como solo lectura, sin snapshot para dirty-checking. El Stream debe cerrarse y
+	 * consumirse dentro de una transaccion.
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = PedidoConstantes.EXPORT_FETCH_SIZE),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query("select p from Pedido p left join fetch p.idCliente "
+			+ "where (:desde is null or p.fechaCreacion >= :desde) "
+			+ "and (:hasta is null or p.fechaCreacion <= :hasta) "
+			+ "and (:emailCliente is null or p.emailCliente = :emailCliente) "
+			+ "order by p.id")
+	Stream<Pedido> streamForExport(@Param("desde") LocalDate desde, @Param("hasta") LocalDate hasta,
+			@Param("emailCliente") String emailCliente);
 
 }
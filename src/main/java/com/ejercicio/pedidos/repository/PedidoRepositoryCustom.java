@@ -0,0 +1,51 @@
+package com.ejercicio.pedidos.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ejercicio.pedidos.entity.Pedido;
+
+/**
+ * Consultas de pedidos con seleccion de campos, implementadas con Criteria en
+ * {@link PedidoRepositoryCustomImpl}.
+ */
+public interface PedidoRepositoryCustom {
+
+	/**
+	 * Campo de {@code PedidoDTO} con el cliente del pedido.
+	 */
+	String CLIENTE = "idCliente";
+
+	/**
+	 * Campos propios de {@code PedidoDTO} que se pueden seleccionar, en el orden en que se devuelven.
+	 */
+	List<String> CAMPOS = List.of("id", "codidoProducto", "cantidad", "precio", "fechaCreacion");
+
+	/**
+	 * Campos que admite {@link #findCampos}: los de {@link #CAMPOS}, el cliente completo
+	 * ({@code idCliente}) y cada campo del cliente ({@code idCliente.nombreCliente}, ...).
+	 */
+	Set<String> CAMPOS_PERMITIDOS = Set.copyOf(Stream.of(CAMPOS.stream(), Stream.of(CLIENTE),
+			ClienteRepositoryCustom.CAMPOS.stream().map(campo -> CLIENTE + "." + campo))
+			.flatMap(campos -> campos).toList());
+
+	/**
+	 * Consulta solo las columnas de los campos solicitados; el {@code id} del pedido se incluye
+	 * siempre y, si se pide algun campo del cliente, tambien el del cliente. La tabla
+	 * {@code cliente} se une solo si se pide algun campo del cliente distinto de su id, que se lee
+	 * de la llave foranea del pedido.
+	 *
+	 * @param campos campos de {@link #CAMPOS_PERMITIDOS} a devolver
+	 * @param filtro condiciones de la consulta sobre el pedido
+	 * @param limit numero maximo de filas, ordenadas por id
+	 * @return una fila por pedido con los campos solicitados y, si se pidio, el cliente anidado
+	 *         en {@code idCliente} (null si el pedido no tiene cliente)
+	 */
+	List<Map<String, Object>> findCampos(Set<String> campos, Specification<Pedido> filtro, Limit limit);
+
+}
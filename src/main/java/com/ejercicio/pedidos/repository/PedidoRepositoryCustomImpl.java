@@ -0,0 +1,111 @@
+package com.ejercicio.pedidos.repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ejercicio.pedidos.entity.Pedido;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Implementacion de {@link PedidoRepositoryCustom}: arma el SELECT con las columnas de los campos
+ * solicitados y devuelve cada fila como un mapa ordenado, listo para serializarse, con el cliente
+ * anidado en {@code idCliente}.
+ */
+class PedidoRepositoryCustomImpl implements PedidoRepositoryCustom {
+
+	private static final String PREFIJO_CLIENTE = CLIENTE + ".";
+	private static final String ALIAS_CLIENTE = "cliente_";
+
+	private final EntityManager entityManager;
+
+	PedidoRepositoryCustomImpl(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	public List<Map<String, Object>> findCampos(Set<String> campos, Specification<Pedido> filtro, Limit limit) {
+		List<String> seleccion = CAMPOS.stream().filter(campo -> campo.equals("id") || campos.contains(campo))
+				.toList();
+		List<String> seleccionCliente = seleccionCliente(campos);
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Pedido> p = query.from(Pedido.class);
+		List<Selection<?>> columnas = new ArrayList<>(seleccion.size() + seleccionCliente.size());
+		for (String campo : seleccion) {
+			columnas.add(p.get(campo).alias(campo));
+		}
+		if (!seleccionCliente.isEmpty()) {
+			// Solo el id: se lee de la llave foranea id_cliente, sin unir la tabla cliente
+			Path<?> cliente = seleccionCliente.size() == 1 ? p.get(CLIENTE) : p.join(CLIENTE, JoinType.LEFT);
+			for (String campo : seleccionCliente) {
+				columnas.add(cliente.get(campo).alias(ALIAS_CLIENTE + campo));
+			}
+		}
+		query.multiselect(columnas)
+				.where(filtro.toPredicate(p, query, cb))
+				.orderBy(cb.asc(p.get("id")));
+		TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+		if (limit.isLimited()) {
+			typedQuery.setMaxResults(limit.max());
+		}
+		List<Tuple> filas = typedQuery.getResultList();
+		List<Map<String, Object>> pedidos = new ArrayList<>(filas.size());
+		for (Tuple fila : filas) {
+			Map<String, Object> pedido = new LinkedHashMap<>();
+			for (String campo : seleccion) {
+				pedido.put(campo, fila.get(campo));
+			}
+			if (!seleccionCliente.isEmpty()) {
+				pedido.put(CLIENTE, cliente(fila, seleccionCliente));
+			}
+			pedidos.add(pedido);
+		}
+		return pedidos;
+	}
+
+	/**
+	 * Campos del cliente solicitados en el orden de {@link ClienteRepositoryCustom#CAMPOS}, con el
+	 * id si se pidio alguno; vacia si no se pidio ninguno.
+	 */
+	private static List<String> seleccionCliente(Set<String> campos) {
+		if (campos.contains(CLIENTE)) {
+			return ClienteRepositoryCustom.CAMPOS;
+		}
+		Set<String> solicitados = new HashSet<>();
+		for (String campo : campos) {
+			if (campo.startsWith(PREFIJO_CLIENTE)) {
+				solicitados.add(campo.substring(PREFIJO_CLIENTE.length()));
+			}
+		}
+		return solicitados.isEmpty() ? List.of() : ClienteRepositoryCustomImpl.seleccion(solicitados);
+	}
+
+	private static Map<String, Object> cliente(Tuple fila, List<String> seleccionCliente) {
+		if (fila.get(ALIAS_CLIENTE + "id") == null) {
+			return null;
+		}
+		Map<String, Object> cliente = new LinkedHashMap<>();
+		for (String campo : seleccionCliente) {
+			cliente.put(campo, fila.get(ALIAS_CLIENTE + campo));
+		}
+		return cliente;
+	}
+
+}
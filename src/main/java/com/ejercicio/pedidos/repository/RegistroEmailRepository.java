@@ -0,0 +1,32 @@
+package com.ejercicio.pedidos.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ejercicio.pedidos.entity.RegistroEmail;
+
+/**
+ * Registro compartido de los emails guardados por cada instancia, que el filtro de emails usa
+ * para ver las altas de las demas instancias sin esperar a su reconstruccion.
+ */
+@Repository
+public interface RegistroEmailRepository extends JpaRepository<RegistroEmail, Long> {
+	
+	@Query("select r from RegistroEmail r where r.registrado >= :desde order by r.id")
+	List<RegistroEmail> findDesde(@Param("desde") LocalDateTime desde);
+	
+	@Query("select max(r.registrado) from RegistroEmail r")
+	Optional<LocalDateTime> findUltimoRegistrado();
+	
+	@Modifying
+	@Query("delete from RegistroEmail r where r.registrado < :antes")
+	int borrarAnteriores(@Param("antes") LocalDateTime antes);
+
+}
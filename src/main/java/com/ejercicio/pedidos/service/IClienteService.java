@@ -1,24 +1,37 @@
 package com.ejercicio.pedidos.service;
 
+import com.ejercicio.pedidos.exceptions.BadRequestException;
 import com.ejercicio.pedidos.exceptions.NoContentException;
 import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.model.ClienteCamposResponse;
 import com.ejercicio.pedidos.model.ClienteDTO;
 import com.ejercicio.pedidos.model.ClienteResponse;
 import com.ejercicio.pedidos.model.ClienteResponseSave;
 
 public interface IClienteService {
-	public ClienteResponse readAll() throws NoContentException;
+	public ClienteResponse readAll(Integer limit, String after) throws NoContentException, BadRequestException;
 	
 	public ClienteResponse readById(Long id) throws NotFoundException;
 	
+	public String readVersionById(Long id) throws NotFoundException;
+	
 	public ClienteResponseSave insert(ClienteDTO clienteDTO);
 	
-	public ClienteResponseSave update(Long id, ClienteDTO clienteDTO) throws NotFoundException;
+	public ClienteResponseSave update(Long id, ClienteDTO clienteDTO) throws NotFoundException, BadRequestException;
+	
+	public ClienteResponseSave patch(Long id, ClienteDTO clienteDTO) throws NotFoundException, BadRequestException;
 	
 	public ClienteResponseSave deleteById(Long id) throws NotFoundException;
 	
 	public ClienteResponse findByEmail(String email) throws NotFoundException; 
 	
+	public ClienteCamposResponse readAll(Integer limit, String after, String fields)
+			throws NoContentException, BadRequestException;
+	
+	public ClienteCamposResponse readById(Long id, String fields) throws NotFoundException, BadRequestException;
+	
+	public ClienteCamposResponse findByEmail(String email, String fields) throws NotFoundException, BadRequestException;
+	
 	
 	
 
@@ -1,29 +1,69 @@
 package com.ejercicio.pedidos.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.List;
 
-import com.ejercicio.pedidos.entity.Cliente;
+import com.ejercicio.pedidos.exceptions.BadRequestException;
 import com.ejercicio.pedidos.exceptions.NoContentException;
 import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.model.PedidoBatchItem;
+import com.ejercicio.pedidos.model.PedidoCamposResponse;
 import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.model.PedidoEliminacionResponse;
 import com.ejercicio.pedidos.model.PedidoResponse;
 import com.ejercicio.pedidos.model.PedidoResponseSave;
+import com.ejercicio.pedidos.model.PedidoResumenResponse;
 
 public interface IPedidoService {
-	public PedidoResponse readAll() throws NoContentException;
+	public PedidoResponse readAll(Integer limit, String after) throws NoContentException, BadRequestException;
 	
 	public PedidoResponse readById(Long id) throws NotFoundException;
 	
+	public String readVersionById(Long id) throws NotFoundException;
+	
 	public PedidoResponseSave insert(PedidoDTO pedidoDTO);
 	
-	public PedidoResponseSave update(Long id, PedidoDTO pedidoDTO) throws NotFoundException;
+	public List<PedidoBatchItem> insertBatch(List<PedidoDTO> pedidoDTOs) throws BadRequestException;
+	
+	public PedidoResponseSave update(Long id, PedidoDTO pedidoDTO) throws NotFoundException, BadRequestException;
+	
+	public PedidoResponseSave patch(Long id, PedidoDTO pedidoDTO) throws NotFoundException, BadRequestException;
 	
 	public PedidoResponseSave deleteById(Long id) throws NotFoundException;
 	
-	public PedidoResponse readByIdCliente(Cliente idCliente) throws NotFoundException;
+	public PedidoEliminacionResponse deleteByIds(List<Long> ids) throws BadRequestException, NotFoundException;
+	
+	public PedidoResponse readByIdCliente(Long idCliente) throws NotFoundException;
 	
 	public PedidoResponse readByemailCliente(String emailCliente) throws NotFoundException;
 	
 	public PedidoResponse readByFechaCreacion(LocalDate fechaCreacion) throws NotFoundException;
+	
+	public PedidoResponse readByFechaCreacion(LocalDate desde, LocalDate hasta, Integer limit, String after)
+			throws NotFoundException, BadRequestException;
+	
+	public PedidoCamposResponse readAll(Integer limit, String after, String fields)
+			throws NoContentException, BadRequestException;
+	
+	public PedidoCamposResponse readById(Long id, String fields) throws NotFoundException, BadRequestException;
+	
+	public PedidoCamposResponse readByIdCliente(Long idCliente, String fields)
+			throws NotFoundException, BadRequestException;
+	
+	public PedidoCamposResponse readByemailCliente(String emailCliente, String fields)
+			throws NotFoundException, BadRequestException;
+	
+	public PedidoCamposResponse readByFechaCreacion(LocalDate fechaCreacion, String fields)
+			throws NotFoundException, BadRequestException;
+	
+	public PedidoCamposResponse readByFechaCreacion(LocalDate desde, LocalDate hasta, Integer limit, String after,
+			String fields) throws NotFoundException, BadRequestException;
+	
+	public PedidoResumenResponse resumen(LocalDate desde, LocalDate hasta, boolean porProducto)
+			throws NotFoundException, BadRequestException;
+	
+	public void exportNdjson(LocalDate desde, LocalDate hasta, String emailCliente, OutputStream out) throws IOException;
 
 }
@@ -1,25 +1,42 @@
 package com.ejercicio.pedidos.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.ejercicio.pedidos.cache.ClienteCache;
+import com.ejercicio.pedidos.cache.FiltroEmails;
+import com.ejercicio.pedidos.cache.PedidoModeloLectura.ClienteModificadoEvent;
 import com.ejercicio.pedidos.entity.Cliente;
+import com.ejercicio.pedidos.exceptions.BadRequestException;
 import com.ejercicio.pedidos.exceptions.NoContentException;
 import com.ejercicio.pedidos.exceptions.NotFoundException;
 import com.ejercicio.pedidos.exceptions.ServerErrorException;
 import com.ejercicio.pedidos.mapper.impl.ClienteDTOInToCliente;
-import com.ejercicio.pedidos.mapper.impl.ClienteInToClienteDTO;
+import com.ejercicio.pedidos.mapper.impl.ClienteDTOOntoCliente;
+import com.ejercicio.pedidos.model.ClienteCamposResponse;
 import com.ejercicio.pedidos.model.ClienteDTO;
 import com.ejercicio.pedidos.model.ClienteResponse;
 import com.ejercicio.pedidos.model.ClienteResponseSave;
+import com.ejercicio.pedidos.repository.ClienteEspecificaciones;
 import com.ejercicio.pedidos.repository.ClienteRepository;
+import com.ejercicio.pedidos.repository.ClienteRepositoryCustom;
 import com.ejercicio.pedidos.service.IClienteService;
+import com.ejercicio.pedidos.utils.CamposUtils;
 import com.ejercicio.pedidos.utils.ClienteConstantes;
+import com.ejercicio.pedidos.utils.CursorUtils;
+import com.ejercicio.pedidos.utils.MetricasConstantes;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -30,69 +47,97 @@ import lombok.extern.slf4j.Slf4j;
  * <p>Utiliza un repositorio para el acceso a datos y mappers para la conversión entre
  * entidades y DTOs. Implementa soft delete para el borrado lógico de registros.
  *
+ * <p>Las consultas se ejecutan en transacciones de solo lectura (flush mode MANUAL en Hibernate)
+ * y el repositorio proyecta directamente a {@link ClienteDTO}, sin entidades administradas.
+ * Las búsquedas por id y por email pasan por {@link ClienteCache}; las actualizaciones y borrados
+ * expulsan las entradas afectadas. Debajo, la consulta por email está en la cache de consultas de
+ * Hibernate, que se invalida en las mismas escrituras.
+ *
  * @author Cuau Cabrera
  * @version 1.0
  * @see ClienteRepository
- * @see ClienteInToClienteDTO
  * @see ClienteDTOInToCliente
+ * @see ClienteCache
  */
 
 
 @Service
 @Slf4j
+@Timed(value = MetricasConstantes.SERVICIO_TIMER, description = MetricasConstantes.SERVICIO_TIMER_DESCRIPCION)
 public class ClienteService implements IClienteService{
 	
 	/**
      * Constructor que inicializa las dependencias necesarias para el servicio.
      *
      * @param clienteRepository repositorio para operaciones de base de datos
-     * @param mapperRead mapper para convertir de Cliente a ClienteDTO
      * @param mapperInsert mapper para convertir de ClienteDTO a Cliente
+     * @param mapperUpdate mapper para aplicar un ClienteDTO sobre un Cliente ya cargado
+     * @param clienteCache cache de consultas de clientes por id y por email
+     * @param validator validador de Bean Validation para las actualizaciones
+     * @param eventPublisher publica los clientes modificados para el modelo de lectura de pedidos
+     * @param filtroEmails filtro de emails existentes, vacío si no está habilitado
      */
 	
 	
 	private final ClienteRepository clienteRepository;
-	private final ClienteInToClienteDTO mapperRead;
 	private final ClienteDTOInToCliente mapperInsert;
+	private final ClienteDTOOntoCliente mapperUpdate;
+	private final ClienteCache clienteCache;
+	private final Validator validator;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Optional<FiltroEmails> filtroEmails;
 	
-	public ClienteService(ClienteRepository clienteRepository, ClienteInToClienteDTO mapperRead, ClienteDTOInToCliente mapperInsert) {
+	public ClienteService(ClienteRepository clienteRepository, ClienteDTOInToCliente mapperInsert,
+			ClienteDTOOntoCliente mapperUpdate, ClienteCache clienteCache, Validator validator,
+			ApplicationEventPublisher eventPublisher, Optional<FiltroEmails> filtroEmails) {
 		this.clienteRepository = clienteRepository;
-		this.mapperRead = mapperRead;
 		this.mapperInsert = mapperInsert;
+		this.mapperUpdate = mapperUpdate;
+		this.clienteCache = clienteCache;
+		this.validator = validator;
+		this.eventPublisher = eventPublisher;
+		this.filtroEmails = filtroEmails;
 	}
 	
 	/**
-     * Recupera todos los clientes activos del sistema.
+     * Recupera una página de clientes activos del sistema.
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Consulta todos los clientes de la base de datos</li>
-     *   <li>Filtra solo los clientes activos</li>
-     *   <li>Convierte las entidades a DTOs</li>
-     *   <li>Construye la respuesta con los datos encontrados</li>
+     *   <li>Decodifica el cursor recibido y valida el tamaño de página</li>
+     *   <li>Consulta los clientes activos con id mayor al cursor, ordenados por id (el filtro
+     *   de activos lo aplica la base de datos)</li>
+     *   <li>Proyecta cada fila directamente a DTO, sin hidratar entidades</li>
+     *   <li>Construye la respuesta con los datos encontrados y el cursor de la siguiente página</li>
      * </ul>
      *
-     * @return ClienteResponse conteniendo la lista de clientes activos
+     * @param limit número máximo de clientes a devolver, null para usar el valor por defecto
+     * @param after cursor opaco devuelto por la página anterior, null para la primera página
+     * @return ClienteResponse conteniendo la página de clientes activos
      * @throws NoContentException si no se encuentran clientes activos
+     * @throws BadRequestException si el cursor o el límite no son válidos
      * @throws ServerErrorException si ocurre un error durante el proceso
      */
 	@Override
-	public ClienteResponse readAll() throws NoContentException {
+	@Transactional(readOnly = true)
+	public ClienteResponse readAll(Integer limit, String after) throws NoContentException, BadRequestException {
 		try {
-			List<Cliente> clienteList = clienteRepository.findAll().stream().filter(
-					cliente -> cliente.getIsActive() != ClienteConstantes.FILTER && cliente.getIsActive() != null)
-					.toList();
+			int pageSize = CursorUtils.resolveLimit(limit);
+			List<ClienteDTO> clienteList = clienteRepository
+					.findDtoPage(CursorUtils.decode(after), Limit.of(pageSize + 1));
 			if (clienteList.isEmpty()) {
 				log.error(ClienteConstantes.NO_CONTENT_LOG);
 				throw new NoContentException(ClienteConstantes.NO_CONTENT_MSG);
 			} else {
-				List<ClienteDTO> cListDtos = clienteList.stream().map(cliente -> {
-					return mapperRead.map(cliente);
-				}).toList();
+				boolean hasNext = clienteList.size() > pageSize;
+				List<ClienteDTO> cListDtos = hasNext ? clienteList.subList(0, pageSize) : clienteList;
 				ClienteResponse clienteResponse = new ClienteResponse();
 				clienteResponse.setMensaje(ClienteConstantes.SUCCESS_MESSAGE);
 				clienteResponse.setCodigo(200);
 				clienteResponse.setClientes(cListDtos);
+				if (hasNext) {
+					clienteResponse.setCursorSiguiente(CursorUtils.encode(cListDtos.get(pageSize - 1).getId()));
+				}
 				return clienteResponse;
 			}
 
@@ -107,9 +152,8 @@ public class ClienteService implements IClienteService{
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Busca el cliente por ID en la base de datos</li>
-     *   <li>Verifica que el cliente exista y esté activo</li>
-     *   <li>Convierte la entidad a DTO</li>
+     *   <li>Busca el cliente activo por ID en la cache y, si no está, en la base de datos</li>
+     *   <li>Verifica que el cliente exista</li>
      *   <li>Construye la respuesta con los datos encontrados</li>
      * </ul>
      *
@@ -121,17 +165,13 @@ public class ClienteService implements IClienteService{
 	@Override
 	public ClienteResponse readById(Long id) throws NotFoundException {
 		try {
-			Optional<Cliente> clOptional = clienteRepository.findById(id);
+			Optional<ClienteDTO> clOptional = clienteCache.findById(id);
 
-			if (clOptional.isEmpty() || clOptional.get().getIsActive() == ClienteConstantes.FILTER
-					|| clOptional.get().getIsActive() == null) {
+			if (clOptional.isEmpty()) {
 				log.error(ClienteConstantes.NOT_FOUND_LOG);
 				throw new NotFoundException(ClienteConstantes.NOT_FOUND_MSG);
 			} else {
-				Cliente cliente = clOptional.get();
-				List<ClienteDTO> clienteDTO = Stream.of(cliente).map(cl -> {
-					return mapperRead.map(cl);
-				}).toList();
+				List<ClienteDTO> clienteDTO = List.of(clOptional.get());
 				ClienteResponse clienteResponse = new ClienteResponse();
 				clienteResponse.setMensaje(ClienteConstantes.SUCCESS_MESSAGE);
 				clienteResponse.setCodigo(200);
@@ -146,13 +186,46 @@ public class ClienteService implements IClienteService{
 		}
 	}
 	
+	/**
+     * Obtiene la version actual de un cliente para las peticiones GET condicionales.
+     * 
+     * <p>El método realiza las siguientes operaciones:
+     * <ul>
+     *   <li>Consulta solo la version del cliente activo, sin cargar la entidad ni el DTO</li>
+     *   <li>Verifica que el cliente exista</li>
+     * </ul>
+     *
+     * @param id identificador único del cliente
+     * @return version del cliente
+     * @throws NotFoundException si el cliente no existe o está inactivo
+     * @throws ServerErrorException si ocurre un error durante el proceso
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public String readVersionById(Long id) throws NotFoundException {
+		try {
+			Optional<Long> version = clienteRepository.findVersionById(id);
+
+			if (version.isEmpty()) {
+				log.error(ClienteConstantes.NOT_FOUND_LOG);
+				throw new NotFoundException(ClienteConstantes.NOT_FOUND_MSG);
+			}
+			return String.valueOf(version.get());
+
+		} catch (ServerErrorException e) {
+			log.error(ClienteConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(ClienteConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
 	/**
      * Crea un nuevo cliente en el sistema.
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
      *   <li>Convierte el DTO a entidad Cliente</li>
-     *   <li>Persiste el nuevo cliente en la base de datos</li>
+     *   <li>Persiste el nuevo cliente en la base de datos y registra su email en el filtro de
+     *   emails, si está habilitado</li>
      *   <li>Construye la respuesta con los datos del cliente creado</li>
      * </ul>
      *
@@ -166,6 +239,7 @@ public class ClienteService implements IClienteService{
 		try {
 			 Cliente cliente = mapperInsert.map(clienteDTO);
 			 clienteRepository.save(cliente);
+			 filtroEmails.ifPresent(filtro -> filtro.registrar(cliente.getEmailCliente()));
 			 ClienteResponseSave clienteResponseSave = new ClienteResponseSave();
 			 clienteResponseSave.setEmailCliente(cliente.getEmailCliente());
 			 clienteResponseSave.setCodigo(201);
@@ -184,9 +258,15 @@ public class ClienteService implements IClienteService{
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Verifica que el cliente exista y esté activo</li>
-     *   <li>Convierte el DTO a entidad Cliente</li>
-     *   <li>Actualiza los datos en la base de datos</li>
+     *   <li>Carga el cliente activo en el contexto de persistencia</li>
+     *   <li>Reemplaza sus datos editables sobre la misma entidad administrada, sin merge
+     *   ni una segunda consulta</li>
+     *   <li>Valida el cliente resultante; al confirmar la transacción, Hibernate emite un UPDATE
+     *   solo con las columnas modificadas</li>
+     *   <li>Expulsa de la cache el cliente y sus emails anterior y nuevo; al confirmar, Hibernate
+     *   incrementa la version e invalida la cache de consultas por email</li>
+     *   <li>Publica el cambio para que el modelo de lectura de pedidos, si está habilitado,
+     *   actualice los datos del cliente en sus pedidos tras el commit</li>
      *   <li>Construye la respuesta con la confirmación de la actualización</li>
      * </ul>
      *
@@ -194,22 +274,26 @@ public class ClienteService implements IClienteService{
      * @param clienteDTO nuevos datos del cliente
      * @return ClienteResponseSave conteniendo la confirmación de la actualización
      * @throws NotFoundException si el cliente no existe o está inactivo
+     * @throws BadRequestException si el cliente resultante no es válido
      * @throws ServerErrorException si ocurre un error durante el proceso
      */
 	@Override
-	@Transactional
-	public ClienteResponseSave update(Long id, ClienteDTO clienteDTO) throws NotFoundException {
+	@Transactional(rollbackFor = BadRequestException.class)
+	public ClienteResponseSave update(Long id, ClienteDTO clienteDTO) throws NotFoundException, BadRequestException {
 		try {
-			Optional<Cliente> clOptional = clienteRepository.findById(id);
+			Optional<Cliente> clOptional = clienteRepository.findByIdAndIsActiveTrue(id);
 			
-			if (clOptional.isEmpty() || clOptional.get()
-					.getIsActive()==ClienteConstantes.FILTER || clOptional.get()
-					.getIsActive()==null) {
+			if (clOptional.isEmpty()) {
 				log.error(ClienteConstantes.NOT_FOUND_LOG);
 				throw new NotFoundException(ClienteConstantes.NOT_FOUND_MSG);
 			} else {
-				Cliente cliente = mapperInsert.map(clienteDTO);
-				clienteRepository.save(cliente);
+				Cliente cliente = clOptional.get();
+				String emailAnterior = cliente.getEmailCliente();
+				mapperUpdate.update(clienteDTO, cliente);
+				validar(cliente);
+				filtroEmails.ifPresent(filtro -> filtro.registrar(cliente.getEmailCliente()));
+				clienteCache.evict(id, emailAnterior, cliente.getEmailCliente());
+				eventPublisher.publishEvent(new ClienteModificadoEvent(id));
 				ClienteResponseSave clienteResponseSave = new ClienteResponseSave();
 				clienteResponseSave.setEmailCliente(cliente.getEmailCliente());
 				clienteResponseSave.setMensaje(ClienteConstantes.UPDATED_MSG);
@@ -224,14 +308,81 @@ public class ClienteService implements IClienteService{
 		}
 	}
 	
+	/**
+     * Actualiza parcialmente la información de un cliente existente.
+     * 
+     * <p>El método realiza las siguientes operaciones:
+     * <ul>
+     *   <li>Carga el cliente activo en el contexto de persistencia</li>
+     *   <li>Aplica solo los campos no nulos del DTO sobre la entidad administrada</li>
+     *   <li>Valida el cliente resultante; al confirmar la transacción, Hibernate emite un UPDATE
+     *   solo con las columnas modificadas</li>
+     *   <li>Expulsa de la cache el cliente y sus emails anterior y nuevo; al confirmar, Hibernate
+     *   incrementa la version e invalida la cache de consultas por email</li>
+     *   <li>Publica el cambio para que el modelo de lectura de pedidos, si está habilitado,
+     *   actualice los datos del cliente en sus pedidos tras el commit</li>
+     *   <li>Construye la respuesta con la confirmación de la actualización</li>
+     * </ul>
+     *
+     * @param id identificador único del cliente a actualizar
+     * @param clienteDTO campos del cliente a modificar; los nulos se conservan
+     * @return ClienteResponseSave conteniendo la confirmación de la actualización
+     * @throws NotFoundException si el cliente no existe o está inactivo
+     * @throws BadRequestException si el cliente resultante no es válido
+     * @throws ServerErrorException si ocurre un error durante el proceso
+     */
+	@Override
+	@Transactional(rollbackFor = BadRequestException.class)
+	public ClienteResponseSave patch(Long id, ClienteDTO clienteDTO) throws NotFoundException, BadRequestException {
+		try {
+			Optional<Cliente> clOptional = clienteRepository.findByIdAndIsActiveTrue(id);
+			
+			if (clOptional.isEmpty()) {
+				log.error(ClienteConstantes.NOT_FOUND_LOG);
+				throw new NotFoundException(ClienteConstantes.NOT_FOUND_MSG);
+			} else {
+				Cliente cliente = clOptional.get();
+				String emailAnterior = cliente.getEmailCliente();
+				mapperUpdate.patch(clienteDTO, cliente);
+				validar(cliente);
+				filtroEmails.ifPresent(filtro -> filtro.registrar(cliente.getEmailCliente()));
+				clienteCache.evict(id, emailAnterior, cliente.getEmailCliente());
+				eventPublisher.publishEvent(new ClienteModificadoEvent(id));
+				ClienteResponseSave clienteResponseSave = new ClienteResponseSave();
+				clienteResponseSave.setEmailCliente(cliente.getEmailCliente());
+				clienteResponseSave.setMensaje(ClienteConstantes.UPDATED_MSG);
+				clienteResponseSave.setCodigo(200);
+				log.info(ClienteConstantes.SUCCESS_LOG);
+				return clienteResponseSave;				
+			}
+			
+		} catch (ServerErrorException e) {
+			log.error(ClienteConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(ClienteConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
+	private void validar(Cliente cliente) throws BadRequestException {
+		Set<ConstraintViolation<Cliente>> violaciones = validator.validate(cliente);
+		if (!violaciones.isEmpty()) {
+			throw new BadRequestException(violaciones.iterator().next().getMessage());
+		}
+	}
+	
 	/**
      * Realiza un borrado lógico de un cliente por su ID.
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Verifica que el cliente exista y esté activo</li>
-     *   <li>Marca el cliente como inactivo en la base de datos</li>
-     *   <li>Construye la respuesta con la confirmación del borrado</li>
+     *   <li>Marca el cliente como inactivo con una sola sentencia UPDATE condicionada a que
+     *   el cliente exista y esté activo, sin cargarlo antes</li>
+     *   <li>Determina si el cliente existía a partir del número de filas afectadas</li>
+     *   <li>Expulsa el cliente de la cache (la entrada por email se invalida con el id); al ser
+     *   un UPDATE masivo, Hibernate invalida la cache de consultas por email</li>
+     *   <li>Publica el cambio para que el modelo de lectura de pedidos, si está habilitado,
+     *   actualice los datos del cliente en sus pedidos tras el commit</li>
+     *   <li>Construye la respuesta con la confirmación del borrado; el email no se incluye
+     *   porque el cliente no se consulta</li>
      * </ul>
      *
      * @param id identificador único del cliente a eliminar
@@ -243,19 +394,15 @@ public class ClienteService implements IClienteService{
 	@Transactional
 	public ClienteResponseSave deleteById(Long id) throws NotFoundException {
 		try {
-			Optional<Cliente> clOptional = clienteRepository.findById(id);
+			int eliminados = clienteRepository.desactivarPorId(id);
 			
-			if (clOptional.isEmpty() || clOptional.get()
-					.getIsActive()==ClienteConstantes.FILTER || clOptional.get()
-					.getIsActive()==null) {
+			if (eliminados == 0) {
 				log.error(ClienteConstantes.NOT_FOUND_LOG);
 				throw new NotFoundException(ClienteConstantes.NOT_FOUND_MSG);	
 			} else {
-				Cliente cliente = clOptional.get();
-				cliente.setIsActive(ClienteConstantes.FILTER);
-				clienteRepository.save(cliente);
+				clienteCache.evict(id);
+				eventPublisher.publishEvent(new ClienteModificadoEvent(id));
 				ClienteResponseSave clienteResponseSave = new ClienteResponseSave();
-				clienteResponseSave.setEmailCliente(cliente.getEmailCliente());
 				clienteResponseSave.setCodigo(200);
 				clienteResponseSave.setMensaje(ClienteConstantes.DELETED_MSG);
 				log.info(ClienteConstantes.SUCCESS_LOG);
@@ -273,9 +420,10 @@ public class ClienteService implements IClienteService{
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Busca el cliente por email en la base de datos</li>
-     *   <li>Verifica que el cliente exista y esté activo</li>
-     *   <li>Convierte la entidad a DTO</li>
+     *   <li>Si el filtro de emails está habilitado y descarta el email, responde que no existe
+     *   sin consultar la cache ni la base de datos</li>
+     *   <li>Busca el cliente activo por email normalizado en la cache y, si no está, en la base de datos</li>
+     *   <li>Verifica que el cliente exista</li>
      *   <li>Construye la respuesta con los datos encontrados</li>
      * </ul>
      *
@@ -287,17 +435,18 @@ public class ClienteService implements IClienteService{
 	@Override
 	public ClienteResponse findByEmail(String email) throws NotFoundException {
 		try {
-			Optional<Cliente> clOptional = clienteRepository.findClienteByEmailClienteAndIsActiveTrue(email);
+			if (filtroEmails.isPresent() && !filtroEmails.get().puedeExistir(email)) {
+				log.error(ClienteConstantes.NOT_FOUND_LOG);
+				throw new NotFoundException(ClienteConstantes.NOT_FOUND_MSG);
+			}
+			Optional<ClienteDTO> clOptional = clienteCache.findByEmail(email);
 
-			if (clOptional.isEmpty() || clOptional.get().getIsActive() == ClienteConstantes.FILTER
-					|| clOptional.get().getIsActive() == null) {
+			if (clOptional.isEmpty()) {
+				filtroEmails.ifPresent(FiltroEmails::registrarFalsoPositivo);
 				log.error(ClienteConstantes.SERVER_ERROR_LOG);
 				throw new NotFoundException(ClienteConstantes.NOT_FOUND_MSG);
 			} else {
-				Cliente cliente = clOptional.get();
-				List<ClienteDTO> clienteDTOs = Stream.of(cliente).map(c -> {
-					return mapperRead.map(cliente);
-				}).toList();
+				List<ClienteDTO> clienteDTOs = List.of(clOptional.get());
 				ClienteResponse clienteResponse = new ClienteResponse();
 				clienteResponse.setMensaje(ClienteConstantes.SUCCESS_MESSAGE);
 				clienteResponse.setCodigo(200);
@@ -311,5 +460,120 @@ public class ClienteService implements IClienteService{
 			throw new ServerErrorException(ClienteConstantes.SERVER_ERROR_MSG);
 		}
 	}
+	
+	/**
+     * Recupera una página de clientes activos solo con los campos solicitados.
+     * 
+     * <p>El método realiza las siguientes operaciones:
+     * <ul>
+     *   <li>Valida los campos solicitados, el cursor y el tamaño de página</li>
+     *   <li>Consulta solo las columnas de esos campos, sin pasar por las caches de clientes</li>
+     *   <li>Construye la respuesta con los datos encontrados y el cursor de la siguiente página</li>
+     * </ul>
+     *
+     * @param limit número máximo de clientes a devolver, null para usar el valor por defecto
+     * @param after cursor opaco devuelto por la página anterior, null para la primera página
+     * @param fields campos a devolver, separados por comas
+     * @return ClienteCamposResponse conteniendo la página de clientes activos
+     * @throws NoContentException si no se encuentran clientes activos
+     * @throws BadRequestException si los campos, el cursor o el límite no son válidos
+     * @throws ServerErrorException si ocurre un error durante el proceso
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public ClienteCamposResponse readAll(Integer limit, String after, String fields)
+			throws NoContentException, BadRequestException {
+		Set<String> campos = CamposUtils.resolver(fields, ClienteRepositoryCustom.CAMPOS);
+		try {
+			int pageSize = CursorUtils.resolveLimit(limit);
+			List<Map<String, Object>> clienteList = clienteRepository.findCampos(campos,
+					ClienteEspecificaciones.despuesDe(CursorUtils.decode(after)), Limit.of(pageSize + 1));
+			if (clienteList.isEmpty()) {
+				log.error(ClienteConstantes.NO_CONTENT_LOG);
+				throw new NoContentException(ClienteConstantes.NO_CONTENT_MSG);
+			}
+			return respuestaCampos(clienteList, pageSize);
+
+		} catch (ServerErrorException e) {
+			log.error(ClienteConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(ClienteConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
+	/**
+     * Busca un cliente por su ID y devuelve solo los campos solicitados.
+     *
+     * @param id identificador único del cliente a buscar
+     * @param fields campos a devolver, separados por comas
+     * @return ClienteCamposResponse conteniendo el cliente encontrado
+     * @throws NotFoundException si el cliente no existe o está inactivo
+     * @throws BadRequestException si los campos no son válidos
+     * @throws ServerErrorException si ocurre un error durante el proceso
+     * @see #readAll(Integer, String, String)
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public ClienteCamposResponse readById(Long id, String fields) throws NotFoundException, BadRequestException {
+		return readCampos(CamposUtils.resolver(fields, ClienteRepositoryCustom.CAMPOS),
+				ClienteEspecificaciones.porId(id));
+	}
+	
+	/**
+     * Busca un cliente por su email y devuelve solo los campos solicitados. Si el filtro de
+     * emails descarta el email, responde sin consultar la base de datos.
+     *
+     * @param email dirección de email del cliente a buscar
+     * @param fields campos a devolver, separados por comas
+     * @return ClienteCamposResponse conteniendo el cliente encontrado
+     * @throws NotFoundException si el cliente no existe o está inactivo
+     * @throws BadRequestException si los campos no son válidos
+     * @throws ServerErrorException si ocurre un error durante el proceso
+     * @see #readAll(Integer, String, String)
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public ClienteCamposResponse findByEmail(String email, String fields)
+			throws NotFoundException, BadRequestException {
+		Set<String> campos = CamposUtils.resolver(fields, ClienteRepositoryCustom.CAMPOS);
+		if (filtroEmails.isPresent() && !filtroEmails.get().puedeExistir(email)) {
+			log.error(ClienteConstantes.NOT_FOUND_LOG);
+			throw new NotFoundException(ClienteConstantes.NOT_FOUND_MSG);
+		}
+		return readCampos(campos, ClienteEspecificaciones.porEmail(ClienteCache.normalize(email)));
+	}
+	
+	private ClienteCamposResponse readCampos(Set<String> campos, Specification<Cliente> filtro)
+			throws NotFoundException {
+		try {
+			List<Map<String, Object>> clientes = clienteRepository.findCampos(campos, filtro, Limit.unlimited());
+			if (clientes.isEmpty()) {
+				log.error(ClienteConstantes.NOT_FOUND_LOG);
+				throw new NotFoundException(ClienteConstantes.NOT_FOUND_MSG);
+			}
+			return respuestaCampos(clientes, clientes.size());
+
+		} catch (ServerErrorException e) {
+			log.error(ClienteConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(ClienteConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
+	/**
+	 * Construye la respuesta con los primeros {@code pageSize} clientes y, si la consulta trajo una
+	 * fila más, el cursor de la siguiente página.
+	 */
+	private ClienteCamposResponse respuestaCampos(List<Map<String, Object>> clienteList, int pageSize) {
+		boolean hasNext = clienteList.size() > pageSize;
+		List<Map<String, Object>> clientes = hasNext ? clienteList.subList(0, pageSize) : clienteList;
+		ClienteCamposResponse clienteResponse = new ClienteCamposResponse();
+		clienteResponse.setMensaje(ClienteConstantes.SUCCESS_MESSAGE);
+		clienteResponse.setCodigo(200);
+		clienteResponse.setClientes(clientes);
+		if (hasNext) {
+			clienteResponse.setCursorSiguiente(CursorUtils.encode((Long) clientes.get(pageSize - 1).get("id")));
+		}
+		log.info(ClienteConstantes.SUCCESS_LOG);
+		return clienteResponse;
+	}
 
 }
@@ -1,26 +1,66 @@
 package com.ejercicio.pedidos.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.ejercicio.pedidos.cache.FiltroEmails;
+import com.ejercicio.pedidos.cache.PedidoModeloLectura;
+import com.ejercicio.pedidos.cache.PedidoModeloLectura.PedidosModificadosEvent;
 import com.ejercicio.pedidos.entity.Cliente;
 import com.ejercicio.pedidos.entity.Pedido;
+import com.ejercicio.pedidos.exceptions.BadRequestException;
 import com.ejercicio.pedidos.exceptions.NoContentException;
 import com.ejercicio.pedidos.exceptions.NotFoundException;
 import com.ejercicio.pedidos.exceptions.ServerErrorException;
 import com.ejercicio.pedidos.mapper.impl.PedidoDTOInToPedido;
+import com.ejercicio.pedidos.mapper.impl.PedidoDTOOntoPedido;
 import com.ejercicio.pedidos.mapper.impl.PedidoInToPedidoDTO;
+import com.ejercicio.pedidos.model.PedidoBatchItem;
+import com.ejercicio.pedidos.model.PedidoCamposResponse;
 import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.model.PedidoEliminacionResponse;
 import com.ejercicio.pedidos.model.PedidoResponse;
 import com.ejercicio.pedidos.model.PedidoResponseSave;
+import com.ejercicio.pedidos.model.PedidoResumenDTO;
+import com.ejercicio.pedidos.model.PedidoResumenResponse;
+import com.ejercicio.pedidos.repository.ClienteRepository;
+import com.ejercicio.pedidos.repository.PedidoEspecificaciones;
 import com.ejercicio.pedidos.repository.PedidoRepository;
+import com.ejercicio.pedidos.repository.PedidoRepositoryCustom;
 import com.ejercicio.pedidos.service.IPedidoService;
+import com.ejercicio.pedidos.utils.CamposUtils;
+import com.ejercicio.pedidos.utils.CursorUtils;
+import com.ejercicio.pedidos.utils.MetricasConstantes;
 import com.ejercicio.pedidos.utils.PedidoConstantes;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -31,6 +71,17 @@ import lombok.extern.slf4j.Slf4j;
  * <p>Esta clase maneja el mapeo entre entidades y DTOs, así como la gestión
  * de estados activos/inactivos para implementar borrado lógico.
  *
+ * <p>Las consultas se ejecutan en transacciones de solo lectura: Spring marca la sesión de
+ * Hibernate con flush mode MANUAL y la conexión como read-only, y los repositorios proyectan
+ * directamente a DTO, por lo que no se crean entidades administradas ni snapshots de dirty-checking.
+ *
+ * <p>Con el modelo de lectura habilitado ({@link PedidoModeloLectura}), las búsquedas por cliente,
+ * email y fecha se resuelven en memoria sin abrir transacción ni conexión; las escrituras publican
+ * los ids modificados para que el modelo se actualice tras el commit.
+ *
+ * <p>Las consultas con selección de campos ({@code fields}) leen solo las columnas solicitadas y
+ * siempre van a la base de datos.
+ *
  * @author Cuau Cabrera
  * @version 1.0
  * @see PedidoRepository
@@ -41,60 +92,100 @@ import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
+@Timed(value = MetricasConstantes.SERVICIO_TIMER, description = MetricasConstantes.SERVICIO_TIMER_DESCRIPCION)
 public class PedidoService implements IPedidoService {
 	
 	private final PedidoRepository pedidoRepository;
+	private final ClienteRepository clienteRepository;
 	private final PedidoInToPedidoDTO mapperRead;
 	private final PedidoDTOInToPedido mapperSave;
+	private final PedidoDTOOntoPedido mapperUpdate;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Optional<PedidoModeloLectura> modeloLectura;
+	private final Optional<FiltroEmails> filtroEmails;
 	
 	/**
      * Constructor que inicializa las dependencias necesarias para el servicio.
      *
      * @param pedidoRepository repositorio para operaciones de base de datos
+     * @param clienteRepository repositorio de clientes, usado para verificar los clientes de la carga por lotes
      * @param mapperRead mapper para convertir de Pedido a PedidoDTO
      * @param mapperSave mapper para convertir de PedidoDTO a Pedido
+     * @param mapperUpdate mapper para aplicar un PedidoDTO sobre un Pedido ya cargado
+     * @param entityManager contexto de persistencia, usado para desasociar entidades en la exportación
+     * @param objectMapper serializador JSON configurado por Spring
+     * @param validator validador de Bean Validation para la carga por lotes y las actualizaciones
+     * @param eventPublisher publica los pedidos modificados para el modelo de lectura
+     * @param modeloLectura modelo de lectura en memoria, vacío si no está habilitado
+     * @param filtroEmails filtro de emails existentes, vacío si no está habilitado
      */
 	public PedidoService(PedidoRepository pedidoRepository, 
+			ClienteRepository clienteRepository,
 			PedidoInToPedidoDTO mapperRead, 
-			PedidoDTOInToPedido mapperSave) {
+			PedidoDTOInToPedido mapperSave,
+			PedidoDTOOntoPedido mapperUpdate,
+			EntityManager entityManager,
+			ObjectMapper objectMapper,
+			Validator validator,
+			ApplicationEventPublisher eventPublisher,
+			Optional<PedidoModeloLectura> modeloLectura,
+			Optional<FiltroEmails> filtroEmails) {
 		this.pedidoRepository = pedidoRepository;
+		this.clienteRepository = clienteRepository;
 		this.mapperRead = mapperRead;
 		this.mapperSave = mapperSave;
+		this.mapperUpdate = mapperUpdate;
+		this.entityManager = entityManager;
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.eventPublisher = eventPublisher;
+		this.modeloLectura = modeloLectura;
+		this.filtroEmails = filtroEmails;
 	}
 	
 	/**
-     * Recupera todos los pedidos activos del sistema.
+     * Recupera una pagina de pedidos activos del sistema.
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Obtiene todos los pedidos de la base de datos</li>
-     *   <li>Filtra solo los pedidos activos</li>
-     *   <li>Mapea las entidades a DTOs</li>
-     *   <li>Construye una respuesta con la lista de pedidos</li>
+     *   <li>Decodifica el cursor recibido y valida el tamaño de página</li>
+     *   <li>Consulta los pedidos activos con id mayor al cursor, ordenados por id (el filtro
+     *   de activos lo aplica la base de datos)</li>
+     *   <li>Proyecta cada fila directamente a DTO, sin hidratar entidades</li>
+     *   <li>Construye una respuesta con la lista de pedidos y el cursor de la siguiente página</li>
      * </ul>
      *
-     * @return PedidoResponse conteniendo la lista de pedidos activos
+     * @param limit número máximo de pedidos a devolver, null para usar el valor por defecto
+     * @param after cursor opaco devuelto por la página anterior, null para la primera página
+     * @return PedidoResponse conteniendo la página de pedidos activos
      * @throws NoContentException si no se encuentran pedidos activos
+     * @throws BadRequestException si el cursor o el límite no son válidos
      * @throws ServerErrorException si ocurre un error en el servidor
      */
 	@Override
-	public PedidoResponse readAll() throws NoContentException {
+	@Transactional(readOnly = true)
+	public PedidoResponse readAll(Integer limit, String after) throws NoContentException, BadRequestException {
 		try {
-			List<Pedido> pedidoList = pedidoRepository.findAll().stream()
-					.filter(pedido -> pedido.getIsActive()!=PedidoConstantes.FILTER && pedido.getIsActive()!=null)
-					.toList();
+			int pageSize = CursorUtils.resolveLimit(limit);
+			List<PedidoDTO> pedidoList = pedidoRepository
+					.findDtoPage(CursorUtils.decode(after), Limit.of(pageSize + 1));
 			
 			if (pedidoList.isEmpty()) {
 				log.error(PedidoConstantes.NO_CONTENT_LOG);
 				throw new NoContentException(PedidoConstantes.NO_CONTENT_MSG);
 			} else {
-					List<PedidoDTO> pedidoDTOs = pedidoList.stream().map(pedido -> {
-					return mapperRead.map(pedido);
-				}).toList();
+				boolean hasNext = pedidoList.size() > pageSize;
+				List<PedidoDTO> pedidoDTOs = hasNext ? pedidoList.subList(0, pageSize) : pedidoList;
 				PedidoResponse pedidoResponse = new PedidoResponse();
 				pedidoResponse.setMensaje(PedidoConstantes.SUCCESS_MESSAGE);
 				pedidoResponse.setCodigo(200);
 				pedidoResponse.setPedidos(pedidoDTOs);
+				if (hasNext) {
+					pedidoResponse.setCursorSiguiente(CursorUtils.encode(pedidoDTOs.get(pageSize - 1).getId()));
+				}
 				log.info(PedidoConstantes.SUCCESS_LOG);
 				return pedidoResponse;
 			}
@@ -110,9 +201,8 @@ public class PedidoService implements IPedidoService {
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Busca el pedido por ID en la base de datos</li>
-     *   <li>Verifica que el pedido exista y esté activo</li>
-     *   <li>Mapea la entidad a DTO</li>
+     *   <li>Busca el pedido activo por ID, proyectado directamente a DTO</li>
+     *   <li>Verifica que el pedido exista</li>
      *   <li>Construye la respuesta con el pedido encontrado</li>
      * </ul>
      *
@@ -122,18 +212,16 @@ public class PedidoService implements IPedidoService {
      * @throws ServerErrorException si ocurre un error en el servidor
      */
 	@Override
+	@Transactional(readOnly = true)
 	public PedidoResponse readById(Long id) throws NotFoundException {
 		try {
-			Optional<Pedido> pedidoOptional = pedidoRepository.findByIdAndIsActiveTrue(id);
+			Optional<PedidoDTO> pedidoOptional = pedidoRepository.findDtoById(id);
 			
-			if (pedidoOptional.isEmpty() || pedidoOptional.get().getIsActive()==null) {
+			if (pedidoOptional.isEmpty()) {
 				log.error(PedidoConstantes.NOT_FOUND_LOG);
 				throw new NotFoundException(PedidoConstantes.NOT_FOUND_MSG);
 			} else {
-				Pedido pedido = pedidoOptional.get();
-				List<PedidoDTO> pedidoDTOs = Stream.of(pedido).map(p -> {
-					return mapperRead.map(pedido);
-				}).toList();
+				List<PedidoDTO> pedidoDTOs = List.of(pedidoOptional.get());
 				PedidoResponse pedidoResponse = new PedidoResponse();
 				pedidoResponse.setMensaje(PedidoConstantes.SUCCESS_MESSAGE);
 				pedidoResponse.setCodigo(200);
@@ -148,12 +236,44 @@ public class PedidoService implements IPedidoService {
 		}
 	}
 	
+	/**
+     * Obtiene la version actual de un pedido para las peticiones GET condicionales.
+     * 
+     * <p>El método realiza las siguientes operaciones:
+     * <ul>
+     *   <li>Consulta solo la version del pedido activo y la de su cliente, sin proyectar el DTO</li>
+     *   <li>Verifica que el pedido exista</li>
+     * </ul>
+     *
+     * @param id identificador único del pedido
+     * @return version del pedido y de su cliente ({@code "<pedido>-<cliente>"})
+     * @throws NotFoundException si el pedido no existe o está inactivo
+     * @throws ServerErrorException si ocurre un error en el servidor
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public String readVersionById(Long id) throws NotFoundException {
+		try {
+			Optional<String> version = pedidoRepository.findVersionById(id);
+			
+			if (version.isEmpty()) {
+				log.error(PedidoConstantes.NOT_FOUND_LOG);
+				throw new NotFoundException(PedidoConstantes.NOT_FOUND_MSG);
+			}
+			return version.get();
+			
+		} catch (ServerErrorException e) {
+			log.error(PedidoConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(PedidoConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
 	/**
      * Crea un nuevo pedido en el sistema.
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Convierte el DTO a entidad Pedido</li>
+     *   <li>Convierte el DTO a entidad Pedido y asocia el cliente por referencia, sin cargarlo</li>
      *   <li>Persiste el nuevo pedido en la base de datos</li>
      *   <li>Construye la respuesta con la confirmación de creación</li>
      * </ul>
@@ -163,10 +283,14 @@ public class PedidoService implements IPedidoService {
      * @throws ServerErrorException si ocurre un error en el servidor
      */
 	@Override
+	@Transactional
 	public PedidoResponseSave insert(PedidoDTO pedidoDTO) {
 		try {
 			Pedido pedido = mapperSave.map(pedidoDTO);
+			referenciarCliente(pedido);
+			registrarEmail(pedido);
 			pedido = pedidoRepository.save(pedido);
+			publicarModificados(List.of(pedido.getId()));
 			PedidoResponseSave pedidoResponseSave = new PedidoResponseSave();
 			pedidoResponseSave.setId(pedido.getId());
 			pedidoResponseSave.setCodigo(201);
@@ -180,14 +304,130 @@ public class PedidoService implements IPedidoService {
 		}
 	}
 	
+	/**
+     * Crea un conjunto de pedidos en bloques, usando inserciones por lotes de JDBC.
+     * 
+     * <p>El método realiza las siguientes operaciones:
+     * <ul>
+     *   <li>Verifica en una sola consulta que existan y estén activos los clientes referenciados</li>
+     *   <li>Convierte cada DTO a entidad y la valida de forma individual; los pedidos
+     *   inválidos o con un cliente inexistente o inactivo se reportan con código 400 y no detienen
+     *   la carga</li>
+     *   <li>Persiste los pedidos válidos en bloques de {@link PedidoConstantes#BATCH_SIZE}: cada
+     *   bloque se envía como un solo lote JDBC (los ids se asignan desde el generador pooled,
+     *   sin ida y vuelta por fila) y después se limpia el contexto de persistencia</li>
+     *   <li>Construye la respuesta con el id y el código de cada elemento, en el orden recibido</li>
+     * </ul>
+     *
+     * @param pedidoDTOs pedidos a crear
+     * @return lista con el id asignado y el código de resultado de cada pedido
+     * @throws BadRequestException si la lista está vacía o excede el máximo permitido
+     * @throws ServerErrorException si ocurre un error en el servidor
+     */
+	@Override
+	@Transactional
+	public List<PedidoBatchItem> insertBatch(List<PedidoDTO> pedidoDTOs) throws BadRequestException {
+		if (pedidoDTOs == null || pedidoDTOs.isEmpty()) {
+			throw new BadRequestException(PedidoConstantes.BATCH_EMPTY_MSG);
+		}
+		if (pedidoDTOs.size() > PedidoConstantes.MAX_BATCH_ITEMS) {
+			throw new BadRequestException(PedidoConstantes.BATCH_TOO_LARGE_MSG);
+		}
+		try {
+			List<PedidoBatchItem> resultado = new ArrayList<>(pedidoDTOs.size());
+			List<Pedido> bloque = new ArrayList<>(PedidoConstantes.BATCH_SIZE);
+			List<PedidoBatchItem> itemsBloque = new ArrayList<>(PedidoConstantes.BATCH_SIZE);
+			Set<Long> clientesActivos = clientesActivos(pedidoDTOs);
+			int rechazados = 0;
+			for (PedidoDTO pedidoDTO : pedidoDTOs) {
+				Pedido pedido = mapperSave.map(pedidoDTO);
+				referenciarCliente(pedido);
+				PedidoBatchItem item = new PedidoBatchItem();
+				resultado.add(item);
+				if (!validator.validate(pedido).isEmpty()
+						|| !clientesActivos.contains(pedido.getIdCliente().getId())) {
+					item.setCodigo(400);
+					rechazados++;
+					continue;
+				}
+				registrarEmail(pedido);
+				bloque.add(pedido);
+				itemsBloque.add(item);
+				if (bloque.size() == PedidoConstantes.BATCH_SIZE) {
+					saveBlock(bloque, itemsBloque);
+				}
+			}
+			saveBlock(bloque, itemsBloque);
+			publicarModificados(resultado.stream().map(PedidoBatchItem::getId).filter(Objects::nonNull).toList());
+			log.info(PedidoConstantes.BATCH_LOG, pedidoDTOs.size() - rechazados, rechazados);
+			return resultado;
+
+		} catch (ServerErrorException e) {
+			log.error(PedidoConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(PedidoConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
+	/**
+	 * Sustituye el Cliente construido desde el DTO por una referencia administrada. El DTO no
+	 * trae la version del cliente, y Hibernate no acepta una instancia desprendida sin version.
+	 */
+	private void referenciarCliente(Pedido pedido) {
+		if (pedido.getIdCliente() != null && pedido.getIdCliente().getId() != null) {
+			pedido.setIdCliente(entityManager.getReference(Cliente.class, pedido.getIdCliente().getId()));
+		}
+	}
+	
+	/**
+	 * Ids de los clientes referenciados por los pedidos que existen y están activos. Un cliente
+	 * inexistente haría fallar la llave foránea en el flush y revertiría el lote completo; uno dado
+	 * de baja dejaría pedidos activos de un cliente inactivo.
+	 */
+	private Set<Long> clientesActivos(List<PedidoDTO> pedidoDTOs) {
+		Set<Long> ids = new HashSet<>();
+		for (PedidoDTO pedidoDTO : pedidoDTOs) {
+			if (pedidoDTO != null && pedidoDTO.getIdCliente() != null && pedidoDTO.getIdCliente().getId() != null) {
+				ids.add(pedidoDTO.getIdCliente().getId());
+			}
+		}
+		return ids.isEmpty() ? new HashSet<>() : new HashSet<>(clienteRepository.findIdsActivos(ids));
+	}
+	
+	private void registrarEmail(Pedido pedido) {
+		filtroEmails.ifPresent(filtro -> filtro.registrar(pedido.getEmailCliente()));
+	}
+	
+	private void publicarModificados(Collection<Long> ids) {
+		if (!ids.isEmpty()) {
+			eventPublisher.publishEvent(new PedidosModificadosEvent(ids));
+		}
+	}
+	
+	private void saveBlock(List<Pedido> bloque, List<PedidoBatchItem> itemsBloque) {
+		if (bloque.isEmpty()) {
+			return;
+		}
+		pedidoRepository.saveAll(bloque);
+		entityManager.flush();
+		for (int i = 0; i < bloque.size(); i++) {
+			itemsBloque.get(i).setId(bloque.get(i).getId());
+			itemsBloque.get(i).setCodigo(201);
+		}
+		entityManager.clear();
+		bloque.clear();
+		itemsBloque.clear();
+	}
+	
 	/**
      * Actualiza un pedido existente.
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Verifica que el pedido exista y esté activo</li>
-     *   <li>Actualiza los datos del pedido</li>
-     *   <li>Persiste los cambios en la base de datos</li>
+     *   <li>Carga el pedido activo en el contexto de persistencia</li>
+     *   <li>Reemplaza sus datos editables sobre la misma entidad administrada, sin merge
+     *   ni una segunda consulta</li>
+     *   <li>Valida el pedido resultante</li>
+     *   <li>Al confirmar la transacción, Hibernate emite un UPDATE solo con las columnas modificadas</li>
      *   <li>Construye la respuesta con la confirmación de actualización</li>
      * </ul>
      *
@@ -195,10 +435,12 @@ public class PedidoService implements IPedidoService {
      * @param pedidoDTO nuevos datos del pedido
      * @return PedidoResponseSave conteniendo la confirmación de la actualización
      * @throws NotFoundException si el pedido no existe o está inactivo
+     * @throws BadRequestException si el pedido resultante no es válido
      * @throws ServerErrorException si ocurre un error en el servidor
      */
 	@Override
-	public PedidoResponseSave update(Long id, PedidoDTO pedidoDTO) throws NotFoundException {
+	@Transactional(rollbackFor = BadRequestException.class)
+	public PedidoResponseSave update(Long id, PedidoDTO pedidoDTO) throws NotFoundException, BadRequestException {
 		try {
 			Optional<Pedido> pedidoOptional = pedidoRepository.findByIdAndIsActiveTrue(id);
 			
@@ -206,8 +448,11 @@ public class PedidoService implements IPedidoService {
 				log.error(PedidoConstantes.NOT_FOUND_LOG);
 				throw new NotFoundException(PedidoConstantes.NOT_FOUND_MSG);
 			} else {
-				Pedido pedido = mapperSave.map(pedidoDTO);
-				pedido = pedidoRepository.save(pedido);
+				Pedido pedido = pedidoOptional.get();
+				mapperUpdate.update(pedidoDTO, pedido);
+				validar(pedido);
+				registrarEmail(pedido);
+				publicarModificados(List.of(id));
 				PedidoResponseSave pedidoResponseSave = new PedidoResponseSave();
 				pedidoResponseSave.setId(pedido.getId());
 				pedidoResponseSave.setCodigo(201);
@@ -222,14 +467,69 @@ public class PedidoService implements IPedidoService {
 		}
 	}
 	
+	/**
+     * Actualiza parcialmente un pedido existente.
+     * 
+     * <p>El método realiza las siguientes operaciones:
+     * <ul>
+     *   <li>Carga el pedido activo en el contexto de persistencia</li>
+     *   <li>Aplica solo los campos no nulos del DTO sobre la entidad administrada</li>
+     *   <li>Valida el pedido resultante</li>
+     *   <li>Al confirmar la transacción, Hibernate emite un UPDATE solo con las columnas modificadas</li>
+     *   <li>Construye la respuesta con la confirmación de actualización</li>
+     * </ul>
+     *
+     * @param id identificador único del pedido a actualizar
+     * @param pedidoDTO campos del pedido a modificar; los nulos se conservan
+     * @return PedidoResponseSave conteniendo la confirmación de la actualización
+     * @throws NotFoundException si el pedido no existe o está inactivo
+     * @throws BadRequestException si el pedido resultante no es válido
+     * @throws ServerErrorException si ocurre un error en el servidor
+     */
+	@Override
+	@Transactional(rollbackFor = BadRequestException.class)
+	public PedidoResponseSave patch(Long id, PedidoDTO pedidoDTO) throws NotFoundException, BadRequestException {
+		try {
+			Optional<Pedido> pedidoOptional = pedidoRepository.findByIdAndIsActiveTrue(id);
+			
+			if (pedidoOptional.isEmpty() || pedidoOptional.get().getIsActive() == null) {
+				log.error(PedidoConstantes.NOT_FOUND_LOG);
+				throw new NotFoundException(PedidoConstantes.NOT_FOUND_MSG);
+			} else {
+				Pedido pedido = pedidoOptional.get();
+				mapperUpdate.patch(pedidoDTO, pedido);
+				validar(pedido);
+				registrarEmail(pedido);
+				publicarModificados(List.of(id));
+				PedidoResponseSave pedidoResponseSave = new PedidoResponseSave();
+				pedidoResponseSave.setId(pedido.getId());
+				pedidoResponseSave.setCodigo(200);
+				pedidoResponseSave.setMensaje(PedidoConstantes.UPDATED_MSG);
+				log.info(PedidoConstantes.SUCCESS_LOG);
+				return pedidoResponseSave;
+			}
+			
+		} catch (ServerErrorException e) {
+			log.error(PedidoConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(PedidoConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
+	private void validar(Pedido pedido) throws BadRequestException {
+		Set<ConstraintViolation<Pedido>> violaciones = validator.validate(pedido);
+		if (!violaciones.isEmpty()) {
+			throw new BadRequestException(violaciones.iterator().next().getMessage());
+		}
+	}
+	
 	/**
      * Realiza un borrado lógico de un pedido.
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Verifica que el pedido exista y esté activo</li>
-     *   <li>Marca el pedido como inactivo</li>
-     *   <li>Persiste el cambio en la base de datos</li>
+     *   <li>Marca el pedido como inactivo con una sola sentencia UPDATE condicionada a que
+     *   el pedido exista y esté activo, sin cargarlo antes</li>
+     *   <li>Determina si el pedido existía a partir del número de filas afectadas</li>
      *   <li>Construye la respuesta con la confirmación del borrado</li>
      * </ul>
      *
@@ -239,19 +539,18 @@ public class PedidoService implements IPedidoService {
      * @throws ServerErrorException si ocurre un error en el servidor
      */
 	@Override
+	@Transactional
 	public PedidoResponseSave deleteById(Long id) throws NotFoundException {
 		try {
-			Optional<Pedido> pedidoOptional = pedidoRepository.findByIdAndIsActiveTrue(id);
+			int eliminados = pedidoRepository.desactivarPorId(id);
 
-			if (pedidoOptional.isEmpty() || pedidoOptional.get().getIsActive() == null) {
+			if (eliminados == 0) {
 				log.error(PedidoConstantes.NOT_FOUND_LOG);
 				throw new NotFoundException(PedidoConstantes.NOT_FOUND_MSG);
 			} else {
-				Pedido pedido = pedidoOptional.get();
-				pedido.setIsActive(PedidoConstantes.FILTER);
-				pedidoRepository.save(pedido);
+				publicarModificados(List.of(id));
 				PedidoResponseSave pedidoResponseSave = new PedidoResponseSave();
-				pedidoResponseSave.setId(pedido.getId());
+				pedidoResponseSave.setId(id);
 				pedidoResponseSave.setCodigo(200);
 				pedidoResponseSave.setMensaje(PedidoConstantes.DELETED_MSG);
 				log.info(PedidoConstantes.DELETED_MSG);
@@ -264,35 +563,88 @@ public class PedidoService implements IPedidoService {
 		}
 	}
 	
+	/**
+     * Realiza el borrado lógico de un conjunto de pedidos.
+     * 
+     * <p>El método realiza las siguientes operaciones:
+     * <ul>
+     *   <li>Valida la lista de ids y descarta los repetidos</li>
+     *   <li>Marca como inactivos todos los pedidos activos de la lista con una sola sentencia
+     *   UPDATE ... WHERE id IN (...)</li>
+     *   <li>Construye la respuesta con el número de pedidos solicitados y eliminados; los ids
+     *   inexistentes o ya inactivos no se cuentan como eliminados</li>
+     * </ul>
+     *
+     * @param ids identificadores de los pedidos a eliminar
+     * @return PedidoEliminacionResponse con el resultado del borrado
+     * @throws BadRequestException si la lista está vacía o excede el máximo permitido
+     * @throws NotFoundException si ninguno de los pedidos existe o está activo
+     * @throws ServerErrorException si ocurre un error en el servidor
+     */
+	@Override
+	@Transactional
+	public PedidoEliminacionResponse deleteByIds(List<Long> ids) throws BadRequestException, NotFoundException {
+		if (ids == null || ids.isEmpty()) {
+			throw new BadRequestException(PedidoConstantes.BATCH_EMPTY_MSG);
+		}
+		Set<Long> unicos = new LinkedHashSet<>(ids);
+		unicos.remove(null);
+		if (unicos.isEmpty()) {
+			throw new BadRequestException(PedidoConstantes.BATCH_EMPTY_MSG);
+		}
+		if (unicos.size() > PedidoConstantes.MAX_BATCH_ITEMS) {
+			throw new BadRequestException(PedidoConstantes.BATCH_TOO_LARGE_MSG);
+		}
+		try {
+			int eliminados = pedidoRepository.desactivarPorIds(unicos);
+
+			if (eliminados == 0) {
+				log.error(PedidoConstantes.NOT_FOUND_LOG);
+				throw new NotFoundException(PedidoConstantes.NOT_FOUND_MSG);
+			} else {
+				publicarModificados(unicos);
+				PedidoEliminacionResponse eliminacionResponse = new PedidoEliminacionResponse();
+				eliminacionResponse.setMensaje(PedidoConstantes.BULK_DELETED_MSG);
+				eliminacionResponse.setCodigo(200);
+				eliminacionResponse.setSolicitados(unicos.size());
+				eliminacionResponse.setEliminados(eliminados);
+				log.info(PedidoConstantes.BULK_DELETE_LOG, unicos.size(), eliminados);
+				return eliminacionResponse;
+			}
+
+		} catch (ServerErrorException e) {
+			log.error(PedidoConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(PedidoConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
 	 /**
      * Busca todos los pedidos asociados a un cliente específico.
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Busca pedidos por ID de cliente</li>
-     *   <li>Filtra solo pedidos activos</li>
-     *   <li>Mapea las entidades a DTOs</li>
+     *   <li>Busca pedidos por ID de cliente en el modelo de lectura si está listo; si no, en la
+     *   base de datos, filtrando directamente la llave foránea</li>
+     *   <li>Proyecta los pedidos activos directamente a DTOs</li>
      *   <li>Construye la respuesta con los pedidos encontrados</li>
      * </ul>
      *
-     * @param idCliente cliente cuyos pedidos se buscan
+     * @param idCliente id del cliente cuyos pedidos se buscan
      * @return PedidoResponse conteniendo la lista de pedidos del cliente
      * @throws NotFoundException si no se encuentran pedidos para el cliente
      * @throws ServerErrorException si ocurre un error en el servidor
      */
 	@Override
-	public PedidoResponse readByIdCliente(Cliente idCliente) throws NotFoundException {
+	public PedidoResponse readByIdCliente(Long idCliente) throws NotFoundException {
 		try {
-			List<Pedido> pedidoList = pedidoRepository.findByIdClienteAndIsActiveTrue(idCliente).stream()
-					.filter(pedido -> pedido.getIsActive() != null).toList();
+			List<PedidoDTO> pedidoDTOs = modeloListo()
+					.map(modelo -> modelo.findByIdCliente(idCliente))
+					.orElseGet(() -> pedidoRepository.findDtoByIdClienteId(idCliente));
 
-			if (pedidoList.isEmpty()) {
+			if (pedidoDTOs.isEmpty()) {
 				log.error(PedidoConstantes.CLIENTE_IF_NOT_FOUND_LOG);
 				throw new NotFoundException(PedidoConstantes.CLIENTE_ID_NOT_FOUND_MSG);
 			} else {
-				List<PedidoDTO> pedidoDTOs = pedidoList.stream().map(pedido -> {
-					return mapperRead.map(pedido);
-				}).toList();
 				PedidoResponse pedidoResponse = new PedidoResponse();
 				pedidoResponse.setMensaje(PedidoConstantes.SUCCESS_MESSAGE);
 				pedidoResponse.setCodigo(200);
@@ -312,9 +664,11 @@ public class PedidoService implements IPedidoService {
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Busca pedidos por email del cliente</li>
-     *   <li>Filtra solo pedidos activos</li>
-     *   <li>Mapea las entidades a DTOs</li>
+     *   <li>Si el filtro de emails está habilitado y descarta el email, responde que no hay
+     *   pedidos sin consultar el modelo ni la base de datos</li>
+     *   <li>Busca pedidos por email del cliente en el modelo de lectura si está listo; si no,
+     *   en la base de datos</li>
+     *   <li>Proyecta los pedidos activos directamente a DTOs</li>
      *   <li>Construye la respuesta con los pedidos encontrados</li>
      * </ul>
      *
@@ -326,16 +680,19 @@ public class PedidoService implements IPedidoService {
 	@Override
 	public PedidoResponse readByemailCliente(String emailCliente) throws NotFoundException {
 		try {
-			List<Pedido> pedidoList = pedidoRepository.findByEmailClienteAndIsActiveTrue(emailCliente).stream()
-					.filter(pedido -> pedido.getIsActive() != null).toList();
+			if (filtroEmails.isPresent() && !filtroEmails.get().puedeExistir(emailCliente)) {
+				log.error(PedidoConstantes.EMAIL_CLIENTE_NOT_FOUND_LOG);
+				throw new NotFoundException(PedidoConstantes.EMAIL_CLIENTE_NOT_FOUND_MSG);
+			}
+			List<PedidoDTO> pedidoDTOs = modeloListo()
+					.map(modelo -> modelo.findByEmailCliente(emailCliente))
+					.orElseGet(() -> pedidoRepository.findDtoByEmailCliente(emailCliente));
 
-			if (pedidoList.isEmpty()) {
+			if (pedidoDTOs.isEmpty()) {
+				filtroEmails.ifPresent(FiltroEmails::registrarFalsoPositivo);
 				log.error(PedidoConstantes.EMAIL_CLIENTE_NOT_FOUND_LOG);
 				throw new NotFoundException(PedidoConstantes.EMAIL_CLIENTE_NOT_FOUND_MSG);
 			} else {
-				List<PedidoDTO> pedidoDTOs = pedidoList.stream().map(pedido -> {
-					return mapperRead.map(pedido);
-				}).toList();
 				PedidoResponse pedidoResponse = new PedidoResponse();
 				pedidoResponse.setMensaje(PedidoConstantes.SUCCESS_MESSAGE);
 				pedidoResponse.setCodigo(200);
@@ -354,9 +711,9 @@ public class PedidoService implements IPedidoService {
      * 
      * <p>El método realiza las siguientes operaciones:
      * <ul>
-     *   <li>Busca pedidos por fecha de creación</li>
-     *   <li>Filtra solo pedidos activos</li>
-     *   <li>Mapea las entidades a DTOs</li>
+     *   <li>Busca pedidos por fecha de creación en el modelo de lectura si está listo; si no,
+     *   en la base de datos</li>
+     *   <li>Proyecta los pedidos activos directamente a DTOs</li>
      *   <li>Construye la respuesta con los pedidos encontrados</li>
      * </ul>
      *
@@ -368,20 +725,72 @@ public class PedidoService implements IPedidoService {
 	@Override
 	public PedidoResponse readByFechaCreacion(LocalDate fechaCreacion) throws NotFoundException {
 		try {
-			List<Pedido> pedidoList = pedidoRepository.findByFechaCreacionAndIsActiveTrue(fechaCreacion).stream()
-					.filter(pedido -> pedido.getIsActive() != null && pedido.getFechaCreacion() != null).toList();
+			List<PedidoDTO> pedidoDTOs = modeloListo()
+					.map(modelo -> modelo.findByFechaCreacion(fechaCreacion))
+					.orElseGet(() -> pedidoRepository.findDtoByFechaCreacion(fechaCreacion));
+
+			if (pedidoDTOs.isEmpty()) {
+				log.error(PedidoConstantes.DATE_NOT_FOUND_LOG);
+				throw new NotFoundException(PedidoConstantes.DATE_NOT_FOUND_MSG);
+			} else {
+				PedidoResponse pedidoResponse = new PedidoResponse();
+				pedidoResponse.setMensaje(PedidoConstantes.SUCCESS_MESSAGE);
+				pedidoResponse.setCodigo(200);
+				pedidoResponse.setPedidos(pedidoDTOs);
+				log.info(PedidoConstantes.SUCCESS_LOG);
+				return pedidoResponse;
+			}
+
+		} catch (ServerErrorException e) {
+			log.error(PedidoConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(PedidoConstantes.SERVER_ERROR_MSG);
+		}
+	}
+
+	
+	/**
+     * Recupera una pagina de los pedidos creados en un rango de fechas.
+     * 
+     * <p>El método realiza las siguientes operaciones:
+     * <ul>
+     *   <li>Valida el rango de fechas, el cursor y el tamaño de página</li>
+     *   <li>Consulta los pedidos activos del rango con id mayor al cursor, ordenados por id</li>
+     *   <li>Proyecta cada fila directamente a DTO, sin hidratar entidades</li>
+     *   <li>Construye la respuesta con la página de pedidos y el cursor de la siguiente página</li>
+     * </ul>
+     *
+     * @param desde fecha de creación inicial (inclusive)
+     * @param hasta fecha de creación final (inclusive)
+     * @param limit número máximo de pedidos a devolver, null para usar el valor por defecto
+     * @param after cursor opaco devuelto por la página anterior, null para la primera página
+     * @return PedidoResponse conteniendo la página de pedidos del rango
+     * @throws NotFoundException si no se encuentran pedidos en el rango
+     * @throws BadRequestException si el rango, el cursor o el límite no son válidos
+     * @throws ServerErrorException si ocurre un error en el servidor
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public PedidoResponse readByFechaCreacion(LocalDate desde, LocalDate hasta, Integer limit, String after)
+			throws NotFoundException, BadRequestException {
+		validarRango(desde, hasta);
+		try {
+			int pageSize = CursorUtils.resolveLimit(limit);
+			List<PedidoDTO> pedidoList = pedidoRepository.findDtoPageByFechaCreacionBetween(desde, hasta,
+					CursorUtils.decode(after), Limit.of(pageSize + 1));
 
 			if (pedidoList.isEmpty()) {
 				log.error(PedidoConstantes.DATE_NOT_FOUND_LOG);
 				throw new NotFoundException(PedidoConstantes.DATE_NOT_FOUND_MSG);
 			} else {
-				List<PedidoDTO> pedidoDTOs = pedidoList.stream().map(pedido -> {
-					return mapperRead.map(pedido);
-				}).toList();
+				boolean hasNext = pedidoList.size() > pageSize;
+				List<PedidoDTO> pedidoDTOs = hasNext ? pedidoList.subList(0, pageSize) : pedidoList;
 				PedidoResponse pedidoResponse = new PedidoResponse();
 				pedidoResponse.setMensaje(PedidoConstantes.SUCCESS_MESSAGE);
 				pedidoResponse.setCodigo(200);
 				pedidoResponse.setPedidos(pedidoDTOs);
+				if (hasNext) {
+					pedidoResponse.setCursorSiguiente(CursorUtils.encode(pedidoDTOs.get(pageSize - 1).getId()));
+				}
 				log.info(PedidoConstantes.SUCCESS_LOG);
 				return pedidoResponse;
 			}
@@ -391,5 +800,308 @@ public class PedidoService implements IPedidoService {
 			throw new ServerErrorException(PedidoConstantes.SERVER_ERROR_MSG);
 		}
 	}
+	
+	/**
+     * Calcula el resumen diario de los pedidos creados en un rango de fechas.
+     * 
+     * <p>El método realiza las siguientes operaciones:
+     * <ul>
+     *   <li>Valida el rango de fechas</li>
+     *   <li>Agrupa los pedidos activos en la base de datos por día (y opcionalmente por código
+     *   de producto), calculando número de pedidos, unidades e ingresos</li>
+     *   <li>Construye la respuesta solo con las filas agregadas</li>
+     * </ul>
+     *
+     * @param desde fecha de creación inicial (inclusive)
+     * @param hasta fecha de creación final (inclusive)
+     * @param porProducto true para agrupar también por código de producto
+     * @return PedidoResumenResponse conteniendo una fila por día (o por día y producto)
+     * @throws NotFoundException si no se encuentran pedidos en el rango
+     * @throws BadRequestException si el rango no es válido
+     * @throws ServerErrorException si ocurre un error en el servidor
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public PedidoResumenResponse resumen(LocalDate desde, LocalDate hasta, boolean porProducto)
+			throws NotFoundException, BadRequestException {
+		validarRango(desde, hasta);
+		try {
+			List<PedidoResumenDTO> resumen = porProducto
+					? pedidoRepository.resumirPorDiaYProducto(desde, hasta)
+					: pedidoRepository.resumirPorDia(desde, hasta);
+
+			if (resumen.isEmpty()) {
+				log.error(PedidoConstantes.DATE_NOT_FOUND_LOG);
+				throw new NotFoundException(PedidoConstantes.DATE_NOT_FOUND_MSG);
+			} else {
+				PedidoResumenResponse resumenResponse = new PedidoResumenResponse();
+				resumenResponse.setMensaje(PedidoConstantes.SUCCESS_MESSAGE);
+				resumenResponse.setCodigo(200);
+				resumenResponse.setResumen(resumen);
+				log.info(PedidoConstantes.SUCCESS_LOG);
+				return resumenResponse;
+			}
+
+		} catch (ServerErrorException e) {
+			log.error(PedidoConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(PedidoConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
+	/**
+     * Recupera una página de pedidos activos solo con los campos solicitados.
+     * 
+     * <p>El método realiza las siguientes operaciones:
+     * <ul>
+     *   <li>Valida los campos solicitados, el cursor y el tamaño de página</li>
+     *   <li>Consulta solo las columnas de esos campos; la tabla cliente se une únicamente si se
+     *   pide algún campo del cliente distinto de su id</li>
+     *   <li>Construye la respuesta con la página de pedidos y el cursor de la siguiente página</li>
+     * </ul>
+     *
+     * @param limit número máximo de pedidos a devolver, null para usar el valor por defecto
+     * @param after cursor opaco devuelto por la página anterior, null para la primera página
+     * @param fields campos a devolver, separados por comas
+     * @return PedidoCamposResponse conteniendo la página de pedidos activos
+     * @throws NoContentException si no se encuentran pedidos activos
+     * @throws BadRequestException si los campos, el cursor o el límite no son válidos
+     * @throws ServerErrorException si ocurre un error en el servidor
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public PedidoCamposResponse readAll(Integer limit, String after, String fields)
+			throws NoContentException, BadRequestException {
+		Set<String> campos = CamposUtils.resolver(fields, PedidoRepositoryCustom.CAMPOS_PERMITIDOS);
+		try {
+			int pageSize = CursorUtils.resolveLimit(limit);
+			List<Map<String, Object>> pedidoList = pedidoRepository.findCampos(campos,
+					PedidoEspecificaciones.despuesDe(CursorUtils.decode(after)), Limit.of(pageSize + 1));
+
+			if (pedidoList.isEmpty()) {
+				log.error(PedidoConstantes.NO_CONTENT_LOG);
+				throw new NoContentException(PedidoConstantes.NO_CONTENT_MSG);
+			}
+			return respuestaCampos(pedidoList, pageSize);
+
+		} catch (ServerErrorException e) {
+			log.error(PedidoConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(PedidoConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
+	/**
+     * Busca un pedido por su ID y devuelve solo los campos solicitados.
+     *
+     * @param id identificador único del pedido a buscar
+     * @param fields campos a devolver, separados por comas
+     * @return PedidoCamposResponse conteniendo el pedido
+     * @throws NotFoundException si el pedido no existe o está inactivo
+     * @throws BadRequestException si los campos no son válidos
+     * @throws ServerErrorException si ocurre un error en el servidor
+     * @see #readAll(Integer, String, String)
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public PedidoCamposResponse readById(Long id, String fields) throws NotFoundException, BadRequestException {
+		return readCampos(CamposUtils.resolver(fields, PedidoRepositoryCustom.CAMPOS_PERMITIDOS),
+				PedidoEspecificaciones.porId(id), PedidoConstantes.NOT_FOUND_LOG,
+				PedidoConstantes.NOT_FOUND_MSG);
+	}
+	
+	/**
+     * Busca los pedidos de un cliente y devuelve solo los campos solicitados. Filtra por la llave
+     * foránea del pedido; no usa el modelo de lectura.
+     *
+     * @param idCliente id del cliente cuyos pedidos se buscan
+     * @param fields campos a devolver, separados por comas
+     * @return PedidoCamposResponse conteniendo los pedidos del cliente
+     * @throws NotFoundException si no se encuentran pedidos para el cliente
+     * @throws BadRequestException si los campos no son válidos
+     * @throws ServerErrorException si ocurre un error en el servidor
+     * @see #readAll(Integer, String, String)
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public PedidoCamposResponse readByIdCliente(Long idCliente, String fields)
+			throws NotFoundException, BadRequestException {
+		return readCampos(CamposUtils.resolver(fields, PedidoRepositoryCustom.CAMPOS_PERMITIDOS),
+				PedidoEspecificaciones.porCliente(idCliente),
+				PedidoConstantes.CLIENTE_IF_NOT_FOUND_LOG, PedidoConstantes.CLIENTE_ID_NOT_FOUND_MSG);
+	}
+	
+	/**
+     * Busca los pedidos de un email de cliente y devuelve solo los campos solicitados. Si el filtro
+     * de emails descarta el email, responde sin consultar la base de datos; no usa el modelo de lectura.
+     *
+     * @param emailCliente email del cliente cuyos pedidos se buscan
+     * @param fields campos a devolver, separados por comas
+     * @return PedidoCamposResponse conteniendo los pedidos asociados al email
+     * @throws NotFoundException si no se encuentran pedidos para el email
+     * @throws BadRequestException si los campos no son válidos
+     * @throws ServerErrorException si ocurre un error en el servidor
+     * @see #readAll(Integer, String, String)
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public PedidoCamposResponse readByemailCliente(String emailCliente, String fields)
+			throws NotFoundException, BadRequestException {
+		Set<String> campos = CamposUtils.resolver(fields, PedidoRepositoryCustom.CAMPOS_PERMITIDOS);
+		if (filtroEmails.isPresent() && !filtroEmails.get().puedeExistir(emailCliente)) {
+			log.error(PedidoConstantes.EMAIL_CLIENTE_NOT_FOUND_LOG);
+			throw new NotFoundException(PedidoConstantes.EMAIL_CLIENTE_NOT_FOUND_MSG);
+		}
+		return readCampos(campos, PedidoEspecificaciones.porEmail(emailCliente),
+				PedidoConstantes.EMAIL_CLIENTE_NOT_FOUND_LOG, PedidoConstantes.EMAIL_CLIENTE_NOT_FOUND_MSG);
+	}
+	
+	/**
+     * Busca los pedidos creados en una fecha y devuelve solo los campos solicitados; no usa el
+     * modelo de lectura.
+     *
+     * @param fechaCreacion fecha de creación de los pedidos a buscar
+     * @param fields campos a devolver, separados por comas
+     * @return PedidoCamposResponse conteniendo los pedidos de la fecha
+     * @throws NotFoundException si no se encuentran pedidos para la fecha
+     * @throws BadRequestException si los campos no son válidos
+     * @throws ServerErrorException si ocurre un error en el servidor
+     * @see #readAll(Integer, String, String)
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public PedidoCamposResponse readByFechaCreacion(LocalDate fechaCreacion, String fields)
+			throws NotFoundException, BadRequestException {
+		return readCampos(CamposUtils.resolver(fields, PedidoRepositoryCustom.CAMPOS_PERMITIDOS),
+				PedidoEspecificaciones.porFecha(fechaCreacion),
+				PedidoConstantes.DATE_NOT_FOUND_LOG, PedidoConstantes.DATE_NOT_FOUND_MSG);
+	}
+	
+	/**
+     * Recupera una página de los pedidos creados en un rango de fechas, solo con los campos
+     * solicitados.
+     *
+     * @param desde fecha de creación inicial (inclusive)
+     * @param hasta fecha de creación final (inclusive)
+     * @param limit número máximo de pedidos a devolver, null para usar el valor por defecto
+     * @param after cursor opaco devuelto por la página anterior, null para la primera página
+     * @param fields campos a devolver, separados por comas
+     * @return PedidoCamposResponse conteniendo la página de pedidos del rango
+     * @throws NotFoundException si no se encuentran pedidos en el rango
+     * @throws BadRequestException si los campos, el rango, el cursor o el límite no son válidos
+     * @throws ServerErrorException si ocurre un error en el servidor
+     * @see #readAll(Integer, String, String)
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public PedidoCamposResponse readByFechaCreacion(LocalDate desde, LocalDate hasta, Integer limit, String after,
+			String fields) throws NotFoundException, BadRequestException {
+		Set<String> campos = CamposUtils.resolver(fields, PedidoRepositoryCustom.CAMPOS_PERMITIDOS);
+		validarRango(desde, hasta);
+		try {
+			int pageSize = CursorUtils.resolveLimit(limit);
+			List<Map<String, Object>> pedidoList = pedidoRepository.findCampos(campos,
+					PedidoEspecificaciones.porRango(desde, hasta)
+							.and(PedidoEspecificaciones.despuesDe(CursorUtils.decode(after))),
+					Limit.of(pageSize + 1));
+
+			if (pedidoList.isEmpty()) {
+				log.error(PedidoConstantes.DATE_NOT_FOUND_LOG);
+				throw new NotFoundException(PedidoConstantes.DATE_NOT_FOUND_MSG);
+			}
+			return respuestaCampos(pedidoList, pageSize);
+
+		} catch (ServerErrorException e) {
+			log.error(PedidoConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(PedidoConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
+	private PedidoCamposResponse readCampos(Set<String> campos, Specification<Pedido> filtro, String notFoundLog,
+			String notFoundMsg) throws NotFoundException {
+		try {
+			List<Map<String, Object>> pedidos = pedidoRepository.findCampos(campos, filtro, Limit.unlimited());
+
+			if (pedidos.isEmpty()) {
+				log.error(notFoundLog);
+				throw new NotFoundException(notFoundMsg);
+			}
+			return respuestaCampos(pedidos, pedidos.size());
+
+		} catch (ServerErrorException e) {
+			log.error(PedidoConstantes.SERVER_ERROR_LOG);
+			throw new ServerErrorException(PedidoConstantes.SERVER_ERROR_MSG);
+		}
+	}
+	
+	/**
+	 * Construye la respuesta con los primeros {@code pageSize} pedidos y, si la consulta trajo una
+	 * fila más, el cursor de la siguiente página.
+	 */
+	private PedidoCamposResponse respuestaCampos(List<Map<String, Object>> pedidoList, int pageSize) {
+		boolean hasNext = pedidoList.size() > pageSize;
+		List<Map<String, Object>> pedidos = hasNext ? pedidoList.subList(0, pageSize) : pedidoList;
+		PedidoCamposResponse pedidoResponse = new PedidoCamposResponse();
+		pedidoResponse.setMensaje(PedidoConstantes.SUCCESS_MESSAGE);
+		pedidoResponse.setCodigo(200);
+		pedidoResponse.setPedidos(pedidos);
+		if (hasNext) {
+			pedidoResponse.setCursorSiguiente(CursorUtils.encode((Long) pedidos.get(pageSize - 1).get("id")));
+		}
+		log.info(PedidoConstantes.SUCCESS_LOG);
+		return pedidoResponse;
+	}
+	
+	private Optional<PedidoModeloLectura> modeloListo() {
+		return modeloLectura.filter(PedidoModeloLectura::listoParaLeer);
+	}
+	
+	private void validarRango(LocalDate desde, LocalDate hasta) throws BadRequestException {
+		if (desde == null || hasta == null) {
+			throw new BadRequestException(PedidoConstantes.RANGO_REQUERIDO_MSG);
+		}
+		if (desde.isAfter(hasta) || ChronoUnit.DAYS.between(desde, hasta) >= PedidoConstantes.MAX_RANGO_DIAS) {
+			throw new BadRequestException(PedidoConstantes.RANGO_INVALIDO_MSG);
+		}
+	}
+	
+	/**
+     * Exporta los pedidos activos en formato NDJSON (un objeto JSON por línea).
+     * 
+     * <p>El método realiza las siguientes operaciones:
+     * <ul>
+     *   <li>Recorre los pedidos desde un cursor JDBC con fetch size fijo, sin construir la lista completa</li>
+     *   <li>Mapea cada entidad a DTO y la escribe directamente en el flujo de salida</li>
+     *   <li>Desasocia cada pedido del contexto de persistencia y lo limpia periódicamente,
+     *   de modo que el uso de memoria no depende del número de filas exportadas</li>
+     * </ul>
+     *
+     * @param desde fecha de creación mínima (inclusive), null para no filtrar
+     * @param hasta fecha de creación máxima (inclusive), null para no filtrar
+     * @param emailCliente email del cliente, null para no filtrar
+     * @param out flujo de salida donde se escriben las filas
+     * @throws IOException si ocurre un error al escribir en el flujo de salida
+     */
+	@Override
+	@Transactional(readOnly = true)
+	public void exportNdjson(LocalDate desde, LocalDate hasta, String emailCliente, OutputStream out) throws IOException {
+		ObjectWriter writer = objectMapper.writerFor(PedidoDTO.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		long rows = 0;
+		try (Stream<Pedido> pedidos = pedidoRepository.streamForExport(desde, hasta, emailCliente);
+				JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			Iterator<Pedido> iterator = pedidos.iterator();
+			while (iterator.hasNext()) {
+				Pedido pedido = iterator.next();
+				writer.writeValue(generator, mapperRead.map(pedido));
+				generator.writeRaw('\n');
+				entityManager.detach(pedido);
+				if (++rows % PedidoConstantes.EXPORT_CLEAR_INTERVAL == 0) {
+					entityManager.clear();
+				}
+			}
+			generator.flush();
+		}
+		log.info(PedidoConstantes.EXPORT_LOG, rows);
+	}
 
 }
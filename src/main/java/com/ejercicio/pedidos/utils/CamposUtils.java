@@ -0,0 +1,61 @@
+package com.ejercicio.pedidos.utils;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import com.ejercicio.pedidos.exceptions.BadRequestException;
+
+/**
+ * Utilidades para las consultas con seleccion de campos ({@code fields=}).
+ *
+ * <p>El parametro es una lista separada por comas, p. ej. {@code fields=id,cantidad,precio}. Los
+ * campos del cliente de un pedido se piden con el prefijo {@code idCliente.} o, completos, con
+ * {@code idCliente}.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+public class CamposUtils {
+
+	public static final String PARAM = "fields";
+	public static final String SEPARADOR = ",";
+	public static final String REQUIRED_CAMPOS_MSG = "El parametro 'fields' debe incluir al menos un campo";
+	public static final String INVALID_CAMPOS_MSG = "El parametro 'fields' incluye campos no validos: ";
+
+	private CamposUtils() {}
+
+	/**
+	 * Separa y valida los campos solicitados.
+	 *
+	 * @param fields valor del parametro {@code fields}
+	 * @param permitidos campos que admite la consulta
+	 * @return campos solicitados, sin repetidos y en el orden recibido
+	 * @throws BadRequestException si no se pidio ningun campo o alguno no existe
+	 */
+	public static Set<String> resolver(String fields, Collection<String> permitidos) throws BadRequestException {
+		Set<String> campos = new LinkedHashSet<>();
+		Set<String> invalidos = new LinkedHashSet<>();
+		if (fields != null) {
+			for (String campo : fields.split(SEPARADOR)) {
+				String nombre = campo.trim();
+				if (nombre.isEmpty()) {
+					continue;
+				}
+				if (permitidos.contains(nombre)) {
+					campos.add(nombre);
+				} else {
+					invalidos.add(nombre);
+				}
+			}
+		}
+		if (!invalidos.isEmpty()) {
+			throw new BadRequestException(INVALID_CAMPOS_MSG + String.join(SEPARADOR, invalidos));
+		}
+		if (campos.isEmpty()) {
+			throw new BadRequestException(REQUIRED_CAMPOS_MSG);
+		}
+		return campos;
+	}
+
+}
@@ -18,6 +18,10 @@ public class ClienteConstantes {
     public static final String NO_CONTENT_MSG = "La consulta no arrojo ningun resultado";
     public static final String NOT_FOUND_LOG = "No encontrado";
     public static final String NOT_FOUND_MSG = "No fue posible encontrar el Cliente solicitado";
+    public static final String REGION_CACHE_EMAIL = "cliente-email";
+    public static final String EMAILS_FETCH_SIZE = "1000";
+    public static final String FILTRO_EMAILS_PROPERTY = "pedidos.filtro-emails.habilitado";
+    public static final String FILTRO_EMAILS_RECONSTRUIDO_LOG = "Filtro de emails reconstruido, emails: {}, bits: {}, funciones hash: {}";
     
     private ClienteConstantes() {}
 	
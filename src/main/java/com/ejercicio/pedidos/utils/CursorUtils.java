@@ -0,0 +1,79 @@
+package com.ejercicio.pedidos.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.ejercicio.pedidos.exceptions.BadRequestException;
+
+/**
+ * Utilidades para la paginacion por keyset de los listados.
+ *
+ * <p>El cursor es el ultimo {@code id} devuelto en la pagina, codificado en Base64 URL-safe
+ * para que el cliente lo trate como un valor opaco y lo devuelva tal cual en el parametro
+ * {@code after} de la siguiente consulta.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+public class CursorUtils {
+
+	public static final int DEFAULT_LIMIT = 50;
+	public static final int MAX_LIMIT = 500;
+	public static final String INVALID_CURSOR_MSG = "El cursor de paginacion no es valido";
+	public static final String INVALID_LIMIT_MSG = "El parametro 'limit' debe estar entre 1 y " + MAX_LIMIT;
+
+	private static final String PREFIX = "id:";
+
+	private CursorUtils() {}
+
+	/**
+	 * Codifica el id del ultimo registro de una pagina como cursor opaco.
+	 *
+	 * @param id ultimo id de la pagina
+	 * @return cursor codificado
+	 */
+	public static String encode(Long id) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodifica un cursor recibido en el parametro {@code after}.
+	 *
+	 * @param cursor cursor opaco, puede ser null
+	 * @return id a partir del cual continuar, 0 si no se recibio cursor
+	 * @throws BadRequestException si el cursor no fue generado por {@link #encode(Long)}
+	 */
+	public static Long decode(String cursor) throws BadRequestException {
+		if (cursor == null || cursor.isBlank()) {
+			return 0L;
+		}
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (!value.startsWith(PREFIX)) {
+				throw new BadRequestException(INVALID_CURSOR_MSG);
+			}
+			return Long.valueOf(value.substring(PREFIX.length()));
+		} catch (IllegalArgumentException e) {
+			throw new BadRequestException(INVALID_CURSOR_MSG);
+		}
+	}
+
+	/**
+	 * Valida el tamano de pagina solicitado.
+	 *
+	 * @param limit tamano solicitado, puede ser null
+	 * @return tamano de pagina a usar
+	 * @throws BadRequestException si el limite esta fuera de rango
+	 */
+	public static int resolveLimit(Integer limit) throws BadRequestException {
+		if (limit == null) {
+			return DEFAULT_LIMIT;
+		}
+		if (limit < 1 || limit > MAX_LIMIT) {
+			throw new BadRequestException(INVALID_LIMIT_MSG);
+		}
+		return limit;
+	}
+
+}
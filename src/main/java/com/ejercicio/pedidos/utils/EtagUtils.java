@@ -0,0 +1,45 @@
+package com.ejercicio.pedidos.utils;
+
+import org.springframework.http.ETag;
+
+/**
+ * Utilidades para las peticiones GET condicionales ({@code If-None-Match}) de pedidos y clientes.
+ *
+ * <p>El ETag es fuerte y se forma con la version del registro (columna {@code version}), de modo
+ * que cambia en cada actualizacion o borrado logico y se puede comparar sin construir la respuesta.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+public class EtagUtils {
+
+	private EtagUtils() {}
+
+	/**
+	 * Construye el ETag fuerte de una version.
+	 *
+	 * @param version version del registro
+	 * @return ETag entre comillas, listo para la cabecera
+	 */
+	public static String etag(Object version) {
+		return "\"" + version + "\"";
+	}
+
+	/**
+	 * Indica si el ETag actual coincide con alguno de los recibidos en {@code If-None-Match}
+	 * (comparacion debil, como indica RFC 9110 para esta cabecera).
+	 *
+	 * @param ifNoneMatch valor de la cabecera, puede ser null
+	 * @param etag ETag actual del recurso
+	 * @return true si se debe responder 304 Not Modified
+	 */
+	public static boolean noModificado(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+			return false;
+		}
+		String actual = ETag.parse(etag).get(0).tag();
+		return ETag.parse(ifNoneMatch).stream()
+				.anyMatch(recibido -> recibido.isWildcard() || recibido.tag().equals(actual));
+	}
+
+}
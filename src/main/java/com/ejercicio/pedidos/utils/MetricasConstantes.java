@@ -0,0 +1,26 @@
+package com.ejercicio.pedidos.utils;
+
+public class MetricasConstantes {
+
+	public static final String SERVICIO_TIMER = "pedidos.servicio";
+	public static final String SERVICIO_TIMER_DESCRIPCION = "Tiempo de ejecucion de los metodos de los servicios";
+	public static final String SIN_RESULTADO_COUNTER = "pedidos.servicio.sin.resultado";
+	public static final String SIN_RESULTADO_DESCRIPCION = "Consultas de los servicios que terminaron en NotFound o NoContent";
+	public static final String INGESTA_COLA_GAUGE = "pedidos.ingesta.cola";
+	public static final String INGESTA_COLA_DESCRIPCION = "Pedidos aceptados pendientes de guardar";
+	public static final String INGESTA_RECHAZADOS_COUNTER = "pedidos.ingesta.rechazados";
+	public static final String INGESTA_RECHAZADOS_DESCRIPCION = "Pedidos rechazados con 429 por cola llena";
+	public static final String FILTRO_FPP_GAUGE = "pedidos.filtro.emails.fpp.estimada";
+	public static final String FILTRO_FPP_DESCRIPCION = "Probabilidad estimada de falso positivo del filtro de emails";
+	public static final String FILTRO_ELEMENTOS_GAUGE = "pedidos.filtro.emails.elementos";
+	public static final String FILTRO_ELEMENTOS_DESCRIPCION = "Emails cargados en la ultima reconstruccion del filtro mas los agregados despues";
+	public static final String FILTRO_DESCARTADOS_COUNTER = "pedidos.filtro.emails.descartados";
+	public static final String FILTRO_DESCARTADOS_DESCRIPCION = "Busquedas por email respondidas por el filtro sin consultar la base de datos";
+	public static final String FILTRO_FALSOS_POSITIVOS_COUNTER = "pedidos.filtro.emails.falsos.positivos";
+	public static final String FILTRO_FALSOS_POSITIVOS_DESCRIPCION = "Busquedas por email que pasaron el filtro y no encontraron resultados";
+	public static final String TAG_EXCEPCION = "exception";
+	public static final String TAG_CLASE = "class";
+	public static final String TAG_METODO = "method";
+
+	private MetricasConstantes() {}
+}
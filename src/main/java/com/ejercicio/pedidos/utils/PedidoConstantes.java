@@ -26,6 +26,37 @@ public class PedidoConstantes {
     public static final String CLIENTE_ID_NOT_FOUND_MSG = "No se enontraron pedidos asociados al Id de Cliente consultado";
     public static final String EMAIL_CLIENTE_NOT_FOUND_LOG = "Email de Cliente no encontrado";
     public static final String EMAIL_CLIENTE_NOT_FOUND_MSG = "No se enontraron pedidos asociados al email del Cliente consultado";
+    public static final String EXPORT_FETCH_SIZE = "1000";
+    public static final int EXPORT_CLEAR_INTERVAL = 1000;
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final int BATCH_SIZE = 50;
+    public static final int MAX_BATCH_ITEMS = 5000;
+    public static final String BATCH_EMPTY_MSG = "La lista de pedidos no puede estar vacia";
+    public static final String BATCH_TOO_LARGE_MSG = "La lista de pedidos excede el maximo de " + MAX_BATCH_ITEMS + " elementos";
+    public static final String BATCH_LOG = "Carga de pedidos finalizada, insertados: {}, rechazados: {}";
+    public static final long MAX_RANGO_DIAS = 366;
+    public static final String RANGO_REQUERIDO_MSG = "Los parametros 'desde' y 'hasta' son obligatorios";
+    public static final String RANGO_INVALIDO_MSG = "La fecha 'desde' debe ser anterior o igual a 'hasta' y el rango no puede exceder " + MAX_RANGO_DIAS + " dias";
+    public static final String BULK_DELETED_MSG = "Los Pedidos fueron eliminados con exito";
+    public static final String BULK_DELETE_LOG = "Borrado de pedidos finalizado, solicitados: {}, eliminados: {}";
+    public static final String EXPORT_LOG = "Exportacion de pedidos finalizada, filas escritas: {}";
+    public static final String MODELO_LECTURA_PROPERTY = "pedidos.modelo-lectura.habilitado";
+    public static final String MODELO_LECTURA_CARGADO_LOG = "Modelo de lectura de pedidos cargado, pedidos activos: {}";
+    public static final String MODELO_LECTURA_ARRANQUE_LOG = "El modelo de lectura de pedidos no se cargo al arrancar; las consultas iran a la base de datos hasta que termine una recarga";
+    public static final String MODELO_LECTURA_ERROR_LOG = "Error al sincronizar el modelo de lectura de pedidos; se consultara la base de datos y se recargara en {} ms";
+    
+    public static final String FORMATO_COMPACTO = "formato=compacto";
+    public static final String SIN_FORMATO = "!formato";
+    public static final String INGESTA_PROPERTY = "pedidos.ingesta.habilitada";
+    public static final String INGESTA_PREFERENCIA = "respond-async";
+    public static final long INGESTA_REINTENTO_SEGUNDOS = 5;
+    public static final String INGESTA_ACEPTADO_MSG = "El Pedido fue aceptado y se guardara en segundo plano";
+    public static final String INGESTA_RECHAZADO_MSG = "El Pedido no es valido y no fue guardado";
+    public static final String INGESTA_COLA_LLENA_MSG = "La cola de pedidos esta llena, intente mas tarde";
+    public static final String INGESTA_DETENIDA_MSG = "La ingesta de pedidos se esta deteniendo, intente mas tarde";
+    public static final String INGESTA_TICKET_NOT_FOUND_MSG = "No fue posible encontrar el ticket solicitado o ya expiro";
+    public static final String INGESTA_LOTE_FALLIDO_LOG = "Fallo el lote de {} pedidos, se guardaran uno por uno";
+    public static final String INGESTA_DETENIDA_LOG = "Ingesta de pedidos detenida, pedidos pendientes guardados";
     
 	private PedidoConstantes() {}
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.ejercicio.pedidos.utils;
+
+public class ReplicaConstantes {
+
+	public static final String REPLICA_PROPERTY = "pedidos.replica.habilitada";
+	public static final String REPLICA_DATASOURCE_PREFIX = "pedidos.replica.datasource";
+	public static final String PRIMARIA_HIKARI_PREFIX = "spring.datasource.hikari";
+	public static final String PRIMARIA_POOL = "pedidos-primaria";
+	public static final String REPLICA_POOL = "pedidos-replica";
+	public static final String CABECERA_LECTURA_PRIMARIA = "X-Lectura-Primaria";
+	public static final String COOKIE_LECTURA_PRIMARIA = "lectura-primaria";
+	public static final String LECTURA_PROPIA_CLAVE_MSG = "Con la replica de lectura habilitada se requiere pedidos.replica.lectura-propia-clave (LECTURA_PROPIA_CLAVE), la misma en todas las instancias";
+	public static final String REPLICA_HABILITADA_LOG = "Lecturas enrutadas a la replica, lectura de escrituras propias (marca {}) en la primaria durante {}";
+
+	private ReplicaConstantes() {}
+
+}
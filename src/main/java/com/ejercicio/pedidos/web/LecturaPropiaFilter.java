@@ -0,0 +1,123 @@
+package com.ejercicio.pedidos.web;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import com.ejercicio.pedidos.datasource.EnrutamientoContexto;
+import com.ejercicio.pedidos.utils.ReplicaConstantes;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Ventana de lectura de escrituras propias con la replica de lectura habilitada.
+ *
+ * <p>La ventana la emite el servidor como una marca firmada {@code <expiracion>.<firma>}, con
+ * HMAC-SHA256 y la clave {@code pedidos.replica.lectura-propia-clave} compartida por todas las
+ * instancias:
+ * <ul>
+ *   <li>Al confirmarse la primera transaccion de escritura de la peticion se emite una marca
+ *   valida durante {@code pedidos.replica.lectura-propia}, en la cabecera
+ *   {@value ReplicaConstantes#CABECERA_LECTURA_PRIMARIA} y en la cookie
+ *   {@value ReplicaConstantes#COOKIE_LECTURA_PRIMARIA}, antes de escribir la respuesta</li>
+ *   <li>Las peticiones que devuelven una marca vigente (en la cabecera o en la cookie) leen de la
+ *   primaria; las marcas vencidas o con una firma incorrecta se ignoran</li>
+ * </ul>
+ * La marca solo permite leer de la primaria hasta su expiracion, por lo que no se liga a un
+ * cliente, y ninguna instancia guarda estado: cualquier instancia detras del balanceador la
+ * valida. Sin marca, solo se leen de la primaria las lecturas posteriores a la escritura dentro de
+ * la misma peticion.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+public class LecturaPropiaFilter extends OncePerRequestFilter {
+
+	private static final String HMAC = "HmacSHA256";
+
+	private final Duration lecturaPropia;
+	private final SecretKeySpec clave;
+
+	public LecturaPropiaFilter(Duration lecturaPropia, String clave) {
+		if (clave == null || clave.isBlank()) {
+			throw new IllegalStateException(ReplicaConstantes.LECTURA_PROPIA_CLAVE_MSG);
+		}
+		this.lecturaPropia = lecturaPropia;
+		this.clave = new SecretKeySpec(clave.getBytes(StandardCharsets.UTF_8), HMAC);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		EnrutamientoContexto.iniciar(vigente(marca(request)), () -> emitir(response));
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			EnrutamientoContexto.limpiar();
+		}
+	}
+
+	private void emitir(HttpServletResponse response) {
+		if (response.isCommitted()) {
+			return;
+		}
+		String expiracion = String.valueOf(System.currentTimeMillis() + lecturaPropia.toMillis());
+		String marca = expiracion + "." + firmar(expiracion);
+		response.setHeader(ReplicaConstantes.CABECERA_LECTURA_PRIMARIA, marca);
+		response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(ReplicaConstantes.COOKIE_LECTURA_PRIMARIA, marca)
+				.path("/").maxAge(lecturaPropia).httpOnly(true).sameSite("Strict").build().toString());
+	}
+
+	private static String marca(HttpServletRequest request) {
+		String marca = request.getHeader(ReplicaConstantes.CABECERA_LECTURA_PRIMARIA);
+		if (marca != null) {
+			return marca;
+		}
+		Cookie cookie = WebUtils.getCookie(request, ReplicaConstantes.COOKIE_LECTURA_PRIMARIA);
+		return cookie == null ? null : cookie.getValue();
+	}
+
+	private boolean vigente(String marca) {
+		int punto = marca == null ? -1 : marca.indexOf('.');
+		if (punto <= 0) {
+			return false;
+		}
+		String expiracion = marca.substring(0, punto);
+		byte[] firma = marca.substring(punto + 1).getBytes(StandardCharsets.US_ASCII);
+		if (!MessageDigest.isEqual(firma, firmar(expiracion).getBytes(StandardCharsets.US_ASCII))) {
+			return false;
+		}
+		try {
+			return Long.parseLong(expiracion) > System.currentTimeMillis();
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private String firmar(String expiracion) {
+		try {
+			Mac mac = Mac.getInstance(HMAC);
+			mac.init(clave);
+			return Base64.getUrlEncoder().withoutPadding()
+					.encodeToString(mac.doFinal(expiracion.getBytes(StandardCharsets.US_ASCII)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.ejercicio.pedidos.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Restringe un metodo de controlador a las peticiones cuya cabecera {@code Prefer} (RFC 7240)
+ * incluye la preferencia indicada, sin importar el orden, las mayusculas ni las demas
+ * preferencias o parametros ({@code Prefer: respond-async, wait=10}). Las peticiones sin ella
+ * siguen buscando otro metodo con la misma ruta.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ * @see PreferenciaRequestCondition
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Preferencia {
+
+	/**
+	 * Nombre de la preferencia, por ejemplo {@code respond-async}.
+	 */
+	String value();
+
+}
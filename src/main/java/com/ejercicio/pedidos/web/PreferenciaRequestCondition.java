@@ -0,0 +1,66 @@
+package com.ejercicio.pedidos.web;
+
+import java.util.Enumeration;
+
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.mvc.condition.RequestCondition;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Condicion de mapeo para {@link Preferencia}. La cabecera {@code Prefer} puede repetirse y cada
+ * valor es una lista separada por comas de preferencias {@code nombre[=valor][; parametro]}; la
+ * condicion se cumple si alguna tiene el nombre buscado.
+ *
+ * @author Cuau Cabrera
+ * @version 1.0
+ */
+public final class PreferenciaRequestCondition implements RequestCondition<PreferenciaRequestCondition> {
+
+	public static final String PREFER = "Prefer";
+
+	private final String preferencia;
+
+	public PreferenciaRequestCondition(String preferencia) {
+		this.preferencia = preferencia;
+	}
+
+	@Override
+	public PreferenciaRequestCondition combine(PreferenciaRequestCondition other) {
+		return other;
+	}
+
+	@Override
+	public PreferenciaRequestCondition getMatchingCondition(HttpServletRequest request) {
+		if (CorsUtils.isPreFlightRequest(request)) {
+			return this;
+		}
+		Enumeration<String> valores = request.getHeaders(PREFER);
+		while (valores != null && valores.hasMoreElements()) {
+			for (String elemento : valores.nextElement().split(",")) {
+				if (preferencia.equalsIgnoreCase(nombre(elemento))) {
+					return this;
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public int compareTo(PreferenciaRequestCondition other, HttpServletRequest request) {
+		return 0;
+	}
+
+	private static String nombre(String elemento) {
+		int fin = elemento.length();
+		for (int i = 0; i < elemento.length(); i++) {
+			char c = elemento.charAt(i);
+			if (c == '=' || c == ';') {
+				fin = i;
+				break;
+			}
+		}
+		return elemento.substring(0, fin).trim();
+	}
+
+}
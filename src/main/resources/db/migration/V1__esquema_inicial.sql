@@ -0,0 +1,30 @@
+-- Esquema inicial de la aplicacion, equivalente al que generaba Hibernate a partir de las entidades.
+-- En bases de datos existentes esta version se marca como baseline y no se ejecuta
+-- (spring.flyway.baseline-on-migrate / baseline-version=1).
+
+create table if not exists cliente (
+	id bigint not null auto_increment,
+	nombre varchar(255) not null,
+	apellido_paterno varchar(255) not null,
+	apellido_materno varchar(255),
+	email varchar(255) not null,
+	direccion_envio varchar(255) not null,
+	fecha_creacion date not null,
+	fecha_modificacion date not null,
+	is_active boolean not null,
+	primary key (id)
+);
+
+create table if not exists pedido (
+	id bigint not null,
+	codigo_producto bigint not null,
+	email_cliente varchar(255) not null,
+	id_cliente bigint not null,
+	cantidad integer not null,
+	precio double not null,
+	fecha_creacion date not null,
+	fecha_modificacion date not null,
+	is_active boolean not null,
+	primary key (id),
+	constraint fk_pedido_cliente foreign key (id_cliente) references cliente (id)
+);
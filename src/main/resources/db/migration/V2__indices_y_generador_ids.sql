@@ -0,0 +1,31 @@
+-- Indices compuestos alineados con los metodos de PedidoRepository y ClienteRepository.
+-- Todas las consultas de pedidos llevan el filtro is_active = true (@SQLRestriction) y
+-- ordenan por id, que InnoDB agrega implicitamente al final de cada indice secundario.
+
+-- findDtoByEmailCliente, streamForExport(emailCliente)
+create index idx_pedido_email_activo on pedido (email_cliente, is_active);
+
+-- findDtoByIdClienteId (tambien cubre la llave foranea fk_pedido_cliente)
+create index idx_pedido_cliente_activo on pedido (id_cliente, is_active);
+
+-- findDtoByFechaCreacion, streamForExport(desde, hasta)
+create index idx_pedido_fecha_activo on pedido (fecha_creacion, is_active);
+
+-- findDtoByEmailCliente de clientes: un email pertenece a un solo cliente. Los emails se
+-- guardan sin espacios y en minusculas, como se buscan, para que el indice sirva con cualquier
+-- intercalacion de la columna
+update cliente set email = lower(trim(email));
+
+create unique index uk_cliente_email on cliente (email);
+
+-- Generador de ids por bloques para Pedido (@TableGenerator pedido_gen). El optimizador pooled
+-- de Hibernate toma el valor guardado como el ultimo id de su primer bloque y asigna los 50
+-- anteriores (allocationSize), por lo que se inicializa en el mayor id existente + 1 + 50
+create table id_generador (
+	entidad varchar(255) not null,
+	siguiente_id bigint not null,
+	primary key (entidad)
+);
+
+insert into id_generador (entidad, siguiente_id)
+select 'pedido', coalesce(max(id), 0) + 51 from pedido;
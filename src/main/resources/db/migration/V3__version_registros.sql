@@ -0,0 +1,6 @@
+-- Version de cada registro (@Version en Pedido y Cliente). Hibernate la incrementa en cada
+-- UPDATE y los borrados logicos masivos la incrementan explicitamente; se publica como ETag
+-- en GET /pedidos/{id} y GET /clientes/{id}
+alter table pedido add column version bigint not null default 0;
+
+alter table cliente add column version bigint not null default 0;
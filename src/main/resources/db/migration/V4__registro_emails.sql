@@ -0,0 +1,12 @@
+-- Emails registrados por las instancias con el filtro de emails habilitado (FiltroEmails), en la
+-- misma transaccion que el cliente o pedido. Cada instancia lee periodicamente los recientes para
+-- agregar a su filtro las altas de las demas; los anteriores a la ultima reconstruccion se borran
+create table registro_emails (
+	id bigint not null auto_increment,
+	email varchar(255) not null,
+	instancia varchar(36) not null,
+	registrado timestamp(3) not null default current_timestamp(3),
+	primary key (id)
+);
+
+create index idx_registro_emails_registrado on registro_emails (registrado);
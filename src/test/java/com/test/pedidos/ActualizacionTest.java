@@ -0,0 +1,137 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.service.impl.ClienteService;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifica que las actualizaciones (PUT y PATCH) modifiquen la entidad ya cargada con una sola
+ * consulta y un UPDATE que incluye solo las columnas modificadas.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ActualizacionTest {
+
+	private static final ClienteDTO ANA = new ClienteDTO(1L, "Ana", "Lopez", "Ruiz", "ana@correo.com", "Calle 1");
+	private static final ClienteDTO LUIS = new ClienteDTO(2L, "Luis", "Perez", null, "luis@correo.com", "Calle 2");
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private ClienteService clienteService;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		SqlCapturador.limpiar();
+	}
+
+	@Test
+	void putDePedidoEjecutaUnSelectYUnUpdateConColumnasModificadas() throws Exception {
+		pedidoService.update(1L, new PedidoDTO(1L, 100L, ANA, 7, 10.5, null));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(SqlCapturador.ultima()).startsWith("update").contains("cantidad")
+				.doesNotContain("precio", "codigo_producto", "email_cliente", "fecha_creacion");
+		Map<String, Object> fila = pedido(1L);
+		assertThat(fila.get("cantidad")).isEqualTo(7);
+		assertThat(fila.get("fecha_creacion")).hasToString("2024-10-02");
+	}
+
+	@Test
+	void putDePedidoCambiaElClienteSinConsultarlo() throws Exception {
+		pedidoService.update(1L, new PedidoDTO(1L, 100L, LUIS, 2, 10.5, null));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+		Map<String, Object> fila = pedido(1L);
+		assertThat(fila.get("id_cliente")).isEqualTo(2L);
+		assertThat(fila.get("email_cliente")).isEqualTo("luis@correo.com");
+	}
+
+	@Test
+	void patchDePedidoSoloModificaLosCamposRecibidos() throws Exception {
+		mockMvc.perform(patch("/api/v1/pedidos/1").contentType(MediaType.APPLICATION_JSON).content("{\"precio\":12.5}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.codigo").value(200));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+		assertThat(SqlCapturador.ultima()).contains("precio").doesNotContain("cantidad", "codigo_producto");
+		Map<String, Object> fila = pedido(1L);
+		assertThat(fila.get("precio")).isEqualTo(12.5);
+		assertThat(fila.get("cantidad")).isEqualTo(2);
+		assertThat(fila.get("codigo_producto")).isEqualTo(100L);
+	}
+
+	@Test
+	void patchDePedidoInexistenteDevuelve404() throws Exception {
+		mockMvc.perform(patch("/api/v1/pedidos/5").contentType(MediaType.APPLICATION_JSON).content("{\"cantidad\":1}"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void patchDeClienteActualizaLaCache() throws Exception {
+		clienteService.readById(1L);
+
+		mockMvc.perform(patch("/api/v1/usuarios/1").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"direccionEnvio\":\"Calle 99\"}"))
+				.andExpect(status().isOk());
+
+		assertThat(SqlCapturador.ultima()).contains("direccion_envio").doesNotContain("nombre", "email");
+		assertThat(clienteService.readById(1L).getClientes().get(0).getDireccionEnvio()).isEqualTo("Calle 99");
+		assertThat(clienteService.readById(1L).getClientes().get(0).getNombreCliente()).isEqualTo("Ana");
+	}
+
+	@Test
+	void patchDeClienteConEmailInvalidoDevuelve400() throws Exception {
+		mockMvc.perform(patch("/api/v1/usuarios/1").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"emailCliente\":\"no-es-un-email\"}"))
+				.andExpect(status().isBadRequest());
+
+		assertThat(jdbcTemplate.queryForObject("select email from cliente where id = 1", String.class))
+				.isEqualTo("ana@correo.com");
+	}
+
+	private Map<String, Object> pedido(Long id) {
+		return jdbcTemplate.queryForMap("select * from pedido where id = ?", id);
+	}
+
+}
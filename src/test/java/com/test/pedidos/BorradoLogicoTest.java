@@ -0,0 +1,115 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.service.impl.ClienteService;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifica que los borrados logicos se resuelvan con una sola sentencia UPDATE y que el 404
+ * se derive del numero de filas afectadas.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class BorradoLogicoTest {
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private ClienteService clienteService;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void borrarPedidoEjecutaUnSoloUpdate() throws Exception {
+		pedidoService.deleteById(1L);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(activo("pedido", 1L)).isFalse();
+	}
+
+	@Test
+	void borrarPedidoInactivoOInexistenteDevuelve404() throws Exception {
+		assertThatThrownBy(() -> pedidoService.deleteById(5L)).isInstanceOf(NotFoundException.class);
+		assertThatThrownBy(() -> pedidoService.deleteById(999L)).isInstanceOf(NotFoundException.class);
+		mockMvc.perform(delete("/api/v1/pedidos/999")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	void borradoMasivoEsUnaSolaSentencia() throws Exception {
+		mockMvc.perform(delete("/api/v1/pedidos").contentType(MediaType.APPLICATION_JSON).content("[1, 2, 2, 5, 999]"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.solicitados").value(4))
+				.andExpect(jsonPath("$.eliminados").value(2));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(activo("pedido", 1L)).isFalse();
+		assertThat(activo("pedido", 2L)).isFalse();
+		assertThat(activo("pedido", 3L)).isTrue();
+	}
+
+	@Test
+	void borradoMasivoSinPedidosActivosDevuelve404YListaVaciaDevuelve400() throws Exception {
+		mockMvc.perform(delete("/api/v1/pedidos").contentType(MediaType.APPLICATION_JSON).content("[5, 999]"))
+				.andExpect(status().isNotFound());
+		mockMvc.perform(delete("/api/v1/pedidos").contentType(MediaType.APPLICATION_JSON).content("[]"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void borrarClienteEjecutaUnSoloUpdateYExpulsaLaCache() throws Exception {
+		clienteService.findByEmail("luis@correo.com");
+		statistics.clear();
+
+		clienteService.deleteById(2L);
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(activo("cliente", 2L)).isFalse();
+		assertThatThrownBy(() -> clienteService.findByEmail("luis@correo.com")).isInstanceOf(NotFoundException.class);
+		assertThatThrownBy(() -> clienteService.deleteById(2L)).isInstanceOf(NotFoundException.class);
+	}
+
+	private Boolean activo(String tabla, Long id) {
+		return jdbcTemplate.queryForObject("select is_active from " + tabla + " where id = ?", Boolean.class, id);
+	}
+
+}
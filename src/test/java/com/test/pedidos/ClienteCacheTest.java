@@ -0,0 +1,119 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.cache.ClienteCache;
+import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.repository.ClienteRepository;
+import com.ejercicio.pedidos.service.impl.ClienteService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifica que las busquedas de clientes por id y email se sirvan desde la cache, que las
+ * actualizaciones y borrados la invaliden y que una lectura concurrente con una expulsion no deje
+ * en cache el valor anterior.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ClienteCacheTest {
+
+	@Autowired
+	private ClienteService clienteService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void lecturasRepetidasNoConsultanLaBaseDeDatos() throws Exception {
+		clienteService.readById(1L);
+		clienteService.readById(1L);
+		clienteService.findByEmail("  ANA@correo.com ");
+		clienteService.findByEmail("ana@correo.com");
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void actualizarExpulsaIdYEmailAnterior() throws Exception {
+		clienteService.findByEmail("ana@correo.com");
+
+		clienteService.update(1L, new ClienteDTO(1L, "Ana", "Lopez", "Ruiz", "ana.lopez@correo.com", "Calle 9"));
+
+		assertThat(clienteService.readById(1L).getClientes().get(0).getDireccionEnvio()).isEqualTo("Calle 9");
+		assertThatThrownBy(() -> clienteService.findByEmail("ana@correo.com")).isInstanceOf(NotFoundException.class);
+		assertThat(clienteService.findByEmail("ana.lopez@correo.com").getClientes()).hasSize(1);
+	}
+
+	@Test
+	void borrarExpulsaElCliente() throws Exception {
+		clienteService.readById(2L);
+		clienteService.findByEmail("luis@correo.com");
+
+		clienteService.deleteById(2L);
+
+		assertThatThrownBy(() -> clienteService.readById(2L)).isInstanceOf(NotFoundException.class);
+		assertThatThrownBy(() -> clienteService.findByEmail("luis@correo.com")).isInstanceOf(NotFoundException.class);
+	}
+
+	@Test
+	void emailConMayusculasSeGuardaNormalizadoYSeEncuentra() throws Exception {
+		clienteService.insert(new ClienteDTO(null, "Mar", "Gil", null, " Mar.Gil@Correo.com ", "Calle 5"));
+
+		assertThat(clienteService.findByEmail("mar.gil@correo.com").getClientes().get(0).getEmailCliente())
+				.isEqualTo("mar.gil@correo.com");
+		assertThat(clienteService.findByEmail("MAR.GIL@correo.com").getClientes()).hasSize(1);
+	}
+
+	@Test
+	void lecturaQueCruzaUnaExpulsionNoGuardaElValorAnterior() {
+		ClienteRepository clienteRepository = mock(ClienteRepository.class);
+		ClienteCache clienteCache = new ClienteCache(clienteRepository,
+				new ConcurrentMapCacheManager(ClienteCache.CLIENTES, ClienteCache.CLIENTES_EMAIL));
+		ClienteDTO anterior = new ClienteDTO(1L, "Ana", "Lopez", "Ruiz", "ana@correo.com", "Calle 1");
+		ClienteDTO nuevo = new ClienteDTO(1L, "Ana", "Lopez", "Ruiz", "ana@correo.com", "Calle 9");
+		// La actualizacion se confirma mientras la lectura consulta la base de datos
+		when(clienteRepository.findDtoById(1L)).thenAnswer(invocation -> {
+			clienteCache.evict(1L, "ana@correo.com");
+			return Optional.of(anterior);
+		}).thenReturn(Optional.of(nuevo));
+
+		assertThat(clienteCache.findById(1L)).contains(anterior);
+		assertThat(clienteCache.findById(1L)).contains(nuevo);
+		assertThat(clienteCache.findById(1L)).contains(nuevo);
+		verify(clienteRepository, times(2)).findDtoById(1L);
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.cache.ClienteCache;
+import com.ejercicio.pedidos.entity.Cliente;
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.repository.ClienteRepository;
+import com.ejercicio.pedidos.service.impl.ClienteService;
+import com.ejercicio.pedidos.utils.ClienteConstantes;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifica la cache de consultas por email debajo de {@link ClienteCache}: busquedas repetidas sin
+ * SQL cuando {@link ClienteCache} no tiene la entrada, invalidacion en las actualizaciones y borrados
+ * de {@link ClienteService}, ninguna region de entidad para Cliente y estadisticas por region en
+ * {@code /actuator/cachehibernate}.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ClienteSegundoNivelTest {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private ClienteService clienteService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void busquedaPorEmailUsaLaCacheDeConsultas() {
+		clienteRepository.findDtoByEmailCliente("ana@correo.com");
+		long sentencias = statistics.getPrepareStatementCount();
+
+		assertThat(clienteRepository.findDtoByEmailCliente("ana@correo.com")).isPresent();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(sentencias);
+		assertThat(region(ClienteConstantes.REGION_CACHE_EMAIL).getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void elServicioAciertaEnLaCacheDeConsultasSiClienteCacheNoTieneLaEntrada() throws Exception {
+		clienteService.findByEmail("ana@correo.com");
+		cacheManager.getCache(ClienteCache.CLIENTES_EMAIL).clear();
+		statistics.clear();
+
+		assertThat(clienteService.findByEmail("ana@correo.com").getClientes()).hasSize(1);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(region(ClienteConstantes.REGION_CACHE_EMAIL).getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void clienteNoTieneRegionDeEntidad() {
+		assertThat(entityManagerFactory.getCache().contains(Cliente.class, 1L)).isFalse();
+		assertThat(statistics.getSecondLevelCacheRegionNames())
+				.containsExactlyInAnyOrder(ClienteConstantes.REGION_CACHE_EMAIL, "default-query-results-region");
+	}
+
+	@Test
+	void actualizarInvalidaLaConsultaPorEmail() throws Exception {
+		clienteRepository.findDtoByEmailCliente("ana@correo.com");
+
+		clienteService.patch(1L, new ClienteDTO(null, null, null, null, "ana.lopez@correo.com", "Calle 9"));
+
+		assertThat(clienteRepository.findDtoByEmailCliente("ana@correo.com")).isEmpty();
+		assertThat(clienteRepository.findDtoByEmailCliente("ana.lopez@correo.com")).get()
+				.extracting(ClienteDTO::getDireccionEnvio).isEqualTo("Calle 9");
+	}
+
+	@Test
+	void borrarInvalidaLaConsultaPorEmail() throws Exception {
+		clienteRepository.findDtoByEmailCliente("luis@correo.com");
+
+		clienteService.deleteById(2L);
+
+		assertThat(clienteRepository.findDtoByEmailCliente("luis@correo.com")).isEmpty();
+	}
+
+	@Test
+	void actuatorPublicaLaTasaDeAciertosPorRegion() throws Exception {
+		clienteRepository.findDtoByEmailCliente("eva@correo.com");
+		clienteRepository.findDtoByEmailCliente("eva@correo.com");
+
+		mockMvc.perform(get("/actuator/cachehibernate"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$['cliente-email'].aciertos").value(1))
+				.andExpect(jsonPath("$['cliente-email'].tasaAciertos").value(0.5))
+				.andExpect(jsonPath("$.cliente").doesNotExist());
+		mockMvc.perform(get("/actuator/cachehibernate/cliente-email"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.inserciones").value(1));
+	}
+
+	private CacheRegionStatistics region(String region) {
+		return statistics.getCacheRegionStatistics(region);
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifica los GET condicionales de pedidos y clientes: ETag fuerte a partir de la columna
+ * {@code version}, 304 resuelto con una sola consulta de version y cambio de ETag en las
+ * actualizaciones y borrados logicos.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class EtagCondicionalTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void pedidoSinCambiosResponde304ConUnaConsultaDeVersion() throws Exception {
+		String etag = etag("/api/v1/pedidos/1");
+		statistics.clear();
+
+		mockMvc.perform(get("/api/v1/pedidos/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, etag))
+				.andExpect(content().string(""));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void pedidoCambiaDeEtagAlActualizarElPedidoOSuCliente() throws Exception {
+		String inicial = etag("/api/v1/pedidos/1");
+
+		mockMvc.perform(patch("/api/v1/pedidos/1").contentType(MediaType.APPLICATION_JSON).content("{\"cantidad\":7}"))
+				.andExpect(status().isOk());
+		String trasPedido = etag("/api/v1/pedidos/1");
+		mockMvc.perform(patch("/api/v1/usuarios/1").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"direccionEnvio\":\"Calle 9\"}")).andExpect(status().isOk());
+		String trasCliente = etag("/api/v1/pedidos/1");
+
+		assertThat(inicial).isEqualTo("\"0-0\"");
+		assertThat(trasPedido).isEqualTo("\"1-0\"");
+		assertThat(trasCliente).isEqualTo("\"1-1\"");
+		mockMvc.perform(get("/api/v1/pedidos/1").header(HttpHeaders.IF_NONE_MATCH, inicial))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void clienteSinCambiosResponde304YCambiaTrasActualizar() throws Exception {
+		String etag = etag("/api/v1/clientes/2");
+
+		mockMvc.perform(get("/api/v1/clientes/2").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(patch("/api/v1/usuarios/2").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"direccionEnvio\":\"Calle 9\"}")).andExpect(status().isOk());
+		mockMvc.perform(get("/api/v1/clientes/2").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+	}
+
+	@Test
+	void ifNoneMatchAceptaListasEtagsDebilesYComodin() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/2").header(HttpHeaders.IF_NONE_MATCH, "\"9-9\", W/\"0-0\""))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get("/api/v1/clientes/1").header(HttpHeaders.IF_NONE_MATCH, "*"))
+				.andExpect(status().isNotModified());
+		mockMvc.perform(get("/api/v1/pedidos/5").header(HttpHeaders.IF_NONE_MATCH, "*"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void pedidoNuevoEmpiezaEnLaVersionCero() throws Exception {
+		String body = mockMvc.perform(post("/api/v1/pedidos").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"codidoProducto\":100,\"cantidad\":1,\"precio\":5.0,"
+						+ "\"idCliente\":{\"id\":2,\"emailCliente\":\"luis@correo.com\"}}"))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		long id = objectMapper.readTree(body).get("id").asLong();
+
+		assertThat(etag("/api/v1/pedidos/" + id)).isEqualTo("\"0-0\"");
+	}
+
+	@Test
+	void borradoLogicoIncrementaLaVersion() throws Exception {
+		pedidoService.deleteById(3L);
+
+		assertThat(jdbcTemplate.queryForObject("select version from pedido where id = 3", Long.class)).isEqualTo(1L);
+	}
+
+	private String etag(String url) throws Exception {
+		return mockMvc.perform(get(url)).andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+	}
+
+}
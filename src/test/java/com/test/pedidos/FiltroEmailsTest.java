@@ -0,0 +1,170 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.cache.FiltroBloom;
+import com.ejercicio.pedidos.cache.FiltroEmails;
+import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.service.impl.ClienteService;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+import com.ejercicio.pedidos.utils.MetricasConstantes;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifica el filtro de emails: busquedas de emails inexistentes sin SQL, altas visibles de
+ * inmediato, altas de otras instancias visibles al sincronizar, bajas descartadas tras la
+ * reconstruccion y tasa de falsos positivos del filtro de Bloom. La sincronizacion programada se
+ * espacia para que no consulte la base de datos durante las pruebas; las que la necesitan la invocan.
+ */
+@SpringBootTest(classes = PedidosApplication.class, properties = { "pedidos.filtro-emails.habilitado=true",
+		"pedidos.filtro-emails.sincronizacion=PT1H" })
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class FiltroEmailsTest {
+
+	@Autowired
+	private FiltroEmails filtroEmails;
+
+	@Autowired
+	private ClienteService clienteService;
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		// Los datos de prueba se insertan despues del arranque
+		filtroEmails.reconstruir();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void emailInexistenteSeRespondeSinConsultarLaBaseDeDatos() throws Exception {
+		double descartados = meterRegistry.counter(MetricasConstantes.FILTRO_DESCARTADOS_COUNTER).count();
+
+		assertThatThrownBy(() -> clienteService.findByEmail("nadie@correo.com")).isInstanceOf(NotFoundException.class);
+		assertThatThrownBy(() -> pedidoService.readByemailCliente("nadie@correo.com"))
+				.isInstanceOf(NotFoundException.class);
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(meterRegistry.counter(MetricasConstantes.FILTRO_DESCARTADOS_COUNTER).count())
+				.isEqualTo(descartados + 2);
+		assertThat(clienteService.findByEmail(" ANA@correo.com").getClientes()).hasSize(1);
+		assertThat(pedidoService.readByemailCliente("ana@correo.com").getPedidos()).hasSize(2);
+	}
+
+	@Test
+	void altasYCambiosDeEmailSeVenSinEsperarLaReconstruccion() throws Exception {
+		clienteService.insert(new ClienteDTO(null, "Sara", "Mora", null, "sara@correo.com", "Calle 5"));
+		pedidoService.patch(3L, new PedidoDTO(null, null,
+				new ClienteDTO(2L, null, null, null, "luis.perez@correo.com", null), null, null, null));
+
+		assertThat(clienteService.findByEmail("sara@correo.com").getClientes()).hasSize(1);
+		assertThat(pedidoService.readByemailCliente("luis.perez@correo.com").getPedidos()).hasSize(1);
+	}
+
+	@Test
+	void altasDeOtraInstanciaSeVenAlSincronizar() throws Exception {
+		jdbcTemplate.update("insert into cliente (id, nombre, apellido_paterno, email, direccion_envio, fecha_creacion, "
+				+ "fecha_modificacion, is_active) values (10, 'Sara', 'Mora', 'sara@correo.com', 'Calle 5', "
+				+ "current_date, current_date, true)");
+		jdbcTemplate.update("insert into registro_emails (email, instancia) values ('sara@correo.com', 'otra')");
+
+		assertThat(filtroEmails.sincronizar()).isEqualTo(1);
+
+		assertThat(clienteService.findByEmail("sara@correo.com").getClientes()).hasSize(1);
+		// Mientras otras instancias escriben, los emails descartados se buscan en la base de datos
+		assertThat(filtroEmails.puedeExistir("nadie@correo.com")).isTrue();
+		filtroEmails.reconstruir();
+		assertThat(filtroEmails.puedeExistir("nadie@correo.com")).isFalse();
+	}
+
+	@Test
+	void altasDeEstaInstanciaSeGuardanUnaVezPorTransaccion() throws Exception {
+		ClienteDTO ana = new ClienteDTO(1L, null, null, null, "ana@correo.com", null);
+		pedidoService.insertBatch(List.of(new PedidoDTO(null, 200L, ana, 1, 5.0, null),
+				new PedidoDTO(null, 201L, ana, 2, 5.0, null)));
+
+		assertThat(jdbcTemplate.queryForList("select email from registro_emails", String.class))
+				.containsExactly("ana@correo.com");
+		assertThat(filtroEmails.puedeExistir("nadie@correo.com")).isFalse();
+	}
+
+	@Test
+	void reconstruirDescartaLosEmailsDadosDeBaja() throws Exception {
+		clienteService.deleteById(3L);
+		pedidoService.deleteById(4L);
+		assertThat(filtroEmails.puedeExistir("eva@correo.com")).isTrue();
+
+		filtroEmails.reconstruir();
+
+		assertThat(filtroEmails.puedeExistir("eva@correo.com")).isFalse();
+		assertThat(filtroEmails.puedeExistir("raul@correo.com")).isTrue();
+	}
+
+	@Test
+	void probabilidadDeFalsoPositivoSePublicaComoMetrica() throws Exception {
+		mockMvc.perform(get("/actuator/metrics/" + MetricasConstantes.FILTRO_FPP_GAUGE))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.measurements[0].value").value(filtroEmails.probabilidadFalsoPositivo()));
+		assertThat(filtroEmails.probabilidadFalsoPositivo()).isBetween(0.0, 0.01);
+	}
+
+	@Test
+	void filtroBloomSinFalsosNegativosYConLaTasaConfigurada() {
+		FiltroBloom filtro = FiltroBloom.paraCapacidad(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filtro.agregar("cliente" + i + "@correo.com");
+		}
+
+		int falsosPositivos = 0;
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filtro.puedeContener("cliente" + i + "@correo.com")).isTrue();
+			if (filtro.puedeContener("otro" + i + "@correo.com")) {
+				falsosPositivos++;
+			}
+		}
+
+		assertThat(falsosPositivos / 10_000.0).isLessThan(0.02);
+		assertThat(filtro.probabilidadFalsoPositivo()).isBetween(0.005, 0.015);
+	}
+
+}
@@ -0,0 +1,118 @@
+package com.test.pedidos;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ejercicio.pedidos.utils.PedidoConstantes;
+
+/**
+ * Generador determinista de clientes y pedidos sinteticos para las pruebas de volumen. Con la
+ * misma semilla y los mismos tamanos produce siempre las mismas filas.
+ *
+ * <p>La distribucion imita el sesgo de los datos reales:
+ * <ul>
+ *   <li>El 1% de los clientes (ids {@code 1..clientesPesados()}) concentra el
+ *   {@value #PORCENTAJE_CLIENTES_PESADOS}% de los pedidos; el resto se reparte entre los demas</li>
+ *   <li>Las {@link #FECHAS_CALIENTES} (Buen Fin, Cyber Monday y Nochebuena) concentran el
+ *   {@value #PORCENTAJE_FECHAS_CALIENTES}% de los pedidos; el resto se reparte en los
+ *   {@value #DIAS} dias a partir de {@link #FECHA_INICIAL}</li>
+ *   <li>El {@value #PORCENTAJE_INACTIVOS}% de los pedidos esta borrado logicamente</li>
+ * </ul>
+ * Las filas se insertan por JDBC en lotes, sin pasar por Hibernate, y el generador de ids de
+ * pedidos queda por encima de los ids cargados.
+ */
+public final class GeneradorDatos {
+
+	public static final LocalDate FECHA_INICIAL = LocalDate.of(2024, 10, 1);
+	public static final int DIAS = 90;
+	public static final List<LocalDate> FECHAS_CALIENTES = List.of(LocalDate.of(2024, 11, 15),
+			LocalDate.of(2024, 12, 2), LocalDate.of(2024, 12, 24));
+	public static final int PORCENTAJE_CLIENTES_PESADOS = 30;
+	public static final int PORCENTAJE_FECHAS_CALIENTES = 40;
+	public static final int PORCENTAJE_INACTIVOS = 2;
+	private static final int PRODUCTOS = 200;
+	private static final int LOTE = 10_000;
+
+	private final long semilla;
+	private final int clientes;
+	private final int pedidos;
+
+	public GeneradorDatos(long semilla, int clientes, int pedidos) {
+		if (clientes < 2 || pedidos < 1) {
+			throw new IllegalArgumentException("Se requieren al menos 2 clientes y 1 pedido");
+		}
+		this.semilla = semilla;
+		this.clientes = clientes;
+		this.pedidos = pedidos;
+	}
+
+	public int clientes() {
+		return clientes;
+	}
+
+	public int pedidos() {
+		return pedidos;
+	}
+
+	public int clientesPesados() {
+		return Math.max(1, clientes / 100);
+	}
+
+	public static String email(long cliente) {
+		return "cliente" + cliente + "@volumen.com";
+	}
+
+	/**
+	 * Inserta los clientes con ids {@code 1..clientes} y los pedidos con ids {@code 1..pedidos}.
+	 */
+	public void cargar(JdbcTemplate jdbcTemplate) {
+		SplittableRandom random = new SplittableRandom(semilla);
+		List<Object[]> filas = new ArrayList<>(LOTE);
+		for (long id = 1; id <= clientes; id++) {
+			LocalDate alta = FECHA_INICIAL.minusDays(1 + random.nextInt(365));
+			filas.add(new Object[] { id, "Nombre" + id, "Paterno" + id, "Materno" + id, email(id), "Calle " + id,
+					alta, alta });
+			if (filas.size() == LOTE || id == clientes) {
+				jdbcTemplate.batchUpdate("insert into cliente (id, nombre, apellido_paterno, apellido_materno, email, "
+						+ "direccion_envio, fecha_creacion, fecha_modificacion, is_active) "
+						+ "values (?, ?, ?, ?, ?, ?, ?, ?, true)", filas);
+				filas.clear();
+			}
+		}
+		for (long id = 1; id <= pedidos; id++) {
+			long cliente = cliente(random);
+			LocalDate fecha = fecha(random);
+			filas.add(new Object[] { id, 100 + random.nextInt(PRODUCTOS), email(cliente), cliente,
+					1 + random.nextInt(5), random.nextInt(100, 100_000) / 100.0, fecha, fecha,
+					random.nextInt(100) >= PORCENTAJE_INACTIVOS });
+			if (filas.size() == LOTE || id == pedidos) {
+				jdbcTemplate.batchUpdate("insert into pedido (id, codigo_producto, email_cliente, id_cliente, cantidad, "
+						+ "precio, fecha_creacion, fecha_modificacion, is_active) "
+						+ "values (?, ?, ?, ?, ?, ?, ?, ?, ?)", filas);
+				filas.clear();
+			}
+		}
+		jdbcTemplate.update("update id_generador set siguiente_id = ? where entidad = 'pedido'",
+				pedidos + 1L + PedidoConstantes.ID_ALLOCATION_SIZE);
+	}
+
+	private long cliente(SplittableRandom random) {
+		int pesados = clientesPesados();
+		if (random.nextInt(100) < PORCENTAJE_CLIENTES_PESADOS) {
+			return 1 + random.nextInt(pesados);
+		}
+		return pesados + 1 + random.nextInt(clientes - pesados);
+	}
+
+	private LocalDate fecha(SplittableRandom random) {
+		if (random.nextInt(100) < PORCENTAJE_FECHAS_CALIENTES) {
+			return FECHAS_CALIENTES.get(random.nextInt(FECHAS_CALIENTES.size()));
+		}
+		return FECHA_INICIAL.plusDays(random.nextInt(DIAS));
+	}
+
+}
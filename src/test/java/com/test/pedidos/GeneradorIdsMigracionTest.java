@@ -0,0 +1,86 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.model.PedidoBatchItem;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+
+/**
+ * Verifica que el generador de ids de pedidos creado por la migracion V2 no repita ids sobre una
+ * tabla con pedidos: la base se migra hasta V1, se cargan {@value #PEDIDOS_EXISTENTES} pedidos y
+ * despues se aplican las demas migraciones antes de arrancar Hibernate.
+ */
+@SpringBootTest(classes = PedidosApplication.class, properties =
+		"spring.datasource.url=jdbc:h2:mem:migracion;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@Import(GeneradorIdsMigracionTest.MigracionConDatos.class)
+class GeneradorIdsMigracionTest {
+
+	private static final int PEDIDOS_EXISTENTES = 120;
+
+	@TestConfiguration
+	static class MigracionConDatos {
+
+		@Bean
+		@Primary
+		FlywayMigrationStrategy migrarConPedidosExistentes() {
+			return flyway -> {
+				Flyway.configure().configuration(flyway.getConfiguration()).target("1").load().migrate();
+				JdbcTemplate jdbcTemplate = new JdbcTemplate(flyway.getConfiguration().getDataSource());
+				jdbcTemplate.update("insert into cliente (id, nombre, apellido_paterno, email, direccion_envio, "
+						+ "fecha_creacion, fecha_modificacion, is_active) "
+						+ "values (1, 'Ana', 'Lopez', 'ana@correo.com', 'Calle 1', current_date, current_date, true)");
+				for (int id = 1; id <= PEDIDOS_EXISTENTES; id++) {
+					jdbcTemplate.update("insert into pedido (id, codigo_producto, email_cliente, id_cliente, cantidad, "
+							+ "precio, fecha_creacion, fecha_modificacion, is_active) "
+							+ "values (?, 100, 'ana@correo.com', 1, 1, 10.0, current_date, current_date, true)", id);
+				}
+				flyway.migrate();
+			};
+		}
+
+	}
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void losPedidosNuevosNoRepitenIdsExistentes() throws Exception {
+		ClienteDTO cliente = new ClienteDTO(1L, "Ana", "Lopez", null, "ana@correo.com", "Calle 1");
+		List<PedidoDTO> pedidos = new ArrayList<>();
+		for (int i = 0; i < 60; i++) {
+			pedidos.add(new PedidoDTO(null, 200L + i, cliente, 1, 15.0, null));
+		}
+
+		Long id = pedidoService.insert(new PedidoDTO(null, 199L, cliente, 1, 15.0, null)).getId();
+		List<PedidoBatchItem> resultado = pedidoService.insertBatch(pedidos);
+
+		assertThat(id).isGreaterThan(PEDIDOS_EXISTENTES);
+		assertThat(resultado).allSatisfy(item -> {
+			assertThat(item.getCodigo()).isEqualTo(201);
+			assertThat(item.getId()).isGreaterThan(PEDIDOS_EXISTENTES);
+		});
+		assertThat(jdbcTemplate.queryForObject("select count(*) from pedido", Integer.class))
+				.isEqualTo(PEDIDOS_EXISTENTES + 61);
+	}
+
+}
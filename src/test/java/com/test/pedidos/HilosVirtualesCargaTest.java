@@ -0,0 +1,166 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.ejercicio.pedidos.PedidosApplication;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prueba de carga que compara el throughput y la latencia p99 de la API atendida con hilos de
+ * plataforma de Tomcat (200) contra hilos virtuales, con el mismo pool de 10 conexiones en ambos
+ * casos. Cada sentencia SQL tarda {@value #LATENCIA_SQL_MS} ms (latencia simulada de MySQL).
+ *
+ * <p>La carga mezcla lecturas que van a la base de datos (pedidos por email) con lecturas de
+ * clientes servidas desde la cache. Con hilos de plataforma los hilos de Tomcat quedan esperando
+ * conexion y las lecturas en cache se encolan detras de ellos; con hilos virtuales solo las
+ * peticiones que necesitan la base de datos esperan en el pool.
+ *
+ * <p>Se ejecuta con {@code mvn -P carga test} sobre JDK 21.
+ */
+@Slf4j
+@Tag("carga")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class HilosVirtualesCargaTest {
+
+	private static final long LATENCIA_SQL_MS = 20;
+	private static final int USUARIOS = 500;
+	private static final int PORCENTAJE_BASE_DATOS = 20;
+	private static final long CALENTAMIENTO_MS = 3_000;
+	private static final long MEDICION_MS = 10_000;
+
+	@Test
+	void hilosVirtualesVsHilosDePlataforma() throws Exception {
+		Resultado plataforma = ejecutar(false);
+		Resultado virtuales = ejecutar(true);
+
+		log.info("Hilos de plataforma: {}", plataforma);
+		log.info("Hilos virtuales:     {}", virtuales);
+		assertThat(plataforma.errores()).isZero();
+		assertThat(virtuales.errores()).isZero();
+	}
+
+	private Resultado ejecutar(boolean hilosVirtuales) throws Exception {
+		String modo = hilosVirtuales ? "virtual" : "plataforma";
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PedidosApplication.class,
+				LatenciaConfig.class)
+				.run("--server.port=0",
+						"--spring.threads.virtual.enabled=" + hilosVirtuales,
+						"--server.tomcat.threads.max=200",
+						"--server.tomcat.max-connections=10000",
+						"--server.tomcat.accept-count=1000",
+						"--spring.datasource.url=jdbc:h2:mem:carga_" + modo
+								+ ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+						"--spring.datasource.hikari.maximum-pool-size=10",
+						"--spring.datasource.hikari.connection-timeout=30000",
+						"--spring.jpa.properties.hibernate.generate_statistics=false",
+						"--logging.level.com.ejercicio.pedidos=WARN")) {
+			new ResourceDatabasePopulator(new ClassPathResource("datos-pedidos.sql"))
+					.execute(context.getBean(DataSource.class));
+			int puerto = ((WebServerApplicationContext) context).getWebServer().getPort();
+			return generarCarga("http://localhost:" + puerto + "/api/v1");
+		}
+	}
+
+	private Resultado generarCarga(String base) throws Exception {
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+		URI baseDatos = URI.create(base + "/pedidos/email?emailCliente=ana@correo.com");
+		URI cache = URI.create(base + "/clientes/1");
+		AtomicLong errores = new AtomicLong();
+		long inicioMedicion = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CALENTAMIENTO_MS);
+		long fin = inicioMedicion + TimeUnit.MILLISECONDS.toNanos(MEDICION_MS);
+		ExecutorService usuarios = Executors.newFixedThreadPool(USUARIOS);
+		List<Future<List<Long>>> futuros = new ArrayList<>();
+		for (int i = 0; i < USUARIOS; i++) {
+			futuros.add(usuarios.submit(() -> {
+				List<Long> latencias = new ArrayList<>();
+				long ahora;
+				while ((ahora = System.nanoTime()) < fin) {
+					URI uri = ThreadLocalRandom.current().nextInt(100) < PORCENTAJE_BASE_DATOS ? baseDatos : cache;
+					HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).build(),
+							HttpResponse.BodyHandlers.discarding());
+					long termino = System.nanoTime();
+					if (ahora >= inicioMedicion && termino <= fin) {
+						latencias.add(termino - ahora);
+						if (response.statusCode() != 200) {
+							errores.incrementAndGet();
+						}
+					}
+				}
+				return latencias;
+			}));
+		}
+		List<Long> todas = new ArrayList<>();
+		for (Future<List<Long>> futuro : futuros) {
+			todas.addAll(futuro.get());
+		}
+		usuarios.shutdown();
+		long[] ordenadas = todas.stream().mapToLong(Long::longValue).sorted().toArray();
+		return new Resultado(ordenadas.length * 1000.0 / MEDICION_MS, percentilMs(ordenadas, 0.50),
+				percentilMs(ordenadas, 0.99), errores.get());
+	}
+
+	private static double percentilMs(long[] ordenadas, double percentil) {
+		if (ordenadas.length == 0) {
+			return 0;
+		}
+		int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+		return ordenadas[Math.max(indice, 0)] / 1_000_000.0;
+	}
+
+	private record Resultado(double peticionesPorSegundo, double p50Ms, double p99Ms, long errores) {
+
+		@Override
+		public String toString() {
+			return String.format("%.0f peticiones/s, p50 %.1f ms, p99 %.1f ms, errores %d", peticionesPorSegundo,
+					p50Ms, p99Ms, errores);
+		}
+	}
+
+	@Configuration
+	static class LatenciaConfig {
+
+		@Bean
+		static BeanPostProcessor latenciaDataSourcePostProcessor() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (bean instanceof DataSource dataSource && !(bean instanceof LatenciaDataSource)) {
+						return new LatenciaDataSource(dataSource, LATENCIA_SQL_MS);
+					}
+					return bean;
+				}
+			};
+		}
+
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.ejercicio.pedidos.config.HilosVirtualesConfig;
+
+/**
+ * Verifica que los hilos virtuales habilitados sobre un JRE anterior a Java 21 detengan el
+ * arranque en lugar de ignorarse.
+ */
+class HilosVirtualesConfigTest {
+
+	private final ApplicationContextRunner runner = new ApplicationContextRunner()
+			.withUserConfiguration(HilosVirtualesConfig.class);
+
+	@Test
+	@EnabledForJreRange(max = JRE.JAVA_20)
+	void hilosVirtualesSobreJava17DetienenElArranque() {
+		runner.withPropertyValues(HilosVirtualesConfig.VIRTUAL_PROPERTY + "=true")
+				.run(context -> assertThat(context).hasFailed()
+						.getFailure().rootCause().hasMessageContaining("Java 21"));
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void hilosVirtualesSobreJava21Arrancan() {
+		runner.withPropertyValues(HilosVirtualesConfig.VIRTUAL_PROPERTY + "=true")
+				.run(context -> assertThat(context).hasNotFailed());
+	}
+
+	@Test
+	void sinHilosVirtualesNoSeVerificaElJre() {
+		runner.run(context -> assertThat(context).hasNotFailed().doesNotHaveBean(HilosVirtualesConfig.class));
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.repository.ClienteRepository;
+import com.ejercicio.pedidos.repository.PedidoRepository;
+
+/**
+ * Verifica, sobre el esquema creado por las migraciones de Flyway en H2, que el plan de
+ * ejecucion de cada consulta de los repositorios use un indice y no un recorrido completo.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class IndicesConsultasTest {
+
+	@Autowired
+	private PedidoRepository pedidoRepository;
+
+	@Autowired
+	private ClienteRepository clienteRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		SqlCapturador.limpiar();
+	}
+
+	@Test
+	void pedidosPorEmailUsanIndiceEmail() {
+		pedidoRepository.findDtoByEmailCliente("ana@correo.com");
+
+		assertThat(plan("ana@correo.com")).contains("idx_pedido_email_activo");
+	}
+
+	@Test
+	void pedidosPorClienteUsanIndiceCliente() {
+		pedidoRepository.findDtoByIdClienteId(1L);
+
+		assertThat(plan(1L)).contains("idx_pedido_cliente_activo");
+	}
+
+	@Test
+	void pedidosPorFechaUsanIndiceFecha() {
+		pedidoRepository.findDtoByFechaCreacion(LocalDate.of(2024, 10, 2));
+
+		assertThat(plan(LocalDate.of(2024, 10, 2))).contains("idx_pedido_fecha_activo");
+	}
+
+	@Test
+	void resumenPorRangoUsaIndiceFecha() {
+		pedidoRepository.resumirPorDia(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 7));
+
+		assertThat(plan(LocalDate.of(2024, 10, 1), LocalDate.of(2024, 10, 7))).contains("idx_pedido_fecha_activo");
+	}
+
+	@Test
+	void pedidoPorIdUsaLlavePrimaria() {
+		pedidoRepository.findDtoById(1L);
+
+		assertThat(plan(1L)).contains("primary_key");
+	}
+
+	@Test
+	void paginaDePedidosUsaLlavePrimaria() {
+		pedidoRepository.findDtoPage(0L, Limit.of(10));
+
+		assertThat(plan(0L, 10)).contains("primary_key");
+	}
+
+	@Test
+	void clientePorEmailUsaIndiceUnico() {
+		clienteRepository.findDtoByEmailCliente("ana@correo.com");
+
+		assertThat(plan("ana@correo.com")).contains("uk_cliente_email");
+	}
+
+	@Test
+	void clientePorIdUsaLlavePrimaria() {
+		clienteRepository.findDtoById(1L);
+
+		assertThat(plan(1L)).contains("primary_key");
+	}
+
+	@Test
+	void paginaDeClientesUsaLlavePrimaria() {
+		clienteRepository.findDtoPage(0L, Limit.of(10));
+
+		assertThat(plan(0L, 10)).contains("primary_key");
+	}
+
+	private String plan(Object... parametros) {
+		String sql = SqlCapturador.ultima();
+		return jdbcTemplate.queryForObject("explain " + sql, String.class, parametros).toLowerCase();
+	}
+
+}
@@ -0,0 +1,36 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.cache.FiltroEmails;
+import com.ejercicio.pedidos.cache.PedidoModeloLectura;
+
+/**
+ * Verifica el arranque con {@code spring.main.lazy-initialization=true} (modo de arranque rapido):
+ * los servicios se crean hasta que se usan, pero el modelo de lectura y el filtro de emails se
+ * cargan al arrancar.
+ */
+@SpringBootTest(classes = PedidosApplication.class, properties = { "spring.main.lazy-initialization=true",
+		"pedidos.modelo-lectura.habilitado=true", "pedidos.filtro-emails.habilitado=true" })
+class InicializacionDiferidaTest {
+
+	@Autowired
+	private ConfigurableApplicationContext context;
+
+	@Test
+	void modeloDeLecturaYFiltroSeCarganAlArrancar() {
+		assertThat(context.getBeanFactory().containsSingleton("pedidoService")).isFalse();
+		assertThat(context.getBeanFactory().containsSingleton("pedidoModeloLectura")).isTrue();
+		assertThat(context.getBeanFactory().containsSingleton("filtroEmails")).isTrue();
+
+		assertThat(context.getBean(PedidoModeloLectura.class).isListo()).isTrue();
+		assertThat(context.getBean(FiltroEmails.class).puedeExistir("nadie@correo.com")).isFalse();
+	}
+
+}
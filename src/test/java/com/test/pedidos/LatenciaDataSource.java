@@ -0,0 +1,65 @@
+package com.test.pedidos;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource de pruebas que agrega una espera fija antes de ejecutar cada sentencia, para simular
+ * la latencia de red de MySQL sobre la base H2 en memoria. El hilo que ejecuta la sentencia queda
+ * bloqueado durante la espera con la conexion tomada, igual que con una base de datos remota.
+ */
+public class LatenciaDataSource extends DelegatingDataSource {
+
+	private final long latenciaMillis;
+
+	public LatenciaDataSource(DataSource delegate, long latenciaMillis) {
+		super(delegate);
+		this.latenciaMillis = latenciaMillis;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return conLatencia(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return conLatencia(super.getConnection(username, password));
+	}
+
+	private Connection conLatencia(Connection connection) {
+		return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+				(proxy, method, args) -> {
+					Object resultado = invocar(connection, method, args);
+					if (resultado instanceof Statement statement && method.getName().startsWith("prepare")) {
+						return sentenciaConLatencia(statement, method.getReturnType());
+					}
+					return resultado;
+				});
+	}
+
+	private Object sentenciaConLatencia(Statement statement, Class<?> tipo) {
+		return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { tipo }, (proxy, method, args) -> {
+			if (method.getName().startsWith("execute")) {
+				Thread.sleep(latenciaMillis);
+			}
+			return invocar(statement, method, args);
+		});
+	}
+
+	private static Object invocar(Object destino, java.lang.reflect.Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(destino, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+}
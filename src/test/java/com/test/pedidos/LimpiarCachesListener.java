@@ -0,0 +1,36 @@
+package com.test.pedidos;
+
+import org.hibernate.SessionFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Vacia la cache de segundo nivel de Hibernate y las caches de Spring antes de cada prueba.
+ * Los datos se cargan y borran con scripts SQL ({@code @Sql}) que no pasan por Hibernate, de modo
+ * que las entradas de una prueba anterior podrian no corresponder con las filas actuales.
+ *
+ * <p>Se registra para todas las pruebas en {@code META-INF/spring.factories}.
+ */
+public class LimpiarCachesListener extends AbstractTestExecutionListener {
+
+	@Override
+	public int getOrder() {
+		return LOWEST_PRECEDENCE;
+	}
+
+	@Override
+	public void beforeTestMethod(TestContext testContext) {
+		if (!testContext.hasApplicationContext()) {
+			return;
+		}
+		testContext.getApplicationContext().getBeanProvider(EntityManagerFactory.class)
+				.ifAvailable(emf -> emf.unwrap(SessionFactory.class).getCache().evictAllRegions());
+		testContext.getApplicationContext().getBeanProvider(CacheManager.class)
+				.ifAvailable(cacheManager -> cacheManager.getCacheNames()
+						.forEach(name -> cacheManager.getCache(name).clear()));
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.service.impl.ClienteService;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Verifica las metricas publicadas por la aplicacion: timers de servicios y repositorios,
+ * contador de consultas sin resultado, pool de Hikari y estadisticas de Hibernate, y su
+ * exportacion en formato Prometheus.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class MetricasTest {
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private ClienteService clienteService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void serviciosPublicanTimerPorMetodo() throws Exception {
+		double antes = conteoServicio(PedidoService.class, "readById");
+
+		pedidoService.readById(1L);
+		clienteService.readById(1L);
+
+		assertThat(conteoServicio(PedidoService.class, "readById")).isEqualTo(antes + 1);
+		assertThat(conteoServicio(ClienteService.class, "readById")).isPositive();
+	}
+
+	@Test
+	void consultasSinResultadoSeCuentanPorExcepcion() {
+		double antes = sinResultado("NotFoundException", "readById");
+
+		assertThatThrownBy(() -> pedidoService.readById(999L)).isInstanceOf(NotFoundException.class);
+		assertThatThrownBy(() -> pedidoService.readById(998L)).isInstanceOf(NotFoundException.class);
+
+		assertThat(sinResultado("NotFoundException", "readById")).isEqualTo(antes + 2);
+	}
+
+	@Test
+	void repositoriosPoolEHibernatePublicanMetricas() throws Exception {
+		pedidoService.readByemailCliente("ana@correo.com");
+
+		assertThat(meterRegistry.get("spring.data.repository.invocations")
+				.tag("repository", "PedidoRepository").tag("method", "findDtoByEmailCliente").timer().count())
+				.isPositive();
+		assertThat(meterRegistry.get("hikaricp.connections.acquire").timer().count()).isPositive();
+		assertThat(meterRegistry.get("hikaricp.connections.active").gauge()).isNotNull();
+		assertThat(meterRegistry.get("hibernate.query.executions").functionCounter().count()).isPositive();
+		assertThat(meterRegistry.get("hibernate.entities.loads").functionCounter()).isNotNull();
+	}
+
+	@Test
+	void endpointPrometheusExportaHistogramas() throws Exception {
+		pedidoService.readById(1L);
+
+		String body = mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		assertThat(body).contains("pedidos_servicio_seconds_bucket", "spring_data_repository_invocations_seconds_bucket",
+				"hikaricp_connections_acquire_seconds_bucket", "hibernate_query_executions_total");
+	}
+
+	private double conteoServicio(Class<?> clase, String metodo) {
+		return meterRegistry.find("pedidos.servicio").tag("class", clase.getName()).tag("method", metodo)
+				.tag("exception", "none").timers().stream().mapToLong(Timer::count).sum();
+	}
+
+	private double sinResultado(String excepcion, String metodo) {
+		var counter = meterRegistry.find("pedidos.servicio.sin.resultado").tag("exception", excepcion)
+				.tag("method", metodo).counter();
+		return counter == null ? 0 : counter.count();
+	}
+
+}
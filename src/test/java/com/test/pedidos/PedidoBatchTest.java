@@ -0,0 +1,95 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.model.PedidoBatchItem;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifica la carga de pedidos por lotes: validacion por elemento, clientes inexistentes o
+ * inactivos rechazados por elemento, ids asignados en orden y sentencias INSERT agrupadas en lotes JDBC.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class PedidoBatchTest {
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void insertaEnLotesYReportaCadaElemento() throws Exception {
+		ClienteDTO cliente = new ClienteDTO(2L, "Luis", "Perez", null, "luis@correo.com", "Calle 2");
+		List<PedidoDTO> pedidos = new ArrayList<>();
+		for (int i = 0; i < 120; i++) {
+			pedidos.add(new PedidoDTO(null, 500L + i, cliente, 1, 15.0, null));
+		}
+		pedidos.set(7, new PedidoDTO(null, null, cliente, 1, 15.0, null));
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<PedidoBatchItem> resultado = pedidoService.insertBatch(pedidos);
+
+		assertThat(resultado).hasSize(120);
+		assertThat(resultado.get(7).getCodigo()).isEqualTo(400);
+		assertThat(resultado.get(7).getId()).isNull();
+		assertThat(resultado).filteredOn(item -> item.getCodigo() == 201).hasSize(119)
+				.allSatisfy(item -> assertThat(item.getId()).isNotNull());
+		assertThat(jdbcTemplate.queryForObject("select count(*) from pedido where email_cliente = 'luis@correo.com'",
+				Integer.class)).isEqualTo(120);
+		assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+	}
+
+	@Test
+	void clienteInexistenteSeRechazaSinRevertirElLote() throws Exception {
+		ClienteDTO cliente = new ClienteDTO(2L, "Luis", "Perez", null, "luis@correo.com", "Calle 2");
+		ClienteDTO inexistente = new ClienteDTO(99L, "Nadie", "Nadie", null, "nadie@correo.com", "Calle 99");
+		List<PedidoDTO> pedidos = List.of(new PedidoDTO(null, 600L, cliente, 1, 15.0, null),
+				new PedidoDTO(null, 601L, inexistente, 1, 15.0, null),
+				new PedidoDTO(null, 602L, cliente, 1, 15.0, null));
+
+		List<PedidoBatchItem> resultado = pedidoService.insertBatch(pedidos);
+
+		assertThat(resultado).extracting(PedidoBatchItem::getCodigo).containsExactly(201, 400, 201);
+		assertThat(resultado.get(1).getId()).isNull();
+		assertThat(jdbcTemplate.queryForObject("select count(*) from pedido where codigo_producto between 600 and 602",
+				Integer.class)).isEqualTo(2);
+	}
+
+	@Test
+	void clienteInactivoSeRechazaPorElemento() throws Exception {
+		ClienteDTO cliente = new ClienteDTO(2L, "Luis", "Perez", null, "luis@correo.com", "Calle 2");
+		ClienteDTO inactivo = new ClienteDTO(4L, "Raul", "Sanz", null, "raul@correo.com", "Calle 4");
+		List<PedidoDTO> pedidos = List.of(new PedidoDTO(null, 610L, inactivo, 1, 15.0, null),
+				new PedidoDTO(null, 611L, cliente, 1, 15.0, null));
+
+		List<PedidoBatchItem> resultado = pedidoService.insertBatch(pedidos);
+
+		assertThat(resultado).extracting(PedidoBatchItem::getCodigo).containsExactly(400, 201);
+		assertThat(jdbcTemplate.queryForObject("select count(*) from pedido where id_cliente = 4 and codigo_producto = 610",
+				Integer.class)).isZero();
+	}
+
+}
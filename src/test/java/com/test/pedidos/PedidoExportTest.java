@@ -0,0 +1,56 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.ejercicio.pedidos.PedidosApplication;
+
+/**
+ * Verifica la exportacion NDJSON de pedidos y sus filtros opcionales.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class PedidoExportTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void exportaUnaLineaPorPedidoActivo() throws Exception {
+		String[] lineas = export("/api/v1/pedidos/export");
+
+		assertThat(lineas).hasSize(5);
+		assertThat(lineas[0]).startsWith("{\"id\":1,").contains("\"emailCliente\":\"ana@correo.com\"");
+	}
+
+	@Test
+	void exportaAplicandoFiltros() throws Exception {
+		assertThat(export("/api/v1/pedidos/export?desde=2024-10-03")).hasSize(1);
+		assertThat(export("/api/v1/pedidos/export?hasta=2024-10-02&emailCliente=ana@correo.com")).hasSize(2);
+	}
+
+	private String[] export(String url) throws Exception {
+		MvcResult result = mockMvc.perform(get(url)).andExpect(request().asyncStarted()).andReturn();
+		String body = mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+				.andReturn().getResponse().getContentAsString();
+		return body.lines().toArray(String[]::new);
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.hasKey;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.ejercicio.pedidos.PedidosApplication;
+
+/**
+ * Verifica el formato compacto de las listas de pedidos: cada pedido lleva solo el id del cliente
+ * y cada cliente aparece una vez en {@code clientes}.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class PedidoFormatoCompactoTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void clientesRepetidosSeEnvianUnaSolaVez() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/fecha_creacion").param("fechaCreacion", "2024-10-02")
+				.param("formato", "compacto"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.codigo").value(200))
+				.andExpect(jsonPath("$.pedidos.length()").value(4))
+				.andExpect(jsonPath("$.pedidos[0].idCliente").value(1))
+				.andExpect(jsonPath("$.pedidos[1].idCliente").value(1))
+				.andExpect(jsonPath("$.pedidos[2].idCliente").value(2))
+				.andExpect(jsonPath("$.clientes", aMapWithSize(3)))
+				.andExpect(jsonPath("$.clientes.1.nombreCliente").value("Ana"))
+				.andExpect(jsonPath("$.clientes.4.emailCliente").value("raul@correo.com"));
+	}
+
+	@Test
+	void compactoEsMasPequenoQueElFormatoNormal() throws Exception {
+		String normal = contenido(get("/api/v1/pedidos/email").param("emailCliente", "ana@correo.com"));
+		String compacto = contenido(get("/api/v1/pedidos/email").param("emailCliente", "ana@correo.com")
+				.param("formato", "compacto"));
+
+		assertThat(compacto.length()).isLessThan(normal.length());
+		assertThat(normal).contains("\"idCliente\":{");
+	}
+
+	@Test
+	void listaPaginadaConservaElCursor() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos").param("limit", "2").param("formato", "compacto"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pedidos.length()").value(2))
+				.andExpect(jsonPath("$.clientes", aMapWithSize(1)))
+				.andExpect(jsonPath("$.cursorSiguiente").isNotEmpty());
+		mockMvc.perform(get("/api/v1/pedidos/id_cliente").param("idCliente", "3").param("formato", "compacto"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pedidos[0].id").value(4))
+				.andExpect(jsonPath("$.clientes", hasKey("3")));
+	}
+
+	private String contenido(RequestBuilder peticion) throws Exception {
+		return mockMvc.perform(peticion).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.ejercicio.pedidos.exceptions.ServiceUnavailableException;
+import com.ejercicio.pedidos.exceptions.TooManyRequestsException;
+import com.ejercicio.pedidos.ingesta.PedidoIngesta;
+import com.ejercicio.pedidos.model.EstadoIngesta;
+import com.ejercicio.pedidos.model.PedidoBatchItem;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.service.IPedidoService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Verifica la contrapresion y el apagado de {@link PedidoIngesta} sin base de datos: con el
+ * escritor ocupado la cola se llena y se rechaza con 429, y al detenerse se guardan todos los
+ * pedidos ya aceptados antes de terminar; despues se rechaza con 503.
+ */
+class PedidoIngestaColaTest {
+
+	@Test
+	void colaLlenaRechazaYAlDetenerseGuardaLosPendientes() throws Exception {
+		CountDownLatch liberar = new CountDownLatch(1);
+		AtomicLong ids = new AtomicLong();
+		AtomicInteger guardados = new AtomicInteger();
+		IPedidoService pedidoService = mock(IPedidoService.class);
+		when(pedidoService.insertBatch(anyList())).thenAnswer(invocacion -> {
+			liberar.await();
+			List<PedidoDTO> lote = invocacion.getArgument(0);
+			List<PedidoBatchItem> items = new ArrayList<>();
+			lote.forEach(pedido -> items.add(new PedidoBatchItem(ids.incrementAndGet(), 201)));
+			guardados.addAndGet(lote.size());
+			return items;
+		});
+		PedidoIngesta ingesta = new PedidoIngesta(pedidoService, new SimpleMeterRegistry(), 2, 10);
+		ingesta.start();
+
+		String primero = ingesta.aceptar(new PedidoDTO()).getTicket();
+		while (ingesta.pendientes() > 0) {
+			Thread.sleep(5);
+		}
+		String segundo = ingesta.aceptar(new PedidoDTO()).getTicket();
+		String tercero = ingesta.aceptar(new PedidoDTO()).getTicket();
+		assertThatThrownBy(() -> ingesta.aceptar(new PedidoDTO())).isInstanceOf(TooManyRequestsException.class);
+
+		CompletableFuture<Void> detener = CompletableFuture.runAsync(ingesta::stop);
+		Thread.sleep(50);
+		assertThat(detener).isNotDone();
+		liberar.countDown();
+		detener.get(5, TimeUnit.SECONDS);
+
+		assertThat(guardados).hasValue(3);
+		for (String ticket : List.of(primero, segundo, tercero)) {
+			assertThat(ingesta.consultar(ticket).getEstado()).isEqualTo(EstadoIngesta.CREADO);
+		}
+		assertThat(ingesta.isRunning()).isFalse();
+		assertThatThrownBy(() -> ingesta.aceptar(new PedidoDTO())).isInstanceOf(ServiceUnavailableException.class);
+	}
+
+}
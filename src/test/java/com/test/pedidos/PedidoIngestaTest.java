@@ -0,0 +1,149 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.ingesta.PedidoIngesta;
+import com.ejercicio.pedidos.model.EstadoIngesta;
+import com.ejercicio.pedidos.model.PedidoIngestaResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Verifica la ingesta asincrona de pedidos: 202 con ticket solo cuando la cabecera {@code Prefer}
+ * incluye {@code respond-async}, consulta del ticket hasta que el pedido se confirma, 503 con
+ * {@code Retry-After} mientras se detiene y rechazo individual de los pedidos invalidos o con un
+ * cliente inexistente.
+ */
+@SpringBootTest(classes = PedidosApplication.class, properties = "pedidos.ingesta.habilitada=true")
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class PedidoIngestaTest {
+
+	private static final String PREFER = "Prefer";
+	private static final String ASYNC = "respond-async";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private PedidoIngesta pedidoIngesta;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void pedidoAsincronoRespondeTicketYSeConfirmaEnSegundoPlano() throws Exception {
+		String body = mockMvc.perform(post("/api/v1/pedidos").header(PREFER, ASYNC)
+				.contentType(MediaType.APPLICATION_JSON).content(pedido(200, 2, "luis@correo.com")))
+				.andExpect(status().isAccepted())
+				.andExpect(header().string("Preference-Applied", ASYNC))
+				.andExpect(jsonPath("$.estado").value("PENDIENTE"))
+				.andReturn().getResponse().getContentAsString();
+		String ticket = objectMapper.readTree(body).get("ticket").asText();
+
+		PedidoIngestaResponse respuesta = esperar(ticket);
+
+		assertThat(respuesta.getEstado()).isEqualTo(EstadoIngesta.CREADO);
+		assertThat(jdbcTemplate.queryForObject("select codigo_producto from pedido where id = ?", Long.class,
+				respuesta.getId())).isEqualTo(200L);
+		mockMvc.perform(get("/api/v1/pedidos/ingesta/" + ticket))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(respuesta.getId()));
+	}
+
+	@Test
+	void sinPreferenciaElAltaSigueSiendoSincrona() throws Exception {
+		mockMvc.perform(post("/api/v1/pedidos").contentType(MediaType.APPLICATION_JSON)
+				.content(pedido(201, 1, "ana@correo.com")))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.id").isNumber());
+	}
+
+	@Test
+	void laPreferenciaSeReconoceEntreOtrasPreferencias() throws Exception {
+		mockMvc.perform(post("/api/v1/pedidos").header(PREFER, "wait=10, Respond-Async")
+				.contentType(MediaType.APPLICATION_JSON).content(pedido(202, 2, "luis@correo.com")))
+				.andExpect(status().isAccepted())
+				.andExpect(header().string("Preference-Applied", ASYNC));
+		mockMvc.perform(post("/api/v1/pedidos").header(PREFER, "return=minimal")
+				.contentType(MediaType.APPLICATION_JSON).content(pedido(203, 1, "ana@correo.com")))
+				.andExpect(status().isCreated());
+	}
+
+	@Test
+	void alDetenerseRespondeNoDisponibleConReintento() throws Exception {
+		pedidoIngesta.stop();
+		try {
+			mockMvc.perform(post("/api/v1/pedidos").header(PREFER, ASYNC)
+					.contentType(MediaType.APPLICATION_JSON).content(pedido(204, 2, "luis@correo.com")))
+					.andExpect(status().isServiceUnavailable())
+					.andExpect(header().string("Retry-After", "5"));
+		} finally {
+			pedidoIngesta.start();
+		}
+	}
+
+	@Test
+	void pedidosInvalidosOConClienteInexistenteSeRechazanUnoPorUno() throws Exception {
+		PedidoIngestaResponse valido = aceptar(pedido(202, 3, "eva@correo.com"));
+		PedidoIngestaResponse sinCliente = aceptar(pedido(203, 99, "nadie@correo.com"));
+		PedidoIngestaResponse invalido = aceptar("{\"cantidad\":1,\"precio\":5.0,"
+				+ "\"idCliente\":{\"id\":1,\"emailCliente\":\"ana@correo.com\"}}");
+
+		assertThat(esperar(valido.getTicket()).getEstado()).isEqualTo(EstadoIngesta.CREADO);
+		assertThat(esperar(sinCliente.getTicket()))
+				.extracting(PedidoIngestaResponse::getEstado, PedidoIngestaResponse::getCodigo)
+				.containsExactly(EstadoIngesta.RECHAZADO, 400);
+		assertThat(esperar(invalido.getTicket()))
+				.extracting(PedidoIngestaResponse::getEstado, PedidoIngestaResponse::getCodigo)
+				.containsExactly(EstadoIngesta.RECHAZADO, 400);
+	}
+
+	@Test
+	void ticketDesconocidoResponde404() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/ingesta/no-existe")).andExpect(status().isNotFound());
+	}
+
+	private PedidoIngestaResponse aceptar(String json) throws Exception {
+		String body = mockMvc.perform(post("/api/v1/pedidos").header(PREFER, ASYNC)
+				.contentType(MediaType.APPLICATION_JSON).content(json))
+				.andExpect(status().isAccepted())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readValue(body, PedidoIngestaResponse.class);
+	}
+
+	private PedidoIngestaResponse esperar(String ticket) throws NotFoundException, InterruptedException {
+		long limite = System.currentTimeMillis() + 10_000;
+		PedidoIngestaResponse respuesta = pedidoIngesta.consultar(ticket);
+		while (respuesta.getEstado() == EstadoIngesta.PENDIENTE && System.currentTimeMillis() < limite) {
+			Thread.sleep(20);
+			respuesta = pedidoIngesta.consultar(ticket);
+		}
+		return respuesta;
+	}
+
+	private static String pedido(long codigo, long idCliente, String email) {
+		return "{\"codidoProducto\":" + codigo + ",\"cantidad\":1,\"precio\":5.0,"
+				+ "\"idCliente\":{\"id\":" + idCliente + ",\"emailCliente\":\"" + email + "\"}}";
+	}
+
+}
@@ -0,0 +1,216 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.cache.PedidoModeloLectura;
+import com.ejercicio.pedidos.cache.PedidoModeloLectura.ClienteModificadoEvent;
+import com.ejercicio.pedidos.cache.PedidoModeloLectura.VerificacionModelo;
+import com.ejercicio.pedidos.exceptions.NotFoundException;
+import com.ejercicio.pedidos.model.ClienteDTO;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.repository.PedidoRepository;
+import com.ejercicio.pedidos.service.impl.ClienteService;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifica el modelo de lectura en memoria: busquedas por cliente, email y fecha sin SQL,
+ * sincronizacion con las escrituras de los servicios (una lectura inmediatamente posterior a una
+ * escritura ya la ve), arranque sin base de datos y verificacion contra la tabla en
+ * {@code /actuator/modelolectura}.
+ */
+@SpringBootTest(classes = PedidosApplication.class, properties = { "pedidos.modelo-lectura.habilitado=true",
+		"management.endpoints.web.exposure.include=modelolectura" })
+@AutoConfigureMockMvc
+@RecordApplicationEvents
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class PedidoModeloLecturaTest {
+
+	private static final LocalDate FECHA = LocalDate.of(2024, 10, 2);
+
+	@Autowired
+	private PedidoModeloLectura modeloLectura;
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private ClienteService clienteService;
+
+	@Autowired
+	private PedidoRepository pedidoRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		// Los datos de prueba se insertan despues del arranque
+		modeloLectura.recargar();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void busquedasSeResuelvenEnMemoriaConLosMismosResultados() throws Exception {
+		List<PedidoDTO> porEmail = pedidoRepository.findDtoByEmailCliente("ana@correo.com");
+		List<PedidoDTO> porCliente = pedidoRepository.findDtoByIdClienteId(3L);
+		List<PedidoDTO> porFecha = pedidoRepository.findDtoByFechaCreacion(FECHA);
+		statistics.clear();
+
+		assertThat(pedidoService.readByemailCliente("Ana@Correo.com").getPedidos()).isEqualTo(porEmail);
+		assertThat(pedidoService.readByIdCliente(3L).getPedidos()).isEqualTo(porCliente);
+		assertThat(pedidoService.readByFechaCreacion(FECHA).getPedidos()).isEqualTo(porFecha);
+		assertThatThrownBy(() -> pedidoService.readByIdCliente(99L)).isInstanceOf(NotFoundException.class);
+
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(porFecha).extracting(PedidoDTO::getId).containsExactly(1L, 2L, 3L, 6L);
+	}
+
+	@Test
+	void insertarYModificarActualizanLosIndices() throws Exception {
+		ClienteDTO luis = new ClienteDTO(2L, null, null, null, "luis@correo.com", null);
+		Long id = pedidoService.insert(new PedidoDTO(null, 200L, luis, 4, 8.0, null)).getId();
+		ClienteDTO eva = new ClienteDTO(3L, null, null, null, "eva@correo.com", null);
+		pedidoService.patch(3L, new PedidoDTO(null, null, eva, null, null, null));
+		assertThat(modeloLectura.listoParaLeer()).isTrue();
+		statistics.clear();
+
+		assertThat(ids(pedidoService.readByIdCliente(2L).getPedidos())).containsExactly(id);
+		assertThat(ids(pedidoService.readByemailCliente("luis@correo.com").getPedidos())).containsExactly(id);
+		assertThat(ids(pedidoService.readByemailCliente("eva@correo.com").getPedidos())).containsExactly(3L, 4L);
+		assertThat(ids(pedidoService.readByFechaCreacion(FECHA).getPedidos())).containsExactly(1L, 2L, 3L, 6L);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(modeloLectura.verificar().isConsistente()).isTrue();
+	}
+
+	@Test
+	void borradosEliminanLosPedidosDelModelo() throws Exception {
+		pedidoService.deleteById(1L);
+		pedidoService.deleteByIds(List.of(2L, 4L, 99L));
+
+		assertThatThrownBy(() -> pedidoService.readByemailCliente("ana@correo.com"))
+				.isInstanceOf(NotFoundException.class);
+		assertThat(ids(pedidoService.readByFechaCreacion(FECHA).getPedidos())).containsExactly(3L, 6L);
+		assertThat(modeloLectura.size()).isEqualTo(2);
+		assertThat(modeloLectura.verificar().isConsistente()).isTrue();
+	}
+
+	@Test
+	void actualizarUnClienteRefrescaSusPedidos() throws Exception {
+		clienteService.patch(1L, new ClienteDTO(null, "Ana Maria", null, null, null, null));
+
+		assertThat(pedidoService.readByIdCliente(1L).getPedidos())
+				.extracting(pedido -> pedido.getIdCliente().getNombreCliente())
+				.containsExactly("Ana Maria", "Ana Maria");
+		assertThat(modeloLectura.verificar().isConsistente()).isTrue();
+	}
+
+	@Test
+	void borrarUnClienteRefrescaSusPedidos() throws Exception {
+		clienteService.deleteById(2L);
+
+		assertThat(applicationEvents.stream(ClienteModificadoEvent.class)).extracting(ClienteModificadoEvent::idCliente)
+				.containsExactly(2L);
+		assertThat(pedidoService.readByIdCliente(2L).getPedidos()).isEqualTo(pedidoRepository.findDtoByIdClienteId(2L));
+		assertThat(modeloLectura.verificar().isConsistente()).isTrue();
+	}
+
+	@Test
+	void verificacionDetectaCambiosFueraDelServicio() throws Exception {
+		jdbcTemplate.update("update pedido set cantidad = 9 where id = 1");
+		jdbcTemplate.update("update pedido set is_active = false where id = 2");
+
+		VerificacionModelo verificacion = modeloLectura.verificar();
+
+		assertThat(verificacion.isConsistente()).isFalse();
+		assertThat(verificacion.idsDistintos()).containsExactly(1L);
+		assertThat(verificacion.idsSobrantes()).containsExactly(2L);
+		assertThat(verificacion.faltantes()).isZero();
+
+		assertThat(modeloLectura.recargar()).isEqualTo(4);
+		mockMvc.perform(get("/actuator/modelolectura"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.consistente").value(true))
+				.andExpect(jsonPath("$.enTabla").value(4));
+	}
+
+	@Test
+	void laRecargaNoSeExponePorHttp() throws Exception {
+		mockMvc.perform(post("/actuator/modelolectura")).andExpect(status().isMethodNotAllowed());
+	}
+
+	@Test
+	void escriturasEncoladasDuranteLaRecargaSeAplicanDespues() throws Exception {
+		ClienteDTO luis = new ClienteDTO(2L, null, null, null, "luis@correo.com", null);
+		Thread recarga = new Thread(modeloLectura::recargar);
+		recarga.start();
+		Long id = pedidoService.insert(new PedidoDTO(null, 201L, luis, 1, 8.0, null)).getId();
+		recarga.join();
+
+		assertThat(ids(pedidoService.readByIdCliente(2L).getPedidos())).containsExactly(3L, id);
+		assertThat(modeloLectura.verificar().isConsistente()).isTrue();
+	}
+
+	@Test
+	void sinBaseDeDatosAlArrancarLasConsultasVanALaBaseDeDatos() throws Exception {
+		PedidoRepository sinConexion = mock(PedidoRepository.class);
+		when(sinConexion.findDtoPage(anyLong(), any())).thenThrow(new CannotCreateTransactionException("sin conexion"));
+		PedidoModeloLectura modelo = new PedidoModeloLectura(sinConexion, mock(PlatformTransactionManager.class));
+
+		try {
+			modelo.afterSingletonsInstantiated();
+
+			assertThat(modelo.isListo()).isFalse();
+			assertThat(modelo.listoParaLeer()).isFalse();
+		} finally {
+			modelo.destroy();
+		}
+	}
+
+	private static List<Long> ids(List<PedidoDTO> pedidos) {
+		return pedidos.stream().map(PedidoDTO::getId).toList();
+	}
+
+}
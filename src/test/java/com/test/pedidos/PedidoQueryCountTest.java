@@ -0,0 +1,106 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.model.PedidoResponse;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifica que los listados de pedidos se resuelvan con una sola sentencia SQL,
+ * sin una consulta adicional por cada Cliente al mapear a DTO.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class PedidoQueryCountTest {
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void readAllEjecutaUnaSentencia() throws Exception {
+		PedidoResponse response = pedidoService.readAll(null, null);
+
+		assertThat(response.getPedidos()).hasSize(5);
+		assertThat(response.getPedidos()).allSatisfy(p -> assertThat(p.getIdCliente()).isNotNull());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void readAllPaginadoEjecutaUnaSentenciaPorPagina() throws Exception {
+		PedidoResponse primera = pedidoService.readAll(2, null);
+		PedidoResponse segunda = pedidoService.readAll(2, primera.getCursorSiguiente());
+
+		assertThat(primera.getPedidos()).extracting("id").containsExactly(1L, 2L);
+		assertThat(segunda.getPedidos()).extracting("id").containsExactly(3L, 4L);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void readByemailClienteEjecutaUnaSentencia() throws Exception {
+		PedidoResponse response = pedidoService.readByemailCliente("ana@correo.com");
+
+		assertThat(response.getPedidos()).hasSize(2);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void readByFechaCreacionEjecutaUnaSentencia() throws Exception {
+		PedidoResponse response = pedidoService.readByFechaCreacion(LocalDate.of(2024, 10, 2));
+
+		assertThat(response.getPedidos()).hasSize(4);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void readByIdClienteEjecutaUnaSentencia() throws Exception {
+		PedidoResponse response = pedidoService.readByIdCliente(1L);
+
+		assertThat(response.getPedidos()).hasSize(2);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void endpointIdClienteNoCargaElClienteAntes() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/id_cliente").param("idCliente", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pedidos.length()").value(2));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+}
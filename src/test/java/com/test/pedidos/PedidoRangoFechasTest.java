@@ -0,0 +1,118 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.jayway.jsonpath.JsonPath;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifica las consultas de pedidos por rango de fechas y el resumen diario agregado en la
+ * base de datos.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class PedidoRangoFechasTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void fechaCreacionExactaSigueFuncionando() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/fecha_creacion").param("fechaCreacion", "2024-10-03"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pedidos.length()").value(1));
+	}
+
+	@Test
+	void rangoPaginadoRecorreTodosLosPedidos() throws Exception {
+		String primera = mockMvc.perform(get("/api/v1/pedidos/fecha_creacion")
+				.param("desde", "2024-10-01").param("hasta", "2024-10-07").param("limit", "3"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pedidos[*].id").value(contains(1, 2, 3)))
+				.andReturn().getResponse().getContentAsString();
+		String cursor = JsonPath.read(primera, "$.cursorSiguiente");
+
+		mockMvc.perform(get("/api/v1/pedidos/fecha_creacion")
+				.param("desde", "2024-10-01").param("hasta", "2024-10-07").param("limit", "3").param("after", cursor))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pedidos[*].id").value(contains(4, 6)))
+				.andExpect(jsonPath("$.cursorSiguiente").doesNotExist());
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void rangoInvalidoDevuelve400() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/fecha_creacion").param("desde", "2024-10-07"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/v1/pedidos/fecha_creacion").param("desde", "2024-10-07").param("hasta", "2024-10-01"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/v1/pedidos/resumen").param("desde", "2023-01-01").param("hasta", "2024-10-01"))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void resumenPorDiaSeCalculaEnUnaSentencia() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/resumen").param("desde", "2024-10-01").param("hasta", "2024-10-07"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.resumen.length()").value(2))
+				.andExpect(jsonPath("$.resumen[0].fecha").value("2024-10-02"))
+				.andExpect(jsonPath("$.resumen[0].pedidos").value(4))
+				.andExpect(jsonPath("$.resumen[0].unidades").value(7))
+				.andExpect(jsonPath("$.resumen[0].ingresos").value(77.5))
+				.andExpect(jsonPath("$.resumen[1].fecha").value("2024-10-03"))
+				.andExpect(jsonPath("$.resumen[1].pedidos").value(1))
+				.andExpect(jsonPath("$.resumen[1].ingresos").value(99.9));
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+	}
+
+	@Test
+	void resumenPorDiaYProducto() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/resumen").param("desde", "2024-10-02").param("hasta", "2024-10-02")
+				.param("porProducto", "true"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.resumen.length()").value(3))
+				.andExpect(jsonPath("$.resumen[0].codidoProducto").value(100))
+				.andExpect(jsonPath("$.resumen[0].pedidos").value(2))
+				.andExpect(jsonPath("$.resumen[0].unidades").value(5))
+				.andExpect(jsonPath("$.resumen[0].ingresos").value(52.5));
+	}
+
+	@Test
+	void resumenSinPedidosDevuelve404() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/resumen").param("desde", "2025-01-01").param("hasta", "2025-01-31"))
+				.andExpect(status().isNotFound());
+	}
+
+}
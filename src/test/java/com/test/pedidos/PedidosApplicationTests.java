@@ -3,7 +3,9 @@ package com.test.pedidos;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+import com.ejercicio.pedidos.PedidosApplication;
+
+@SpringBootTest(classes = PedidosApplication.class)
 class PedidosApplicationTests {
 
 	@Test
@@ -0,0 +1,138 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.entity.Pedido;
+import com.ejercicio.pedidos.mapper.impl.PedidoInToPedidoDTO;
+import com.ejercicio.pedidos.model.PedidoDTO;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compara, sobre H2, la ruta de lectura anterior (entidades administradas en una transaccion de
+ * escritura + mapper campo a campo) con la ruta actual (proyeccion a DTO en transaccion de solo
+ * lectura) para {@code readAll} y {@code readByemailCliente}. Reporta bytes asignados y latencia
+ * media por operacion en el log. Tarda varios segundos, por lo que queda fuera de la compilacion
+ * por defecto y se ejecuta con {@code mvn -P comparacion test}; {@link ProyeccionDtoTest} cubre
+ * la ruta de proyeccion en cada compilacion.
+ */
+@Slf4j
+@Tag("comparacion")
+@SpringBootTest(classes = PedidosApplication.class)
+class ProyeccionDtoComparacionTest {
+
+	private static final int CLIENTES = 50;
+	private static final int PEDIDOS = 5_000;
+	private static final int PAGINA = 500;
+	private static final String EMAIL = "cliente0@correo.com";
+	private static final int CALENTAMIENTO = 50;
+	private static final int ITERACIONES = 200;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PedidoInToPedidoDTO mapperRead;
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@BeforeEach
+	void cargarDatos() {
+		List<Object[]> clientes = new ArrayList<>();
+		for (long i = 0; i < CLIENTES; i++) {
+			clientes.add(new Object[] { i + 1, "Nombre" + i, "Paterno" + i, "Materno" + i, "cliente" + i + "@correo.com",
+					"Calle " + i });
+		}
+		jdbcTemplate.batchUpdate("insert into cliente (id, nombre, apellido_paterno, apellido_materno, email, "
+				+ "direccion_envio, fecha_creacion, fecha_modificacion, is_active) "
+				+ "values (?, ?, ?, ?, ?, ?, current_date, current_date, true)", clientes);
+		List<Object[]> pedidos = new ArrayList<>();
+		for (long i = 0; i < PEDIDOS; i++) {
+			long cliente = i % CLIENTES;
+			pedidos.add(new Object[] { i + 1, 100 + i % 20, "cliente" + cliente + "@correo.com", cliente + 1,
+					1 + (int) (i % 5), 9.99 });
+		}
+		jdbcTemplate.batchUpdate("insert into pedido (id, codigo_producto, email_cliente, id_cliente, cantidad, "
+				+ "precio, fecha_creacion, fecha_modificacion, is_active) "
+				+ "values (?, ?, ?, ?, ?, ?, current_date, current_date, true)", pedidos);
+	}
+
+	@AfterEach
+	void limpiarDatos() {
+		jdbcTemplate.update("delete from pedido");
+		jdbcTemplate.update("delete from cliente");
+	}
+
+	@Test
+	void readAllProyectadoAsignaMenosQueEntidades() throws Exception {
+		Medicion antes = medir(() -> transactionTemplate.execute(status -> entityManager
+				.createQuery("select p from Pedido p left join fetch p.idCliente where p.id > 0 order by p.id",
+						Pedido.class)
+				.setMaxResults(PAGINA + 1).getResultList().stream().map(mapperRead::map).toList()));
+		Medicion despues = medir(() -> pedidoService.readAll(PAGINA, null).getPedidos());
+
+		reportar("readAll", antes, despues);
+		assertThat(despues.bytesPorOperacion()).isLessThan(antes.bytesPorOperacion());
+	}
+
+	@Test
+	void readByemailClienteProyectadoAsignaMenosQueEntidades() throws Exception {
+		Medicion antes = medir(() -> transactionTemplate.execute(status -> entityManager
+				.createQuery("select p from Pedido p left join fetch p.idCliente where p.emailCliente = :email",
+						Pedido.class)
+				.setParameter("email", EMAIL).getResultList().stream().map(mapperRead::map).toList()));
+		Medicion despues = medir(() -> pedidoService.readByemailCliente(EMAIL).getPedidos());
+
+		reportar("readByemailCliente", antes, despues);
+		assertThat(despues.bytesPorOperacion()).isLessThan(antes.bytesPorOperacion());
+	}
+
+	private Medicion medir(Callable<List<PedidoDTO>> operacion) throws Exception {
+		for (int i = 0; i < CALENTAMIENTO; i++) {
+			operacion.call();
+		}
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long bytesInicio = threads.getCurrentThreadAllocatedBytes();
+		long inicio = System.nanoTime();
+		for (int i = 0; i < ITERACIONES; i++) {
+			operacion.call();
+		}
+		long nanos = System.nanoTime() - inicio;
+		long bytes = threads.getCurrentThreadAllocatedBytes() - bytesInicio;
+		return new Medicion(bytes / ITERACIONES, nanos / ITERACIONES / 1_000);
+	}
+
+	private void reportar(String metodo, Medicion antes, Medicion despues) {
+		log.info("{}: entidades {} B/op {} us/op | proyeccion {} B/op {} us/op", metodo, antes.bytesPorOperacion(),
+				antes.microsPorOperacion(), despues.bytesPorOperacion(), despues.microsPorOperacion());
+	}
+
+	private record Medicion(long bytesPorOperacion, long microsPorOperacion) {
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.model.PedidoResponse;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Verifica que las lecturas de pedidos se resuelvan con una proyeccion a DTO: una sola sentencia,
+ * sin entidades administradas y en una transaccion de solo lectura.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ProyeccionDtoTest {
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void readAllProyectaSinEntidadesEnSoloLectura() throws Exception {
+		PedidoResponse response = pedidoService.readAll(null, null);
+
+		assertThat(response.getPedidos()).hasSize(5);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(transaccion("readAll", Integer.class, String.class).isReadOnly()).isTrue();
+	}
+
+	@Test
+	void readByIdProyectaSinEntidadesEnSoloLectura() throws Exception {
+		PedidoResponse response = pedidoService.readById(1L);
+
+		assertThat(response.getPedidos()).singleElement().satisfies(p -> assertThat(p.getIdCliente()).isNotNull());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+		assertThat(statistics.getEntityLoadCount()).isZero();
+		assertThat(transaccion("readById", Long.class).isReadOnly()).isTrue();
+	}
+
+	private TransactionAttribute transaccion(String metodo, Class<?>... parametros) throws Exception {
+		Method method = PedidoService.class.getMethod(metodo, parametros);
+		return new AnnotationTransactionAttributeSource().getTransactionAttribute(method, PedidoService.class);
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.ejercicio.pedidos.utils.ReplicaConstantes;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Verifica el enrutamiento a la replica de lectura con dos bases H2: las lecturas van a la
+ * replica (donde el pedido 1 tiene otra cantidad), las escrituras a la primaria y, tras escribir,
+ * las peticiones que devuelven la marca firmada de la respuesta (cabecera o cookie) leen de la
+ * primaria; las marcas alteradas o vencidas se ignoran.
+ */
+@SpringBootTest(classes = PedidosApplication.class, properties = {
+		"pedidos.replica.habilitada=true",
+		"pedidos.replica.lectura-propia=PT5S",
+		"pedidos.replica.lectura-propia-clave=clave-de-prueba",
+		"pedidos.replica.datasource.jdbc-url=jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"pedidos.replica.datasource.username=sa",
+		"pedidos.replica.datasource.password=",
+		"pedidos.replica.datasource.driver-class-name=org.h2.Driver" })
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ReplicaLecturaTest {
+
+	private static final int CANTIDAD_REPLICA = 99;
+	private static final String CLAVE = "clave-de-prueba";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	@Qualifier("replicaDataSource")
+	private DataSource replica;
+
+	@BeforeEach
+	void setUp() {
+		// La replica recibe el esquema y los datos de la primaria, salvo por una cantidad distinta
+		Flyway.configure().dataSource(replica).load().migrate();
+		new ResourceDatabasePopulator(new ClassPathResource("limpiar-datos.sql"),
+				new ClassPathResource("datos-pedidos.sql")).execute(replica);
+		new JdbcTemplate(replica).update("update pedido set cantidad = ? where id = 1", CANTIDAD_REPLICA);
+	}
+
+	@AfterEach
+	void tearDown() {
+		new ResourceDatabasePopulator(new ClassPathResource("limpiar-datos.sql")).execute(replica);
+	}
+
+	@Test
+	void lecturasVanALaReplica() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/1"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(ReplicaConstantes.CABECERA_LECTURA_PRIMARIA))
+				.andExpect(jsonPath("$.pedidos[0].cantidad").value(CANTIDAD_REPLICA));
+	}
+
+	@Test
+	void escrituraVaALaPrimariaYLaMarcaFijaLasLecturasEnLaPrimaria() throws Exception {
+		MockHttpServletResponse response = mockMvc.perform(patch("/api/v1/pedidos/2")
+				.contentType(MediaType.APPLICATION_JSON).content("{\"cantidad\":7}"))
+				.andExpect(status().isOk())
+				.andExpect(cookie().httpOnly(ReplicaConstantes.COOKIE_LECTURA_PRIMARIA, true))
+				.andReturn().getResponse();
+		String marca = response.getHeader(ReplicaConstantes.CABECERA_LECTURA_PRIMARIA);
+
+		assertThat(marca).isEqualTo(response.getCookie(ReplicaConstantes.COOKIE_LECTURA_PRIMARIA).getValue());
+		assertThat(jdbcTemplate.queryForObject("select cantidad from pedido where id = 2", Integer.class)).isEqualTo(7);
+		assertThat(new JdbcTemplate(replica).queryForObject("select cantidad from pedido where id = 2", Integer.class))
+				.isEqualTo(1);
+		mockMvc.perform(get("/api/v1/pedidos/2").header(ReplicaConstantes.CABECERA_LECTURA_PRIMARIA, marca))
+				.andExpect(jsonPath("$.pedidos[0].cantidad").value(7));
+		mockMvc.perform(get("/api/v1/pedidos/1").cookie(new Cookie(ReplicaConstantes.COOKIE_LECTURA_PRIMARIA, marca)))
+				.andExpect(jsonPath("$.pedidos[0].cantidad").value(2));
+		mockMvc.perform(get("/api/v1/pedidos/1"))
+				.andExpect(jsonPath("$.pedidos[0].cantidad").value(CANTIDAD_REPLICA));
+	}
+
+	@Test
+	void marcasAlteradasOVencidasSeIgnoran() throws Exception {
+		String marca = mockMvc.perform(patch("/api/v1/pedidos/2")
+				.contentType(MediaType.APPLICATION_JSON).content("{\"cantidad\":7}"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(ReplicaConstantes.CABECERA_LECTURA_PRIMARIA);
+		String firma = marca.substring(marca.indexOf('.'));
+		long expiracion = Long.parseLong(marca.substring(0, marca.indexOf('.')));
+
+		for (String invalida : List.of((expiracion + 60_000) + firma, marca + "x", "no-es-una-marca",
+				firmada(System.currentTimeMillis() - 1))) {
+			mockMvc.perform(get("/api/v1/pedidos/1").header(ReplicaConstantes.CABECERA_LECTURA_PRIMARIA, invalida))
+					.andExpect(jsonPath("$.pedidos[0].cantidad").value(CANTIDAD_REPLICA));
+		}
+		mockMvc.perform(get("/api/v1/pedidos/1")
+				.header(ReplicaConstantes.CABECERA_LECTURA_PRIMARIA, firmada(System.currentTimeMillis() + 60_000)))
+				.andExpect(jsonPath("$.pedidos[0].cantidad").value(2));
+	}
+
+	@Test
+	void escrituraFallidaNoEmiteMarca() throws Exception {
+		mockMvc.perform(patch("/api/v1/usuarios/1")
+				.contentType(MediaType.APPLICATION_JSON).content("{\"emailCliente\":\"no-es-un-email\"}"))
+				.andExpect(status().isBadRequest())
+				.andExpect(header().doesNotExist(ReplicaConstantes.CABECERA_LECTURA_PRIMARIA))
+				.andExpect(cookie().doesNotExist(ReplicaConstantes.COOKIE_LECTURA_PRIMARIA));
+	}
+
+	private static String firmada(long expiracion) throws Exception {
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(new SecretKeySpec(CLAVE.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+		return expiracion + "." + Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(mac.doFinal(String.valueOf(expiracion).getBytes(StandardCharsets.US_ASCII)));
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ejercicio.pedidos.PedidosApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Verifica las consultas con {@code fields}: la respuesta y el SELECT incluyen solo los campos
+ * solicitados y la tabla cliente se une solo cuando se pide algun campo del cliente.
+ */
+@SpringBootTest(classes = PedidosApplication.class)
+@AutoConfigureMockMvc
+@Sql(scripts = "/datos-pedidos.sql")
+@Sql(scripts = "/limpiar-datos.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class SeleccionCamposTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	void setUp() {
+		SqlCapturador.limpiar();
+	}
+
+	@Test
+	void soloCamposDelPedidoNoUnenLaTablaCliente() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/id_cliente").param("idCliente", "1")
+				.param("fields", "codidoProducto,cantidad,precio"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pedidos.length()").value(2))
+				.andExpect(jsonPath("$.pedidos[0]", aMapWithSize(4)))
+				.andExpect(jsonPath("$.pedidos[0].id").value(1))
+				.andExpect(jsonPath("$.pedidos[0].codidoProducto").value(100))
+				.andExpect(jsonPath("$.pedidos[0].precio").value(10.5))
+				.andExpect(jsonPath("$.pedidos[0].idCliente").doesNotExist());
+
+		assertThat(SqlCapturador.ultima()).doesNotContain("join", "fecha_creacion", "email_cliente")
+				.contains("codigo_producto", "cantidad", "precio");
+	}
+
+	@Test
+	void idDelClienteSeLeeDeLaLlaveForanea() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/fecha_creacion").param("fechaCreacion", "2024-10-02")
+				.param("fields", "cantidad,idCliente.id"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pedidos.length()").value(4))
+				.andExpect(jsonPath("$.pedidos[2].idCliente", aMapWithSize(1)))
+				.andExpect(jsonPath("$.pedidos[2].idCliente.id").value(2));
+
+		assertThat(SqlCapturador.ultima()).doesNotContain("join").contains("id_cliente");
+	}
+
+	@Test
+	void camposDelClienteUnenSoloLasColumnasSolicitadas() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/email").param("emailCliente", "ana@correo.com")
+				.param("fields", "precio,idCliente.nombreCliente"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pedidos[0].idCliente", aMapWithSize(2)))
+				.andExpect(jsonPath("$.pedidos[0].idCliente.nombreCliente").value("Ana"));
+
+		assertThat(SqlCapturador.ultima()).contains("left join", "nombre")
+				.doesNotContain("apellido", "direccion_envio");
+	}
+
+	@Test
+	void paginacionConCamposConservaElCursor() throws Exception {
+		String body = mockMvc.perform(get("/api/v1/pedidos").param("limit", "3").param("fields", "cantidad"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pedidos.length()").value(3))
+				.andExpect(jsonPath("$.cursorSiguiente").isNotEmpty())
+				.andReturn().getResponse().getContentAsString();
+		String cursor = objectMapper.readTree(body).get("cursorSiguiente").asText();
+
+		mockMvc.perform(get("/api/v1/pedidos").param("limit", "3").param("after", cursor).param("fields", "cantidad"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.pedidos[0].id").value(4))
+				.andExpect(jsonPath("$.pedidos.length()").value(2));
+	}
+
+	@Test
+	void clientesConCamposSinEtag() throws Exception {
+		mockMvc.perform(get("/api/v1/clientes/2").param("fields", "emailCliente"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.ETAG))
+				.andExpect(jsonPath("$.clientes[0]", aMapWithSize(2)))
+				.andExpect(jsonPath("$.clientes[0].emailCliente").value("luis@correo.com"));
+		mockMvc.perform(get("/api/v1/usuarios/email").param("email", "Eva@Correo.com").param("fields", "nombreCliente"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.clientes[0].nombreCliente").value("Eva"));
+		mockMvc.perform(get("/api/v1/clientes/4").param("fields", "nombreCliente"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void camposDesconocidosResponden400() throws Exception {
+		mockMvc.perform(get("/api/v1/pedidos/1").param("fields", "cantidad,isActive"))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/v1/clientes").param("fields", " , "))
+				.andExpect(status().isBadRequest());
+	}
+
+}
@@ -0,0 +1,32 @@
+package com.test.pedidos;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * StatementInspector de pruebas que guarda la ultima sentencia SQL generada por Hibernate,
+ * para poder analizar el plan de ejecucion de cada consulta de los repositorios. Solo conserva
+ * la ultima para no acumular memoria cuando el contexto de pruebas se usa en los benchmarks.
+ * Se guarda por hilo, de modo que las tareas programadas de otros contextos de prueba en cache
+ * no reemplacen la sentencia de la prueba en curso.
+ */
+public class SqlCapturador implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final ThreadLocal<String> ULTIMA = new ThreadLocal<>();
+
+	@Override
+	public String inspect(String sql) {
+		ULTIMA.set(sql);
+		return sql;
+	}
+
+	public static void limpiar() {
+		ULTIMA.remove();
+	}
+
+	public static String ultima() {
+		return ULTIMA.get();
+	}
+
+}
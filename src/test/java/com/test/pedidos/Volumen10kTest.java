@@ -0,0 +1,23 @@
+package com.test.pedidos;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.ejercicio.pedidos.PedidosApplication;
+
+/**
+ * Presupuestos de rendimiento con 10 000 pedidos de 1 000 clientes. Carga datos y mide tiempos,
+ * por lo que queda fuera de la compilacion por defecto y se ejecuta con {@code mvn -P volumen test}.
+ */
+@Tag("volumen")
+@SpringBootTest(classes = PedidosApplication.class,
+		properties = "spring.datasource.url=jdbc:h2:mem:volumen_10k;MODE=MySQL;DATABASE_TO_LOWER=TRUE;OPTIMIZE_REUSE_RESULTS=FALSE")
+@DirtiesContext
+class Volumen10kTest extends VolumenPresupuestos {
+
+	Volumen10kTest() {
+		super(1_000, 10_000, new Presupuesto(50, 100, 200));
+	}
+
+}
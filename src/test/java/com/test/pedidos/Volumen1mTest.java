@@ -0,0 +1,23 @@
+package com.test.pedidos;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.ejercicio.pedidos.PedidosApplication;
+
+/**
+ * Presupuestos de rendimiento con 1 000 000 de pedidos de 20 000 clientes. La carga de datos
+ * tarda del orden de un minuto, por lo que solo se ejecuta con {@code mvn -P volumen test}.
+ */
+@Tag("volumen")
+@SpringBootTest(classes = PedidosApplication.class,
+		properties = "spring.datasource.url=jdbc:h2:mem:volumen_1m;MODE=MySQL;DATABASE_TO_LOWER=TRUE;OPTIMIZE_REUSE_RESULTS=FALSE")
+@DirtiesContext
+class Volumen1mTest extends VolumenPresupuestos {
+
+	Volumen1mTest() {
+		super(20_000, 1_000_000, new Presupuesto(50, 250, 2500));
+	}
+
+}
@@ -0,0 +1,167 @@
+package com.test.pedidos;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ejercicio.pedidos.model.PedidoResponse;
+import com.ejercicio.pedidos.service.impl.ClienteService;
+import com.ejercicio.pedidos.service.impl.PedidoService;
+import com.ejercicio.pedidos.utils.CursorUtils;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pruebas de regresion de rendimiento sobre un volumen de datos generado con
+ * {@link GeneradorDatos}. Cada nivel (subclase) fija el volumen y los presupuestos de latencia;
+ * el presupuesto de sentencias SQL es el mismo en todos los niveles.
+ *
+ * <p>Cada metodo se ejecuta {@value #CALENTAMIENTO} veces de calentamiento y
+ * {@value #REPETICIONES} veces medidas; se compara la mediana contra el presupuesto:
+ * <ul>
+ *   <li>{@code pagina}: paginas con cursor y busquedas por llave, que no deben crecer con el volumen</li>
+ *   <li>{@code clientePesado}: todos los pedidos del cliente con mas pedidos</li>
+ *   <li>{@code resumen}: agregacion de un mes completo en la base de datos</li>
+ * </ul>
+ * Cada nivel usa su propia base H2 en modo MySQL, que se descarta al cerrar el contexto.
+ */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class VolumenPresupuestos {
+
+	private static final long SEMILLA = 20241001L;
+	private static final int CALENTAMIENTO = 3;
+	private static final int REPETICIONES = 7;
+
+	/**
+	 * Latencias maximas (mediana, en milisegundos) permitidas en un nivel.
+	 */
+	record Presupuesto(long paginaMs, long clientePesadoMs, long resumenMs) {}
+
+	@FunctionalInterface
+	interface Consulta {
+		Object ejecutar() throws Exception;
+	}
+
+	@Autowired
+	private PedidoService pedidoService;
+
+	@Autowired
+	private ClienteService clienteService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final GeneradorDatos generador;
+	private final Presupuesto presupuesto;
+	private Statistics statistics;
+
+	protected VolumenPresupuestos(int clientes, int pedidos, Presupuesto presupuesto) {
+		this.generador = new GeneradorDatos(SEMILLA, clientes, pedidos);
+		this.presupuesto = presupuesto;
+	}
+
+	@BeforeAll
+	void cargarDatos() {
+		long inicio = System.nanoTime();
+		generador.cargar(jdbcTemplate);
+		log.info("{} clientes y {} pedidos cargados en {} ms", generador.clientes(), generador.pedidos(),
+				(System.nanoTime() - inicio) / 1_000_000);
+	}
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void primeraPaginaDePedidos() throws Exception {
+		medir("pedidos.primeraPagina", presupuesto.paginaMs(), 1, () -> pedidoService.readAll(50, null));
+	}
+
+	@Test
+	void paginaProfundaDePedidos() throws Exception {
+		String cursor = CursorUtils.encode((long) generador.pedidos() * 9 / 10);
+		medir("pedidos.paginaProfunda", presupuesto.paginaMs(), 1, () -> pedidoService.readAll(50, cursor));
+	}
+
+	@Test
+	void pedidoPorId() throws Exception {
+		long id = generador.pedidos() / 2;
+		medir("pedidos.id", presupuesto.paginaMs(), 1, () -> pedidoService.readById(id));
+	}
+
+	@Test
+	void paginaDeFechaCaliente() throws Exception {
+		medir("pedidos.fechaCaliente", presupuesto.paginaMs(), 1, () -> pedidoService.readByFechaCreacion(
+				GeneradorDatos.FECHAS_CALIENTES.get(0), GeneradorDatos.FECHAS_CALIENTES.get(0), 50, null));
+	}
+
+	@Test
+	void primeraPaginaDeClientes() throws Exception {
+		medir("clientes.primeraPagina", presupuesto.paginaMs(), 1, () -> clienteService.readAll(50, null));
+	}
+
+	@Test
+	void pedidosDelClientePesadoPorId() throws Exception {
+		PedidoResponse response = (PedidoResponse) medir("pedidos.clientePesado", presupuesto.clientePesadoMs(), 1,
+				() -> pedidoService.readByIdCliente(1L));
+
+		assertThat(response.getPedidos()).hasSizeGreaterThan(generador.pedidos() / generador.clientes());
+	}
+
+	@Test
+	void pedidosDelClientePesadoPorEmail() throws Exception {
+		medir("pedidos.emailClientePesado", presupuesto.clientePesadoMs(), 1,
+				() -> pedidoService.readByemailCliente(GeneradorDatos.email(1L)));
+	}
+
+	@Test
+	void resumenDeUnMes() throws Exception {
+		medir("pedidos.resumenMes", presupuesto.resumenMs(), 1, () -> pedidoService
+				.resumen(GeneradorDatos.FECHA_INICIAL, GeneradorDatos.FECHA_INICIAL.plusDays(29), false));
+	}
+
+	/**
+	 * Ejecuta la consulta, verifica la mediana de latencia y el numero de sentencias por llamada y
+	 * devuelve el resultado de la ultima ejecucion.
+	 */
+	private Object medir(String nombre, long presupuestoMs, int sentencias, Consulta consulta) throws Exception {
+		for (int i = 0; i < CALENTAMIENTO; i++) {
+			consulta.ejecutar();
+		}
+		statistics.clear();
+		long[] duraciones = new long[REPETICIONES];
+		Object resultado = null;
+		for (int i = 0; i < REPETICIONES; i++) {
+			long inicio = System.nanoTime();
+			resultado = consulta.ejecutar();
+			duraciones[i] = System.nanoTime() - inicio;
+		}
+		Arrays.sort(duraciones);
+		double medianaMs = duraciones[REPETICIONES / 2] / 1_000_000.0;
+		long sentenciasEjecutadas = statistics.getPrepareStatementCount();
+		log.info("{} con {} pedidos: mediana {} ms (presupuesto {} ms), {} sentencias en {} llamadas", nombre,
+				generador.pedidos(), String.format("%.2f", medianaMs), presupuestoMs, sentenciasEjecutadas,
+				REPETICIONES);
+
+		assertThat(sentenciasEjecutadas).as("sentencias SQL de %s", nombre)
+				.isLessThanOrEqualTo((long) sentencias * REPETICIONES);
+		assertThat(medianaMs).as("mediana de %s en ms", nombre).isLessThanOrEqualTo(presupuestoMs);
+		return resultado;
+	}
+
+}
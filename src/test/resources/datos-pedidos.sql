@@ -0,0 +1,15 @@
+insert into cliente (id, nombre, apellido_paterno, apellido_materno, email, direccion_envio, fecha_creacion, fecha_modificacion, is_active) values
+ (1, 'Ana', 'Lopez', 'Ruiz', 'ana@correo.com', 'Calle 1', DATE '2024-10-01', DATE '2024-10-01', true),
+ (2, 'Luis', 'Perez', null, 'luis@correo.com', 'Calle 2', DATE '2024-10-01', DATE '2024-10-01', true),
+ (3, 'Eva', 'Diaz', 'Gil', 'eva@correo.com', 'Calle 3', DATE '2024-10-01', DATE '2024-10-01', true),
+ (4, 'Raul', 'Sanz', null, 'raul@correo.com', 'Calle 4', DATE '2024-10-01', DATE '2024-10-01', false);
+
+insert into pedido (id, codigo_producto, email_cliente, id_cliente, cantidad, precio, fecha_creacion, fecha_modificacion, is_active) values
+ (1, 100, 'ana@correo.com', 1, 2, 10.5, DATE '2024-10-02', DATE '2024-10-02', true),
+ (2, 101, 'ana@correo.com', 1, 1, 20.0, DATE '2024-10-02', DATE '2024-10-02', true),
+ (3, 100, 'luis@correo.com', 2, 3, 10.5, DATE '2024-10-02', DATE '2024-10-02', true),
+ (4, 102, 'eva@correo.com', 3, 1, 99.9, DATE '2024-10-03', DATE '2024-10-03', true),
+ (5, 102, 'eva@correo.com', 3, 5, 99.9, DATE '2024-10-03', DATE '2024-10-03', false),
+ (6, 103, 'raul@correo.com', 4, 1, 5.0, DATE '2024-10-02', DATE '2024-10-02', true);
+
+update id_generador set siguiente_id = 1001 where entidad = 'pedido';
@@ -0,0 +1,3 @@
+delete from registro_emails;
+delete from pedido;
+delete from cliente;